@@ -0,0 +1,110 @@
+package br.com.ebrother.jeeframework.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.ebrother.jeeframework.benchmark.support.BenchmarkDTO;
+import br.com.ebrother.jeeframework.benchmark.support.BenchmarkEntity;
+import br.com.ebrother.jeeframework.benchmark.support.GeneratedBenchmarkConverter;
+import br.com.ebrother.jeeframework.benchmark.support.ManualConverter;
+import br.com.ebrother.jeeframework.benchmark.support.ReflectiveConverter;
+
+/**
+ * Benchmark de {@link br.com.ebrother.jeeframework.converter.AbstractConverter#convertToDTOList(List)} com o converter escrito à mão, o
+ * gerado em bytecode, o baseado em reflexão e a conversão paralela, para listas de tamanhos diferentes.
+ *
+ * @author Rafael Braga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConverterBenchmark {
+
+    /** Tamanho da lista convertida. */
+    @Param({ "10", "1000", "100000" })
+    private int tamanho;
+
+    /** As entidades convertidas. */
+    private List<BenchmarkEntity> entidades;
+
+    /** Converter escrito à mão. */
+    private final ManualConverter manual = new ManualConverter();
+
+    /** Converter escrito à mão, em modo paralelo. */
+    private final ManualConverter paralelo = new ManualConverter();
+
+    /** Converter gerado em bytecode. */
+    private final GeneratedBenchmarkConverter gerado = new GeneratedBenchmarkConverter();
+
+    /** Converter baseado em reflexão. */
+    private final ReflectiveConverter reflexao = new ReflectiveConverter();
+
+    /**
+     * Cria as entidades.
+     */
+    @Setup
+    public void iniciar() {
+        this.entidades = new ArrayList<>(this.tamanho);
+        for (int i = 0; i < this.tamanho; i++) {
+            final BenchmarkEntity entidade = new BenchmarkEntity();
+            entidade.setId((long) i);
+            entidade.setNome("Registro " + i);
+            entidade.setGrupo(i % 100);
+            entidade.setValor(BigDecimal.valueOf(i, 2));
+            this.entidades.add(entidade);
+        }
+        this.paralelo.setLimiteParalelo(1);
+    }
+
+    /**
+     * Conversão escrita à mão.
+     *
+     * @return os DTOs.
+     */
+    @Benchmark
+    public List<BenchmarkDTO> manual() {
+        return this.manual.convertToDTOList(this.entidades);
+    }
+
+    /**
+     * Conversão escrita à mão, em paralelo.
+     *
+     * @return os DTOs.
+     */
+    @Benchmark
+    public List<BenchmarkDTO> paralelo() {
+        return this.paralelo.convertToDTOList(this.entidades);
+    }
+
+    /**
+     * Conversão gerada em bytecode.
+     *
+     * @return os DTOs.
+     */
+    @Benchmark
+    public List<BenchmarkDTO> gerado() {
+        return this.gerado.convertToDTOList(this.entidades);
+    }
+
+    /**
+     * Conversão por reflexão.
+     *
+     * @return os DTOs.
+     */
+    @Benchmark
+    public List<BenchmarkDTO> reflexao() {
+        return this.reflexao.convertToDTOList(this.entidades);
+    }
+
+}
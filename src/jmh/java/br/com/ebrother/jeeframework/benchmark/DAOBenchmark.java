@@ -0,0 +1,116 @@
+package br.com.ebrother.jeeframework.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.ebrother.jeeframework.benchmark.support.BenchmarkConfiguration;
+import br.com.ebrother.jeeframework.benchmark.support.BenchmarkDAO;
+import br.com.ebrother.jeeframework.benchmark.support.BenchmarkEntity;
+
+/**
+ * Benchmark das consultas de {@link br.com.ebrother.jeeframework.dao.AbstractDAO} em um banco H2 em memória. Cada operação executa em uma
+ * transação somente-leitura própria, como em uma requisição.
+ *
+ * @author Rafael Braga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DAOBenchmark {
+
+    /** Número de registros inseridos. */
+    private static final int REGISTROS = 10000;
+
+    /** Número de grupos; cada grupo tem {@value #REGISTROS} / {@value #GRUPOS} registros. */
+    private static final int GRUPOS = 100;
+
+    /** O contexto Spring. */
+    private AnnotationConfigApplicationContext contexto;
+
+    /** O DAO. */
+    private BenchmarkDAO dao;
+
+    /** Transação somente-leitura. */
+    private TransactionTemplate leitura;
+
+    /**
+     * Cria o contexto e insere os registros.
+     */
+    @Setup(Level.Trial)
+    public void iniciar() {
+        this.contexto = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+        this.dao = this.contexto.getBean(BenchmarkDAO.class);
+        final PlatformTransactionManager transactionManager = this.contexto.getBean(PlatformTransactionManager.class);
+        new TransactionTemplate(transactionManager).execute(status -> {
+            final List<BenchmarkEntity> registros = new ArrayList<>(REGISTROS);
+            for (int i = 0; i < REGISTROS; i++) {
+                final BenchmarkEntity registro = new BenchmarkEntity();
+                registro.setNome("Registro " + i);
+                registro.setGrupo(i % GRUPOS);
+                registro.setValor(BigDecimal.valueOf(i, 2));
+                registros.add(registro);
+            }
+            return this.dao.saveAll(registros);
+        });
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    /**
+     * Fecha o contexto.
+     */
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        this.contexto.close();
+    }
+
+    /**
+     * Busca por identificador.
+     *
+     * @return a entidade.
+     */
+    @Benchmark
+    public BenchmarkEntity findOne() {
+        final long id = ThreadLocalRandom.current().nextInt(REGISTROS) + 1L;
+        return this.leitura.execute(status -> this.dao.findOne(id));
+    }
+
+    /**
+     * Listagem filtrada com {@link org.hibernate.Criteria}.
+     *
+     * @return os registros.
+     */
+    @Benchmark
+    public List<BenchmarkEntity> executeCriteria() {
+        final int grupo = ThreadLocalRandom.current().nextInt(GRUPOS);
+        return this.leitura.execute(status -> this.dao.listarPorGrupo(grupo));
+    }
+
+    /**
+     * Contagem filtrada com {@link org.hibernate.Criteria}.
+     *
+     * @return o número de registros.
+     */
+    @Benchmark
+    public Long executeCriteriaCount() {
+        final int grupo = ThreadLocalRandom.current().nextInt(GRUPOS);
+        return this.leitura.execute(status -> this.dao.contarPorGrupo(grupo));
+    }
+
+}
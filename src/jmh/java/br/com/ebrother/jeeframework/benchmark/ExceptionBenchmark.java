@@ -0,0 +1,122 @@
+package br.com.ebrother.jeeframework.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+import br.com.ebrother.jeeframework.controller.advice.AbstractExceptionControllerAdvice;
+import br.com.ebrother.jeeframework.exception.GenericException;
+import br.com.ebrother.jeeframework.exception.NenhumRegistroEncontradoException;
+import br.com.ebrother.jeeframework.exception.util.IndicadorTipoException;
+import br.com.ebrother.jeeframework.exception.util.ResponseExceptionDTO;
+
+/**
+ * Benchmark do caminho de exceção: lançamento da exceção de negócio e montagem da resposta pelo
+ * {@link AbstractExceptionControllerAdvice}, com e sem captura da pilha de execução.
+ *
+ * @author Rafael Braga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionBenchmark {
+
+    /** O controller advice. */
+    private final AbstractExceptionControllerAdvice advice = new AbstractExceptionControllerAdvice() {
+        // SEM TRATAMENTOS ADICIONAIS
+    };
+
+    /**
+     * Exceção sem mensagem variável e resposta pré-construída.
+     *
+     * @return a resposta.
+     */
+    @Benchmark
+    public ResponseEntity<ResponseExceptionDTO> nenhumRegistroEncontrado() {
+        try {
+            lancarNenhumRegistroEncontrado();
+            return null;
+        } catch (final NenhumRegistroEncontradoException e) {
+            return this.advice.lancarExcecaoNenhumRegistroEncontrado(null, e);
+        }
+    }
+
+    /**
+     * Exceção com mensagem e resposta construída por requisição.
+     *
+     * @return a resposta.
+     */
+    @Benchmark
+    public ResponseEntity<ResponseExceptionDTO> genericException() {
+        try {
+            lancarGenericException();
+            return null;
+        } catch (final GenericException e) {
+            return this.advice.lancarExcecaoNegocio(null, e);
+        }
+    }
+
+    /**
+     * Exceção com captura da pilha de execução, referência para o custo evitado.
+     *
+     * @return a resposta.
+     */
+    @Benchmark
+    public ResponseEntity<ResponseExceptionDTO> genericExceptionComPilha() {
+        try {
+            lancarComPilha();
+            return null;
+        } catch (final GenericException e) {
+            return this.advice.lancarExcecaoNegocio(null, e);
+        }
+    }
+
+    /**
+     * Lança {@link NenhumRegistroEncontradoException}.
+     */
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void lancarNenhumRegistroEncontrado() {
+        throw new NenhumRegistroEncontradoException();
+    }
+
+    /**
+     * Lança {@link GenericException}.
+     */
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void lancarGenericException() {
+        throw new GenericException("Registro inválido.", IndicadorTipoException.ERRO);
+    }
+
+    /**
+     * Lança {@link GenericException} com a pilha de execução.
+     */
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void lancarComPilha() {
+        throw new ComPilhaException();
+    }
+
+    /**
+     * {@link GenericException} que captura a pilha de execução.
+     */
+    private static final class ComPilhaException extends GenericException {
+
+        /** Constante de serialização. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Construtor da classe.
+         */
+        ComPilhaException() {
+            super("Registro inválido.", IndicadorTipoException.ERRO, true);
+        }
+
+    }
+
+}
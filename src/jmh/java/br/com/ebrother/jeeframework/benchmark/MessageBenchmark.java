@@ -0,0 +1,101 @@
+package br.com.ebrother.jeeframework.benchmark;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.ebrother.jeeframework.benchmark.support.BenchmarkConfiguration;
+import br.com.ebrother.jeeframework.messages.impl.MessageByLocaleServiceImpl;
+
+/**
+ * Benchmark de {@link MessageByLocaleServiceImpl}, comparado à busca direta no {@link MessageSource}.
+ *
+ * @author Rafael Braga
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageBenchmark {
+
+    /** Mensagem sem parâmetros. */
+    private static final String MENSAGEM = "msg.erro.cursor.invalido";
+
+    /** Mensagem com parâmetros. */
+    private static final String MENSAGEM_PARAMETROS = "msg.benchmark.parametros";
+
+    /** Linguagem usada. */
+    private static final Locale LOCALE_PT_BR = new Locale("pt", "BR");
+
+    /** A fonte de mensagens. */
+    private MessageSource messageSource;
+
+    /** O serviço de mensagens. */
+    private MessageByLocaleServiceImpl servico;
+
+    /** Parâmetros da mensagem. */
+    private Object[] parametros;
+
+    /**
+     * Cria o serviço e define a linguagem da thread do benchmark.
+     */
+    @Setup
+    public void iniciar() {
+        this.messageSource = BenchmarkConfiguration.criarMessageSource();
+        this.servico = new MessageByLocaleServiceImpl();
+        ReflectionTestUtils.setField(this.servico, "messageSource", this.messageSource);
+        this.parametros = new Object[] { 42L, "admin", new Date(0) };
+        LocaleContextHolder.setLocale(LOCALE_PT_BR);
+    }
+
+    /**
+     * Busca direta no {@link MessageSource}, sem cache.
+     *
+     * @return a mensagem.
+     */
+    @Benchmark
+    public String messageSource() {
+        return this.messageSource.getMessage(MENSAGEM, null, LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * Busca de mensagem sem parâmetros no serviço.
+     *
+     * @return a mensagem.
+     */
+    @Benchmark
+    public String getMessage() {
+        return this.servico.getMessage(MENSAGEM);
+    }
+
+    /**
+     * Busca direta de mensagem com parâmetros no {@link MessageSource}, sem cache.
+     *
+     * @return a mensagem.
+     */
+    @Benchmark
+    public String messageSourceComParametros() {
+        return this.messageSource.getMessage(MENSAGEM_PARAMETROS, this.parametros, LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * Busca de mensagem com parâmetros no serviço.
+     *
+     * @return a mensagem.
+     */
+    @Benchmark
+    public String getMessageComParametros() {
+        return this.servico.getMessage(MENSAGEM_PARAMETROS, this.parametros);
+    }
+
+}
@@ -0,0 +1,118 @@
+package br.com.ebrother.jeeframework.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.ebrother.jeeframework.benchmark.support.BenchmarkDTO;
+import br.com.ebrother.jeeframework.controller.binary.BinaryFormat;
+
+/**
+ * Benchmark da vazão de codificação e decodificação de listas de DTOs em JSON e nos formatos binários de {@link BinaryFormat}. O tamanho
+ * da carga é impresso na preparação de cada combinação de parâmetros, e o contador auxiliar <code>bytes</code> dos benchmarks de
+ * codificação informa os bytes produzidos por milissegundo.
+ *
+ * @author Rafael Braga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WireFormatBenchmark {
+
+    /** Formato da carga: JSON ou o nome de um {@link BinaryFormat}. */
+    @Param({ "JSON", "CBOR", "SMILE" })
+    private String formato;
+
+    /** Número de DTOs da carga. */
+    @Param({ "1", "100" })
+    private int tamanho;
+
+    /** O {@link ObjectMapper} do formato. */
+    private ObjectMapper objectMapper;
+
+    /** O tipo da lista de DTOs. */
+    private JavaType tipoLista;
+
+    /** Os DTOs codificados. */
+    private List<BenchmarkDTO> dtos;
+
+    /** A carga decodificada. */
+    private byte[] carga;
+
+    /**
+     * Cria os DTOs e a carga no formato.
+     *
+     * @throws IOException em caso de erro de codificação.
+     */
+    @Setup
+    public void iniciar() throws IOException {
+        this.objectMapper = "JSON".equals(this.formato) ? Jackson2ObjectMapperBuilder.json().build()
+                : BinaryFormat.valueOf(this.formato).criarObjectMapper();
+        this.tipoLista = this.objectMapper.getTypeFactory().constructCollectionType(List.class, BenchmarkDTO.class);
+        this.dtos = new ArrayList<>(this.tamanho);
+        for (int i = 0; i < this.tamanho; i++) {
+            final BenchmarkDTO dto = new BenchmarkDTO();
+            dto.setId((long) i);
+            dto.setNome("Registro " + i);
+            dto.setGrupo(i % 100);
+            dto.setValor(BigDecimal.valueOf(i, 2));
+            this.dtos.add(dto);
+        }
+        this.carga = this.objectMapper.writeValueAsBytes(this.dtos);
+        System.out.println("Tamanho da carga " + this.formato + " com " + this.tamanho + " DTOs: " + this.carga.length + " bytes");
+    }
+
+    /**
+     * Codificação da lista de DTOs.
+     *
+     * @param bytesCodificados o contador de bytes produzidos.
+     * @return a carga.
+     * @throws IOException em caso de erro de codificação.
+     */
+    @Benchmark
+    public byte[] codificar(final BytesCodificados bytesCodificados) throws IOException {
+        final byte[] bytes = this.objectMapper.writeValueAsBytes(this.dtos);
+        bytesCodificados.bytes += bytes.length;
+        return bytes;
+    }
+
+    /**
+     * Decodificação da lista de DTOs.
+     *
+     * @return os DTOs.
+     * @throws IOException em caso de erro de decodificação.
+     */
+    @Benchmark
+    public List<BenchmarkDTO> decodificar() throws IOException {
+        return this.objectMapper.readValue(this.carga, this.tipoLista);
+    }
+
+    /**
+     * Contador auxiliar dos bytes produzidos pela codificação, reportado por unidade de tempo.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class BytesCodificados {
+
+        /** Bytes produzidos. */
+        public long bytes;
+
+    }
+
+}
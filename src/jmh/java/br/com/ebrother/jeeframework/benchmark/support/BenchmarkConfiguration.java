@@ -0,0 +1,57 @@
+package br.com.ebrother.jeeframework.benchmark.support;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import br.com.ebrother.jeeframework.config.JPAConfiguration;
+import br.com.ebrother.jeeframework.messages.impl.MessageByLocaleServiceImpl;
+
+/**
+ * Configuração JPA dos benchmarks, sobre um banco H2 em memória.
+ *
+ * @author Rafael Braga
+ */
+@Configuration
+@ComponentScan(basePackageClasses = { BenchmarkDAO.class, MessageByLocaleServiceImpl.class })
+public class BenchmarkConfiguration extends JPAConfiguration {
+
+    /**
+     * Construtor da classe.
+     */
+    public BenchmarkConfiguration() {
+        this.setPackagesToScan(new String[] { BenchmarkEntity.class.getPackage().getName() });
+        this.setDriverClassName("org.h2.Driver");
+        this.setUrl("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        this.setUsername("sa");
+        this.setPassword("");
+        this.setHibernateHbm2ddlAuto("create-drop");
+        this.setHibernateDialect("org.hibernate.dialect.H2Dialect");
+        this.setHibernateShowSql("false");
+        this.setHibernateFormatSql("false");
+    }
+
+    /**
+     * Configura os arquivos de mensagem.
+     *
+     * @return o {@link MessageSource}.
+     */
+    @Bean
+    public MessageSource messageSource() {
+        return criarMessageSource();
+    }
+
+    /**
+     * Cria a fonte de mensagens com os arquivos da aplicação e os dos benchmarks.
+     *
+     * @return o {@link ReloadableResourceBundleMessageSource}.
+     */
+    public static ReloadableResourceBundleMessageSource criarMessageSource() {
+        final ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+        messageSource.setBasenames("classpath:i18n/messages", "classpath:benchmark/messages");
+        return messageSource;
+    }
+
+}
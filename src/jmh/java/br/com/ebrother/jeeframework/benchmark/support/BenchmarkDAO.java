@@ -0,0 +1,38 @@
+package br.com.ebrother.jeeframework.benchmark.support;
+
+import java.util.List;
+
+import org.hibernate.criterion.Restrictions;
+import org.springframework.stereotype.Repository;
+
+import br.com.ebrother.jeeframework.dao.AbstractDAO;
+
+/**
+ * DAO usado nos benchmarks, que expõe as consultas protegidas de {@link AbstractDAO}.
+ *
+ * @author Rafael Braga
+ */
+@Repository
+public class BenchmarkDAO extends AbstractDAO<BenchmarkEntity, Long> {
+
+    /**
+     * Lista os registros do grupo.
+     *
+     * @param grupo o grupo.
+     * @return os registros.
+     */
+    public List<BenchmarkEntity> listarPorGrupo(final int grupo) {
+        return this.executeCriteria(this.createCriteria().add(Restrictions.eq("grupo", grupo)));
+    }
+
+    /**
+     * Conta os registros do grupo.
+     *
+     * @param grupo o grupo.
+     * @return o número de registros.
+     */
+    public Long contarPorGrupo(final int grupo) {
+        return this.executeCriteriaCount(this.createCriteria().add(Restrictions.eq("grupo", grupo)));
+    }
+
+}
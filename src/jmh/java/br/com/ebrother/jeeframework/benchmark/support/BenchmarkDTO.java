@@ -0,0 +1,85 @@
+package br.com.ebrother.jeeframework.benchmark.support;
+
+import java.math.BigDecimal;
+
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+
+/**
+ * DTO usado nos benchmarks.
+ *
+ * @author Rafael Braga
+ */
+public class BenchmarkDTO extends AbstractDTO {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = -2693720174405118467L;
+
+    /** Identificador. */
+    private Long id;
+
+    /** Nome. */
+    private String nome;
+
+    /** Grupo. */
+    private int grupo;
+
+    /** Valor. */
+    private BigDecimal valor;
+
+    /**
+     * @return the id
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * @param id the id to set
+     */
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the nome
+     */
+    public String getNome() {
+        return this.nome;
+    }
+
+    /**
+     * @param nome the nome to set
+     */
+    public void setNome(final String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * @return the grupo
+     */
+    public int getGrupo() {
+        return this.grupo;
+    }
+
+    /**
+     * @param grupo the grupo to set
+     */
+    public void setGrupo(final int grupo) {
+        this.grupo = grupo;
+    }
+
+    /**
+     * @return the valor
+     */
+    public BigDecimal getValor() {
+        return this.valor;
+    }
+
+    /**
+     * @param valor the valor to set
+     */
+    public void setValor(final BigDecimal valor) {
+        this.valor = valor;
+    }
+
+}
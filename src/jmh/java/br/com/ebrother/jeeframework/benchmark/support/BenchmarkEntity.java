@@ -0,0 +1,96 @@
+package br.com.ebrother.jeeframework.benchmark.support;
+
+import java.math.BigDecimal;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import br.com.ebrother.jeeframework.model.AbstractEntity;
+
+/**
+ * Entidade usada nos benchmarks.
+ *
+ * @author Rafael Braga
+ */
+@Entity
+@Table(name = "benchmark_entity")
+public class BenchmarkEntity extends AbstractEntity<Long> {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 6145523082186457213L;
+
+    /** Identificador. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    /** Nome. */
+    private String nome;
+
+    /** Grupo, usado nos filtros. */
+    private int grupo;
+
+    /** Valor. */
+    private BigDecimal valor;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * @param id the id to set
+     */
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the nome
+     */
+    public String getNome() {
+        return this.nome;
+    }
+
+    /**
+     * @param nome the nome to set
+     */
+    public void setNome(final String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * @return the grupo
+     */
+    public int getGrupo() {
+        return this.grupo;
+    }
+
+    /**
+     * @param grupo the grupo to set
+     */
+    public void setGrupo(final int grupo) {
+        this.grupo = grupo;
+    }
+
+    /**
+     * @return the valor
+     */
+    public BigDecimal getValor() {
+        return this.valor;
+    }
+
+    /**
+     * @param valor the valor to set
+     */
+    public void setValor(final BigDecimal valor) {
+        this.valor = valor;
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.com.ebrother.jeeframework.benchmark.support;
+
+import br.com.ebrother.jeeframework.converter.GeneratedConverter;
+
+/**
+ * Converter com mapeamento gerado em bytecode.
+ *
+ * @author Rafael Braga
+ */
+public class GeneratedBenchmarkConverter extends GeneratedConverter<BenchmarkEntity, BenchmarkDTO> {
+    // MAPEAMENTO GERADO
+}
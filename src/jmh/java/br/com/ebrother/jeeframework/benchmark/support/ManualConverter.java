@@ -0,0 +1,38 @@
+package br.com.ebrother.jeeframework.benchmark.support;
+
+import br.com.ebrother.jeeframework.converter.AbstractConverter;
+
+/**
+ * Converter escrito à mão, referência para o {@link GeneratedBenchmarkConverter}.
+ *
+ * @author Rafael Braga
+ */
+public class ManualConverter extends AbstractConverter<BenchmarkEntity, BenchmarkDTO> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BenchmarkEntity convertToEntity(final BenchmarkDTO dto) {
+        final BenchmarkEntity entity = new BenchmarkEntity();
+        entity.setId(dto.getId());
+        entity.setNome(dto.getNome());
+        entity.setGrupo(dto.getGrupo());
+        entity.setValor(dto.getValor());
+        return entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BenchmarkDTO convertToDTO(final BenchmarkEntity entity) {
+        final BenchmarkDTO dto = new BenchmarkDTO();
+        dto.setId(entity.getId());
+        dto.setNome(entity.getNome());
+        dto.setGrupo(entity.getGrupo());
+        dto.setValor(entity.getValor());
+        return dto;
+    }
+
+}
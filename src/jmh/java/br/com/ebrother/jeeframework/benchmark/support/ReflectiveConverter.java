@@ -0,0 +1,34 @@
+package br.com.ebrother.jeeframework.benchmark.support;
+
+import org.springframework.beans.BeanUtils;
+
+import br.com.ebrother.jeeframework.converter.AbstractConverter;
+
+/**
+ * Converter baseado em reflexão com {@link BeanUtils#copyProperties(Object, Object)}, referência para o {@link GeneratedBenchmarkConverter}.
+ *
+ * @author Rafael Braga
+ */
+public class ReflectiveConverter extends AbstractConverter<BenchmarkEntity, BenchmarkDTO> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BenchmarkEntity convertToEntity(final BenchmarkDTO dto) {
+        final BenchmarkEntity entity = new BenchmarkEntity();
+        BeanUtils.copyProperties(dto, entity);
+        return entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BenchmarkDTO convertToDTO(final BenchmarkEntity entity) {
+        final BenchmarkDTO dto = new BenchmarkDTO();
+        BeanUtils.copyProperties(entity, dto);
+        return dto;
+    }
+
+}
@@ -0,0 +1,61 @@
+package br.com.ebrother.jeeframework.cache;
+
+/**
+ * Limites de tamanho e de tempo de vida de uma região do cache de segundo nível.
+ *
+ * @author Rafael Braga
+ */
+public class CacheRegionProperties {
+
+    /** Número máximo de elementos mantidos em memória. */
+    private int maxEntries = 10000;
+
+    /** Tempo de vida de cada elemento, em segundos. Zero mantém o elemento até ser despejado por tamanho. */
+    private long timeToLiveSeconds = 3600L;
+
+    /** Tempo que um elemento pode ficar sem ser acessado, em segundos. Zero desabilita. */
+    private long timeToIdleSeconds;
+
+    /**
+     * @return the maxEntries
+     */
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    /**
+     * @param maxEntries the maxEntries to set
+     */
+    public void setMaxEntries(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the timeToLiveSeconds
+     */
+    public long getTimeToLiveSeconds() {
+        return this.timeToLiveSeconds;
+    }
+
+    /**
+     * @param timeToLiveSeconds the timeToLiveSeconds to set
+     */
+    public void setTimeToLiveSeconds(final long timeToLiveSeconds) {
+        this.timeToLiveSeconds = timeToLiveSeconds;
+    }
+
+    /**
+     * @return the timeToIdleSeconds
+     */
+    public long getTimeToIdleSeconds() {
+        return this.timeToIdleSeconds;
+    }
+
+    /**
+     * @param timeToIdleSeconds the timeToIdleSeconds to set
+     */
+    public void setTimeToIdleSeconds(final long timeToIdleSeconds) {
+        this.timeToIdleSeconds = timeToIdleSeconds;
+    }
+
+}
@@ -0,0 +1,92 @@
+package br.com.ebrother.jeeframework.cache;
+
+import java.io.Serializable;
+
+/**
+ * Fotografia das estatísticas de uma região do cache de segundo nível.
+ *
+ * @author Rafael Braga
+ */
+public class CacheRegionStatistics implements Serializable {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = -1726104417765226913L;
+
+    /** Nome da região. */
+    private final String regiao;
+
+    /** Número de acertos. */
+    private final long acertos;
+
+    /** Número de falhas. */
+    private final long falhas;
+
+    /** Número de elementos despejados por tamanho ou expiração. */
+    private final long despejos;
+
+    /** Número de elementos atualmente na região. */
+    private final long elementos;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param regiao nome da região.
+     * @param acertos número de acertos.
+     * @param falhas número de falhas.
+     * @param despejos número de elementos despejados.
+     * @param elementos número de elementos na região.
+     */
+    public CacheRegionStatistics(final String regiao, final long acertos, final long falhas, final long despejos, final long elementos) {
+        this.regiao = regiao;
+        this.acertos = acertos;
+        this.falhas = falhas;
+        this.despejos = despejos;
+        this.elementos = elementos;
+    }
+
+    /**
+     * Retorna a proporção de acertos sobre o total de acessos.
+     *
+     * @return a taxa de acertos, entre 0 e 1.
+     */
+    public double getTaxaAcerto() {
+        final long acessos = this.acertos + this.falhas;
+        return acessos == 0 ? 0D : (double) this.acertos / acessos;
+    }
+
+    /**
+     * @return the regiao
+     */
+    public String getRegiao() {
+        return this.regiao;
+    }
+
+    /**
+     * @return the acertos
+     */
+    public long getAcertos() {
+        return this.acertos;
+    }
+
+    /**
+     * @return the falhas
+     */
+    public long getFalhas() {
+        return this.falhas;
+    }
+
+    /**
+     * @return the despejos
+     */
+    public long getDespejos() {
+        return this.despejos;
+    }
+
+    /**
+     * @return the elementos
+     */
+    public long getElementos() {
+        return this.elementos;
+    }
+
+}
@@ -0,0 +1,89 @@
+package br.com.ebrother.jeeframework.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Statistics;
+
+/**
+ * Serviço de consulta das estatísticas do cache de segundo nível, por região.
+ *
+ * @author Rafael Braga
+ */
+public class CacheStatisticsService {
+
+    /** A fábrica de {@link javax.persistence.EntityManager}. */
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param entityManagerFactory a fábrica de {@link javax.persistence.EntityManager}.
+     */
+    public CacheStatisticsService(final EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Retorna as estatísticas de todas as regiões do cache. Retorna uma lista vazia se o cache não estiver habilitado.
+     *
+     * @return as estatísticas de cada região.
+     */
+    public List<CacheRegionStatistics> getEstatisticas() {
+        final CacheManager manager = this.getCacheManager();
+        if (manager == null) {
+            return Collections.emptyList();
+        }
+        final String[] nomes = manager.getCacheNames();
+        Arrays.sort(nomes);
+        final List<CacheRegionStatistics> estatisticas = new ArrayList<>(nomes.length);
+        for (final String nome : nomes) {
+            final Ehcache cache = manager.getEhcache(nome);
+            if (cache != null) {
+                final Statistics statistics = cache.getStatistics();
+                estatisticas.add(new CacheRegionStatistics(nome, statistics.getCacheHits(), statistics.getCacheMisses(), statistics.getEvictionCount(),
+                        statistics.getObjectCount()));
+            }
+        }
+        return estatisticas;
+    }
+
+    /**
+     * Zera as estatísticas de todas as regiões.
+     */
+    public void limparEstatisticas() {
+        final CacheManager manager = this.getCacheManager();
+        if (manager != null) {
+            for (final String nome : manager.getCacheNames()) {
+                final Ehcache cache = manager.getEhcache(nome);
+                if (cache != null) {
+                    cache.clearStatistics();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna o {@link CacheManager} usado pelo Hibernate.
+     *
+     * @return o {@link CacheManager}, ou <code>null</code> se o cache não estiver habilitado.
+     */
+    private CacheManager getCacheManager() {
+        final SessionFactoryImplementor sessionFactory = this.entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        final RegionFactory regionFactory = sessionFactory.getServiceRegistry().getService(RegionFactory.class);
+        if (regionFactory instanceof ConfigurableEhCacheRegionFactory) {
+            return ((ConfigurableEhCacheRegionFactory) regionFactory).getCacheManager();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,134 @@
+package br.com.ebrother.jeeframework.cache;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.ehcache.EhCacheRegionFactory;
+import org.hibernate.cache.internal.StandardQueryCache;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
+
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+
+/**
+ * Fábrica de regiões do cache de segundo nível em memória local, configurada pelas propriedades do Hibernate em vez de um ehcache.xml.
+ * <p>
+ * Cada região pode ter seu próprio tamanho e tempo de vida através das propriedades
+ * <code>jeeframework.cache.region.&lt;regiao&gt;.max_entries</code>, <code>.ttl_seconds</code> e <code>.tti_seconds</code>. Regiões sem
+ * configuração usam os valores de <code>jeeframework.cache.default.*</code>.
+ *
+ * @author Rafael Braga
+ */
+public class ConfigurableEhCacheRegionFactory extends EhCacheRegionFactory {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = -6418290753614028816L;
+
+    /** Prefixo das propriedades de configuração das regiões. */
+    public static final String PREFIXO_REGIAO = "jeeframework.cache.region.";
+
+    /** Prefixo das propriedades padrão das regiões. */
+    public static final String PREFIXO_PADRAO = "jeeframework.cache.default.";
+
+    /** Sufixo da propriedade de número máximo de elementos. */
+    public static final String MAX_ENTRIES = "max_entries";
+
+    /** Sufixo da propriedade de tempo de vida. */
+    public static final String TTL_SECONDS = "ttl_seconds";
+
+    /** Sufixo da propriedade de tempo ocioso. */
+    public static final String TTI_SECONDS = "tti_seconds";
+
+    /**
+     * Construtor padrão, usado pelo Hibernate.
+     */
+    public ConfigurableEhCacheRegionFactory() {
+        super();
+    }
+
+    /**
+     * Construtor usado pelo Hibernate.
+     *
+     * @param prop as propriedades do Hibernate.
+     */
+    public ConfigurableEhCacheRegionFactory(final Properties prop) {
+        super(prop);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start(final SessionFactoryOptions settings, final Properties properties) throws CacheException {
+        this.settings = settings;
+        if (this.manager != null) {
+            return;
+        }
+        final Configuration configuration = new Configuration();
+        configuration.setName("jeeframework-" + System.identityHashCode(this));
+        configuration.updateCheck(false);
+        configuration.setDefaultCacheConfiguration(this.createCacheConfiguration("default", properties, PREFIXO_PADRAO));
+
+        final Map<String, String> regioes = new TreeMap<>();
+        for (final String propriedade : properties.stringPropertyNames()) {
+            final int fimRegiao = propriedade.lastIndexOf('.');
+            if (propriedade.startsWith(PREFIXO_REGIAO) && fimRegiao > PREFIXO_REGIAO.length()) {
+                final String regiao = propriedade.substring(PREFIXO_REGIAO.length(), fimRegiao);
+                regioes.put(regiao, PREFIXO_REGIAO + regiao + ".");
+            }
+        }
+        for (final Map.Entry<String, String> regiao : regioes.entrySet()) {
+            configuration.addCache(this.createCacheConfiguration(regiao.getKey(), properties, regiao.getValue()));
+        }
+        if (!regioes.containsKey(UpdateTimestampsCache.REGION_NAME)) {
+            // OS TIMESTAMPS NÃO PODEM EXPIRAR ANTES DAS CONSULTAS QUE DEPENDEM DELES
+            configuration.addCache(new CacheConfiguration(UpdateTimestampsCache.REGION_NAME, Integer.MAX_VALUE).eternal(true).statistics(true));
+        }
+        if (!regioes.containsKey(StandardQueryCache.class.getName())) {
+            configuration.addCache(this.createCacheConfiguration(StandardQueryCache.class.getName(), properties, PREFIXO_PADRAO));
+        }
+        this.manager = new CacheManager(configuration);
+        this.mbeanRegistrationHelper.registerMBean(this.manager, properties);
+    }
+
+    /**
+     * Cria a configuração de uma região a partir das propriedades com o prefixo informado.
+     *
+     * @param nome o nome da região.
+     * @param properties as propriedades do Hibernate.
+     * @param prefixo o prefixo das propriedades da região.
+     * @return a {@link CacheConfiguration}.
+     */
+    private CacheConfiguration createCacheConfiguration(final String nome, final Properties properties, final String prefixo) {
+        final CacheRegionProperties padrao = new CacheRegionProperties();
+        final int maxEntries = Integer.parseInt(this.getProperty(properties, prefixo, MAX_ENTRIES, padrao.getMaxEntries()));
+        final long ttl = Long.parseLong(this.getProperty(properties, prefixo, TTL_SECONDS, padrao.getTimeToLiveSeconds()));
+        final long tti = Long.parseLong(this.getProperty(properties, prefixo, TTI_SECONDS, padrao.getTimeToIdleSeconds()));
+        return new CacheConfiguration(nome, maxEntries).timeToLiveSeconds(ttl).timeToIdleSeconds(tti).eternal(false).statistics(true);
+    }
+
+    /**
+     * Lê uma propriedade da região, usando o valor padrão das regiões ou, na ausência deste, o valor informado.
+     *
+     * @param properties as propriedades do Hibernate.
+     * @param prefixo o prefixo das propriedades da região.
+     * @param sufixo o sufixo da propriedade.
+     * @param padrao o valor usado quando a propriedade não estiver configurada.
+     * @return o valor da propriedade.
+     */
+    private String getProperty(final Properties properties, final String prefixo, final String sufixo, final Object padrao) {
+        return properties.getProperty(prefixo + sufixo, properties.getProperty(PREFIXO_PADRAO + sufixo, String.valueOf(padrao))).trim();
+    }
+
+    /**
+     * @return o {@link CacheManager} com as regiões do cache.
+     */
+    public CacheManager getCacheManager() {
+        return this.manager;
+    }
+
+}
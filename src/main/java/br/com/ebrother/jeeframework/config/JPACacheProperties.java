@@ -0,0 +1,86 @@
+package br.com.ebrother.jeeframework.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import br.com.ebrother.jeeframework.cache.CacheRegionProperties;
+
+/**
+ * Propriedades do cache de segundo nível e do cache de consultas (prefixo <code>jpa.cache</code>).
+ * <p>
+ * Regiões cujo nome contém pontos devem ser informadas entre colchetes, por exemplo
+ * <code>jpa.cache.regions[br.com.app.model.Estado].maxEntries=100</code>.
+ *
+ * @author Rafael Braga
+ */
+public class JPACacheProperties {
+
+    /** Indica se o cache de segundo nível está habilitado. */
+    private boolean enabled;
+
+    /** Indica se o cache de consultas está habilitado. */
+    private boolean queryCache = true;
+
+    /** Configuração usada pelas regiões sem configuração própria. */
+    private CacheRegionProperties defaults = new CacheRegionProperties();
+
+    /** Configuração de cada região, pelo nome da região. */
+    private Map<String, CacheRegionProperties> regions = new LinkedHashMap<>();
+
+    /**
+     * @return the enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @param enabled the enabled to set
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the queryCache
+     */
+    public boolean isQueryCache() {
+        return this.queryCache;
+    }
+
+    /**
+     * @param queryCache the queryCache to set
+     */
+    public void setQueryCache(final boolean queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    /**
+     * @return the defaults
+     */
+    public CacheRegionProperties getDefaults() {
+        return this.defaults;
+    }
+
+    /**
+     * @param defaults the defaults to set
+     */
+    public void setDefaults(final CacheRegionProperties defaults) {
+        this.defaults = defaults;
+    }
+
+    /**
+     * @return the regions
+     */
+    public Map<String, CacheRegionProperties> getRegions() {
+        return this.regions;
+    }
+
+    /**
+     * @param regions the regions to set
+     */
+    public void setRegions(final Map<String, CacheRegionProperties> regions) {
+        this.regions = regions;
+    }
+
+}
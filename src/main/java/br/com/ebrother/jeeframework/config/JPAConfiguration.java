@@ -1,13 +1,19 @@
 package br.com.ebrother.jeeframework.config;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -15,6 +21,17 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import br.com.ebrother.jeeframework.cache.CacheRegionProperties;
+import br.com.ebrother.jeeframework.cache.CacheStatisticsService;
+import br.com.ebrother.jeeframework.cache.ConfigurableEhCacheRegionFactory;
+import br.com.ebrother.jeeframework.datasource.InstrumentedDataSource;
+import br.com.ebrother.jeeframework.datasource.ReadWriteRoutingDataSource;
+import br.com.ebrother.jeeframework.datasource.ReplicaSelectionStrategy;
+import br.com.ebrother.jeeframework.metrics.DAOMetricsRegistry;
+import br.com.ebrother.jeeframework.metrics.QueryCountStatementInspector;
+import br.com.ebrother.jeeframework.metrics.QueryTimingSessionEventListener;
+import br.com.ebrother.jeeframework.metrics.SlowQueryLog;
+
 /**
  * Classe responsável por realizar as configurações de JPA.
  *
@@ -24,9 +41,18 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @ConfigurationProperties(prefix = "jpa")
 public class JPAConfiguration {
 
+    /** Logger da classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JPAConfiguration.class);
+
     /** Pacotes onde estão as entidades. */
     private String[] packagesToScan;
 
+    /** Nomes das classes das entidades. Quando informados, substituem a varredura de <code>packagesToScan</code>. */
+    private String[] entityClasses;
+
+    /** Indica se o {@link EntityManagerFactory} será criado em segundo plano, em paralelo com os demais beans. */
+    private boolean backgroundBootstrap;
+
     /** Driver de conexão ao banco de dados. */
     private String driverClassName;
 
@@ -51,6 +77,27 @@ public class JPAConfiguration {
     /** Indica se o Hibernate irá formatar o SQL gerado nas transações. */
     private String hibernateFormatSql;
 
+    /** Número de comandos agrupados em cada lote JDBC. */
+    private String hibernateJdbcBatchSize = "50";
+
+    /** Configurações do pool de conexões. */
+    private JPAPoolProperties pool = new JPAPoolProperties();
+
+    /** Réplicas de leitura, usadas pelas transações somente-leitura. */
+    private List<JPAReplicaProperties> replicas = new ArrayList<>();
+
+    /** Estratégia de escolha da réplica de leitura. */
+    private ReplicaSelectionStrategy replicaSelection = ReplicaSelectionStrategy.ROUND_ROBIN;
+
+    /** Configurações das métricas de acesso ao banco de dados. */
+    private JPAMetricsProperties metrics = new JPAMetricsProperties();
+
+    /** Configurações de ajuste de desempenho do Hibernate. */
+    private JPATuningProperties tuning = new JPATuningProperties();
+
+    /** Configurações do cache de segundo nível. */
+    private JPACacheProperties cache = new JPACacheProperties();
+
     /**
      * Abstrai as funcões do arquivo persistence.xml.
      *
@@ -60,7 +107,19 @@ public class JPAConfiguration {
     public LocalContainerEntityManagerFactoryBean getEntityManagerFactory() {
         final LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
         em.setDataSource(this.getDataSource());
-        em.setPackagesToScan(this.packagesToScan);
+        if (this.entityClasses != null && this.entityClasses.length > 0) {
+            em.setPackagesToScan();
+            em.setPersistenceUnitPostProcessors(unidade -> {
+                for (final String entityClass : this.entityClasses) {
+                    unidade.addManagedClassName(entityClass.trim());
+                }
+            });
+        } else {
+            em.setPackagesToScan(this.packagesToScan);
+        }
+        if (this.backgroundBootstrap) {
+            em.setBootstrapExecutor(new SimpleAsyncTaskExecutor("jpa-bootstrap-"));
+        }
         final JpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
         em.setJpaVendorAdapter(vendorAdapter);
         em.setJpaProperties(this.getAdditionalProperties());
@@ -68,18 +127,69 @@ public class JPAConfiguration {
     }
 
     /**
-     * Cria o datasource.
+     * Cria o datasource com pool de conexões. Quando houver réplicas configuradas, as transações somente-leitura são direcionadas a elas.
      *
      * @return o {@link DataSource}.
      */
     @Bean
     public DataSource getDataSource() {
-        final DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(this.driverClassName);
-        dataSource.setUrl(this.url);
-        dataSource.setUsername(this.username);
-        dataSource.setPassword(this.password);
-        return dataSource;
+        final InstrumentedDataSource primario = this.createPooledDataSource("jpa-primary", this.driverClassName, this.url, this.username,
+                this.password);
+        if (this.replicas.isEmpty()) {
+            return primario;
+        }
+        final List<InstrumentedDataSource> replicasLeitura = new ArrayList<>(this.replicas.size());
+        for (int i = 0; i < this.replicas.size(); i++) {
+            final JPAReplicaProperties replica = this.replicas.get(i);
+            replicasLeitura.add(this.createPooledDataSource("jpa-replica-" + i,
+                    replica.getDriverClassName() != null ? replica.getDriverClassName() : this.driverClassName, replica.getUrl(),
+                    replica.getUsername() != null ? replica.getUsername() : this.username,
+                    replica.getPassword() != null ? replica.getPassword() : this.password));
+        }
+        return new ReadWriteRoutingDataSource(primario, replicasLeitura, this.replicaSelection);
+    }
+
+    /**
+     * Cria um datasource com pool de conexões configurado a partir das propriedades <code>jpa.pool</code>.
+     *
+     * @param nome o nome do pool.
+     * @param driver o driver de conexão.
+     * @param urlConexao a URL de conexão.
+     * @param usuario o usuário.
+     * @param senha a senha.
+     * @return o {@link InstrumentedDataSource}.
+     */
+    protected InstrumentedDataSource createPooledDataSource(final String nome, final String driver, final String urlConexao, final String usuario,
+            final String senha) {
+        final org.apache.tomcat.jdbc.pool.PoolProperties properties = new org.apache.tomcat.jdbc.pool.PoolProperties();
+        properties.setName(nome);
+        properties.setDriverClassName(driver);
+        properties.setUrl(urlConexao);
+        properties.setUsername(usuario);
+        properties.setPassword(senha);
+        properties.setInitialSize(this.pool.getMinSize());
+        properties.setMinIdle(this.pool.getMinSize());
+        properties.setMaxIdle(this.pool.getMaxSize());
+        properties.setMaxActive(this.pool.getMaxSize());
+        properties.setMaxWait(this.pool.getAcquireTimeoutMillis());
+        properties.setMinEvictableIdleTimeMillis(this.pool.getIdleTimeoutMillis());
+        properties.setTimeBetweenEvictionRunsMillis(this.pool.getEvictionIntervalMillis());
+        properties.setMaxAge(this.pool.getMaxLifetimeMillis());
+        if (this.pool.getValidationQuery() != null && !this.pool.getValidationQuery().trim().isEmpty()) {
+            properties.setValidationQuery(this.pool.getValidationQuery());
+            properties.setValidationInterval(this.pool.getValidationIntervalMillis());
+            properties.setTestOnBorrow(true);
+            properties.setTestWhileIdle(true);
+        }
+        if (this.pool.getLeakDetectionThresholdSeconds() > 0) {
+            properties.setSuspectTimeout(this.pool.getLeakDetectionThresholdSeconds());
+            properties.setLogAbandoned(true);
+        }
+        if (this.tuning.getStatementCacheSize() > 0) {
+            properties.setJdbcInterceptors("StatementCache(prepared=true,callable=false,max=" + this.tuning.getStatementCacheSize() + ")");
+        }
+        properties.setJmxEnabled(true);
+        return new InstrumentedDataSource(new org.apache.tomcat.jdbc.pool.DataSource(properties));
     }
 
     /**
@@ -95,6 +205,27 @@ public class JPAConfiguration {
         return transactionManager;
     }
 
+    /**
+     * Disponibiliza as estatísticas do cache de segundo nível.
+     *
+     * @param entityManagerFactory o {@link EntityManagerFactory}.
+     * @return o {@link CacheStatisticsService}.
+     */
+    @Bean
+    public CacheStatisticsService cacheStatisticsService(final EntityManagerFactory entityManagerFactory) {
+        return new CacheStatisticsService(entityManagerFactory);
+    }
+
+    /**
+     * Disponibiliza as métricas das operações dos DAOs.
+     *
+     * @return o {@link DAOMetricsRegistry}.
+     */
+    @Bean
+    public DAOMetricsRegistry daoMetricsRegistry() {
+        return new DAOMetricsRegistry(this.metrics.isEnabled());
+    }
+
     /**
      * Cria as propriedades adicionais do Hibernate.
      *
@@ -102,13 +233,115 @@ public class JPAConfiguration {
      */
     private Properties getAdditionalProperties() {
         final Properties properties = new Properties();
-        properties.setProperty("hibernate.hbm2ddl.auto", this.hibernateHbm2ddlAuto);
-        properties.setProperty("hibernate.dialect", this.hibernateDialect);
-        properties.setProperty("hibernate.show_sql", this.hibernateShowSql);
-        properties.setProperty("hibernate.format_sql", this.hibernateFormatSql);
+        this.setPropertyIfPresent(properties, "hibernate.hbm2ddl.auto", this.hibernateHbm2ddlAuto);
+        this.setPropertyIfPresent(properties, "hibernate.dialect", this.hibernateDialect);
+        this.setPropertyIfPresent(properties, "hibernate.show_sql", this.hibernateShowSql);
+        this.setPropertyIfPresent(properties, "hibernate.format_sql", this.hibernateFormatSql);
+        properties.setProperty("hibernate.jdbc.batch_size",
+                this.tuning.getJdbcBatchSize() != null ? String.valueOf(this.tuning.getJdbcBatchSize()) : this.hibernateJdbcBatchSize);
+        properties.setProperty("hibernate.jdbc.batch_versioned_data", "true");
+        properties.setProperty("hibernate.order_inserts", "true");
+        properties.setProperty("hibernate.order_updates", "true");
+        // O INSPECTOR É ENTREGUE COMO INSTÂNCIA PARA QUE O LIMITE DE COMANDOS LENTOS FIQUE NESTA CONFIGURAÇÃO, E NÃO EM ESTADO GLOBAL
+        properties.put("hibernate.session_factory.statement_inspector",
+                new QueryCountStatementInspector(new SlowQueryLog(this.metrics.getSlowQueryThresholdMillis())));
+        properties.setProperty("hibernate.session.events.auto", QueryTimingSessionEventListener.class.getName());
+        this.addCacheProperties(properties);
+        this.addTuningProperties(properties);
+        if (this.tuning.isReport()) {
+            this.reportProperties(properties);
+        }
         return properties;
     }
 
+    /**
+     * Define a propriedade somente se o valor foi informado. Sem <code>hibernateHbm2ddlAuto</code>, por exemplo, o Hibernate não executa
+     * nenhuma operação de schema na inicialização.
+     *
+     * @param properties as propriedades do Hibernate.
+     * @param chave a chave da propriedade.
+     * @param valor o valor, ignorado se nulo ou vazio.
+     */
+    private void setPropertyIfPresent(final Properties properties, final String chave, final String valor) {
+        if (valor != null && !valor.trim().isEmpty()) {
+            properties.setProperty(chave, valor.trim());
+        }
+    }
+
+    /**
+     * Adiciona as propriedades de ajuste de desempenho, validando-as antes, e por fim as propriedades repassadas diretamente.
+     *
+     * @param properties as propriedades do Hibernate.
+     */
+    private void addTuningProperties(final Properties properties) {
+        this.tuning.validar();
+        if (this.tuning.getJdbcFetchSize() > 0) {
+            properties.setProperty("hibernate.jdbc.fetch_size", String.valueOf(this.tuning.getJdbcFetchSize()));
+        }
+        if (this.tuning.getDefaultBatchFetchSize() > 1) {
+            properties.setProperty("hibernate.default_batch_fetch_size", String.valueOf(this.tuning.getDefaultBatchFetchSize()));
+        }
+        if (this.tuning.getBatchFetchStyle() != null) {
+            properties.setProperty("hibernate.batch_fetch_style", this.tuning.getBatchFetchStyle().toUpperCase());
+        }
+        properties.setProperty("hibernate.query.plan_cache_max_size", String.valueOf(this.tuning.getQueryPlanCacheMaxSize()));
+        properties.setProperty("hibernate.query.plan_parameter_metadata_max_size", String.valueOf(this.tuning.getQueryPlanParameterMetadataMaxSize()));
+        properties.setProperty("hibernate.generate_statistics", String.valueOf(this.tuning.isGenerateStatistics()));
+        properties.putAll(this.tuning.getProperties());
+    }
+
+    /**
+     * Registra no log as propriedades efetivas do Hibernate e do pool, omitindo os valores de senhas.
+     *
+     * @param properties as propriedades do Hibernate.
+     */
+    private void reportProperties(final Properties properties) {
+        final StringBuilder relatorio = new StringBuilder("Configuração efetiva do JPA:");
+        for (final Map.Entry<Object, Object> entry : new TreeMap<>(properties).entrySet()) {
+            final String chave = String.valueOf(entry.getKey());
+            relatorio.append("\n    ").append(chave).append(" = ").append(chave.toLowerCase().contains("password") ? "****" : entry.getValue());
+        }
+        relatorio.append("\n    pool = min ").append(this.pool.getMinSize()).append(", max ").append(this.pool.getMaxSize()).append(", espera ")
+                .append(this.pool.getAcquireTimeoutMillis()).append(" ms, cache de comandos ").append(this.tuning.getStatementCacheSize());
+        relatorio.append("\n    réplicas = ").append(this.replicas.size());
+        LOGGER.info(relatorio.toString());
+    }
+
+    /**
+     * Adiciona as propriedades do cache de segundo nível. As entidades participam do cache somente quando anotadas com
+     * {@link javax.persistence.Cacheable}.
+     *
+     * @param properties as propriedades do Hibernate.
+     */
+    private void addCacheProperties(final Properties properties) {
+        if (!this.cache.isEnabled()) {
+            properties.setProperty("hibernate.cache.use_second_level_cache", "false");
+            properties.setProperty("hibernate.cache.use_query_cache", "false");
+            return;
+        }
+        properties.setProperty("hibernate.cache.use_second_level_cache", "true");
+        properties.setProperty("hibernate.cache.use_query_cache", String.valueOf(this.cache.isQueryCache()));
+        properties.setProperty("hibernate.cache.region.factory_class", ConfigurableEhCacheRegionFactory.class.getName());
+        properties.setProperty("javax.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+        this.addCacheRegionProperties(properties, ConfigurableEhCacheRegionFactory.PREFIXO_PADRAO, this.cache.getDefaults());
+        for (final Map.Entry<String, CacheRegionProperties> regiao : this.cache.getRegions().entrySet()) {
+            this.addCacheRegionProperties(properties, ConfigurableEhCacheRegionFactory.PREFIXO_REGIAO + regiao.getKey() + ".", regiao.getValue());
+        }
+    }
+
+    /**
+     * Adiciona as propriedades de uma região do cache.
+     *
+     * @param properties as propriedades do Hibernate.
+     * @param prefixo o prefixo das propriedades da região.
+     * @param regiao a configuração da região.
+     */
+    private void addCacheRegionProperties(final Properties properties, final String prefixo, final CacheRegionProperties regiao) {
+        properties.setProperty(prefixo + ConfigurableEhCacheRegionFactory.MAX_ENTRIES, String.valueOf(regiao.getMaxEntries()));
+        properties.setProperty(prefixo + ConfigurableEhCacheRegionFactory.TTL_SECONDS, String.valueOf(regiao.getTimeToLiveSeconds()));
+        properties.setProperty(prefixo + ConfigurableEhCacheRegionFactory.TTI_SECONDS, String.valueOf(regiao.getTimeToIdleSeconds()));
+    }
+
     /**
      * @return the packagesToScan
      */
@@ -123,6 +356,34 @@ public class JPAConfiguration {
         this.packagesToScan = packagesToScan;
     }
 
+    /**
+     * @return the entityClasses
+     */
+    public String[] getEntityClasses() {
+        return this.entityClasses;
+    }
+
+    /**
+     * @param entityClasses the entityClasses to set
+     */
+    public void setEntityClasses(final String[] entityClasses) {
+        this.entityClasses = entityClasses;
+    }
+
+    /**
+     * @return the backgroundBootstrap
+     */
+    public boolean isBackgroundBootstrap() {
+        return this.backgroundBootstrap;
+    }
+
+    /**
+     * @param backgroundBootstrap the backgroundBootstrap to set
+     */
+    public void setBackgroundBootstrap(final boolean backgroundBootstrap) {
+        this.backgroundBootstrap = backgroundBootstrap;
+    }
+
     /**
      * @return the driverClassName
      */
@@ -235,4 +496,102 @@ public class JPAConfiguration {
         this.hibernateFormatSql = hibernateFormatSql;
     }
 
+    /**
+     * @return the hibernateJdbcBatchSize
+     */
+    public String getHibernateJdbcBatchSize() {
+        return this.hibernateJdbcBatchSize;
+    }
+
+    /**
+     * @param hibernateJdbcBatchSize the hibernateJdbcBatchSize to set
+     */
+    public void setHibernateJdbcBatchSize(final String hibernateJdbcBatchSize) {
+        this.hibernateJdbcBatchSize = hibernateJdbcBatchSize;
+    }
+
+    /**
+     * @return the pool
+     */
+    public JPAPoolProperties getPool() {
+        return this.pool;
+    }
+
+    /**
+     * @param pool the pool to set
+     */
+    public void setPool(final JPAPoolProperties pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the replicas
+     */
+    public List<JPAReplicaProperties> getReplicas() {
+        return this.replicas;
+    }
+
+    /**
+     * @param replicas the replicas to set
+     */
+    public void setReplicas(final List<JPAReplicaProperties> replicas) {
+        this.replicas = replicas;
+    }
+
+    /**
+     * @return the replicaSelection
+     */
+    public ReplicaSelectionStrategy getReplicaSelection() {
+        return this.replicaSelection;
+    }
+
+    /**
+     * @param replicaSelection the replicaSelection to set
+     */
+    public void setReplicaSelection(final ReplicaSelectionStrategy replicaSelection) {
+        this.replicaSelection = replicaSelection;
+    }
+
+    /**
+     * @return the metrics
+     */
+    public JPAMetricsProperties getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * @param metrics the metrics to set
+     */
+    public void setMetrics(final JPAMetricsProperties metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the tuning
+     */
+    public JPATuningProperties getTuning() {
+        return this.tuning;
+    }
+
+    /**
+     * @param tuning the tuning to set
+     */
+    public void setTuning(final JPATuningProperties tuning) {
+        this.tuning = tuning;
+    }
+
+    /**
+     * @return the cache
+     */
+    public JPACacheProperties getCache() {
+        return this.cache;
+    }
+
+    /**
+     * @param cache the cache to set
+     */
+    public void setCache(final JPACacheProperties cache) {
+        this.cache = cache;
+    }
+
 }
@@ -0,0 +1,44 @@
+package br.com.ebrother.jeeframework.config;
+
+/**
+ * Propriedades das métricas de acesso ao banco de dados (prefixo <code>jpa.metrics</code>).
+ *
+ * @author Rafael Braga
+ */
+public class JPAMetricsProperties {
+
+    /** Indica se as operações dos DAOs são medidas. */
+    private boolean enabled = true;
+
+    /** Duração, em milissegundos, a partir da qual um comando SQL é registrado no log como lento. Zero desabilita. */
+    private long slowQueryThresholdMillis = 1000;
+
+    /**
+     * @return the enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @param enabled the enabled to set
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the slowQueryThresholdMillis
+     */
+    public long getSlowQueryThresholdMillis() {
+        return this.slowQueryThresholdMillis;
+    }
+
+    /**
+     * @param slowQueryThresholdMillis the slowQueryThresholdMillis to set
+     */
+    public void setSlowQueryThresholdMillis(final long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+}
@@ -0,0 +1,163 @@
+package br.com.ebrother.jeeframework.config;
+
+/**
+ * Propriedades do pool de conexões ao banco de dados (prefixo <code>jpa.pool</code>).
+ *
+ * @author Rafael Braga
+ */
+public class JPAPoolProperties {
+
+    /** Número mínimo de conexões ociosas mantidas no pool. */
+    private int minSize = 2;
+
+    /** Número máximo de conexões abertas. */
+    private int maxSize = 20;
+
+    /** Tempo máximo de espera por uma conexão livre, em milissegundos. */
+    private int acquireTimeoutMillis = 30000;
+
+    /** Tempo que uma conexão pode ficar ociosa antes de ser descartada, em milissegundos. */
+    private int idleTimeoutMillis = 600000;
+
+    /** Intervalo entre as execuções da rotina de descarte de conexões ociosas, em milissegundos. */
+    private int evictionIntervalMillis = 30000;
+
+    /** Tempo máximo de vida de uma conexão, em milissegundos. Zero desabilita. */
+    private long maxLifetimeMillis = 1800000L;
+
+    /** Query usada para validar a conexão antes de entregá-la à aplicação. */
+    private String validationQuery;
+
+    /** Intervalo mínimo entre validações da mesma conexão, em milissegundos. */
+    private long validationIntervalMillis = 30000L;
+
+    /** Tempo de uso de uma conexão a partir do qual é registrado um alerta de vazamento, em segundos. Zero desabilita. */
+    private int leakDetectionThresholdSeconds;
+
+    /**
+     * @return the minSize
+     */
+    public int getMinSize() {
+        return this.minSize;
+    }
+
+    /**
+     * @param minSize the minSize to set
+     */
+    public void setMinSize(final int minSize) {
+        this.minSize = minSize;
+    }
+
+    /**
+     * @return the maxSize
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * @param maxSize the maxSize to set
+     */
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the acquireTimeoutMillis
+     */
+    public int getAcquireTimeoutMillis() {
+        return this.acquireTimeoutMillis;
+    }
+
+    /**
+     * @param acquireTimeoutMillis the acquireTimeoutMillis to set
+     */
+    public void setAcquireTimeoutMillis(final int acquireTimeoutMillis) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * @return the idleTimeoutMillis
+     */
+    public int getIdleTimeoutMillis() {
+        return this.idleTimeoutMillis;
+    }
+
+    /**
+     * @param idleTimeoutMillis the idleTimeoutMillis to set
+     */
+    public void setIdleTimeoutMillis(final int idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * @return the evictionIntervalMillis
+     */
+    public int getEvictionIntervalMillis() {
+        return this.evictionIntervalMillis;
+    }
+
+    /**
+     * @param evictionIntervalMillis the evictionIntervalMillis to set
+     */
+    public void setEvictionIntervalMillis(final int evictionIntervalMillis) {
+        this.evictionIntervalMillis = evictionIntervalMillis;
+    }
+
+    /**
+     * @return the maxLifetimeMillis
+     */
+    public long getMaxLifetimeMillis() {
+        return this.maxLifetimeMillis;
+    }
+
+    /**
+     * @param maxLifetimeMillis the maxLifetimeMillis to set
+     */
+    public void setMaxLifetimeMillis(final long maxLifetimeMillis) {
+        this.maxLifetimeMillis = maxLifetimeMillis;
+    }
+
+    /**
+     * @return the validationQuery
+     */
+    public String getValidationQuery() {
+        return this.validationQuery;
+    }
+
+    /**
+     * @param validationQuery the validationQuery to set
+     */
+    public void setValidationQuery(final String validationQuery) {
+        this.validationQuery = validationQuery;
+    }
+
+    /**
+     * @return the validationIntervalMillis
+     */
+    public long getValidationIntervalMillis() {
+        return this.validationIntervalMillis;
+    }
+
+    /**
+     * @param validationIntervalMillis the validationIntervalMillis to set
+     */
+    public void setValidationIntervalMillis(final long validationIntervalMillis) {
+        this.validationIntervalMillis = validationIntervalMillis;
+    }
+
+    /**
+     * @return the leakDetectionThresholdSeconds
+     */
+    public int getLeakDetectionThresholdSeconds() {
+        return this.leakDetectionThresholdSeconds;
+    }
+
+    /**
+     * @param leakDetectionThresholdSeconds the leakDetectionThresholdSeconds to set
+     */
+    public void setLeakDetectionThresholdSeconds(final int leakDetectionThresholdSeconds) {
+        this.leakDetectionThresholdSeconds = leakDetectionThresholdSeconds;
+    }
+
+}
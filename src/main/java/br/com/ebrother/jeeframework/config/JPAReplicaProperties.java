@@ -0,0 +1,78 @@
+package br.com.ebrother.jeeframework.config;
+
+/**
+ * Propriedades de conexão a uma réplica de leitura do banco de dados (prefixo <code>jpa.replicas[n]</code>).
+ *
+ * @author Rafael Braga
+ */
+public class JPAReplicaProperties {
+
+    /** Driver de conexão à réplica. Quando não informado, usa o driver do banco principal. */
+    private String driverClassName;
+
+    /** URL de conexão à réplica. */
+    private String url;
+
+    /** Usuario para conexão à réplica. Quando não informado, usa o usuário do banco principal. */
+    private String username;
+
+    /** Senha do usuário para conexão à réplica. Quando não informada, usa a senha do banco principal. */
+    private String password;
+
+    /**
+     * @return the driverClassName
+     */
+    public String getDriverClassName() {
+        return this.driverClassName;
+    }
+
+    /**
+     * @param driverClassName the driverClassName to set
+     */
+    public void setDriverClassName(final String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+
+    /**
+     * @return the url
+     */
+    public String getUrl() {
+        return this.url;
+    }
+
+    /**
+     * @param url the url to set
+     */
+    public void setUrl(final String url) {
+        this.url = url;
+    }
+
+    /**
+     * @return the username
+     */
+    public String getUsername() {
+        return this.username;
+    }
+
+    /**
+     * @param username the username to set
+     */
+    public void setUsername(final String username) {
+        this.username = username;
+    }
+
+    /**
+     * @return the password
+     */
+    public String getPassword() {
+        return this.password;
+    }
+
+    /**
+     * @param password the password to set
+     */
+    public void setPassword(final String password) {
+        this.password = password;
+    }
+
+}
@@ -0,0 +1,226 @@
+package br.com.ebrother.jeeframework.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Propriedades de ajuste de desempenho do Hibernate e do driver JDBC (prefixo <code>jpa.tuning</code>).
+ * <p>
+ * Propriedades do Hibernate sem campo próprio podem ser informadas em <code>properties</code>, por exemplo
+ * <code>jpa.tuning.properties[hibernate.jdbc.use_streams_for_binary]=true</code>; elas têm precedência sobre as demais.
+ *
+ * @author Rafael Braga
+ */
+public class JPATuningProperties {
+
+    /** Número de registros trazidos por ida ao banco nas consultas. Zero usa o padrão do driver. */
+    private int jdbcFetchSize = 100;
+
+    /** Número de comandos agrupados em cada lote JDBC. Quando nulo, é usado <code>jpa.hibernateJdbcBatchSize</code>. */
+    private Integer jdbcBatchSize;
+
+    /** Número de entidades ou coleções carregadas de uma vez nas associações tardias. Valores menores que 2 desabilitam. */
+    private int defaultBatchFetchSize = 16;
+
+    /** Estilo de carregamento em lote do Hibernate (LEGACY, PADDED ou DYNAMIC). Quando nulo, é usado o padrão do Hibernate. */
+    private String batchFetchStyle;
+
+    /** Número máximo de planos de consulta em cache. */
+    private int queryPlanCacheMaxSize = 2048;
+
+    /** Número máximo de metadados de parâmetros de consultas em cache. */
+    private int queryPlanParameterMetadataMaxSize = 128;
+
+    /** Número de comandos preparados mantidos em cache por conexão do pool. Zero desabilita, pois alguns drivers já mantêm esse cache. */
+    private int statementCacheSize;
+
+    /** Indica se o Hibernate coleta estatísticas. */
+    private boolean generateStatistics;
+
+    /** Indica se as configurações efetivas são registradas no log na inicialização. */
+    private boolean report = true;
+
+    /** Propriedades repassadas diretamente ao Hibernate. */
+    private Map<String, String> properties = new LinkedHashMap<>();
+
+    /**
+     * Valida as propriedades.
+     *
+     * @throws IllegalStateException se alguma propriedade for inválida.
+     */
+    public void validar() {
+        final List<String> erros = new ArrayList<>();
+        if (this.jdbcFetchSize < 0) {
+            erros.add("jdbcFetchSize deve ser maior ou igual a zero");
+        }
+        if (this.jdbcBatchSize != null && this.jdbcBatchSize < 0) {
+            erros.add("jdbcBatchSize deve ser maior ou igual a zero");
+        }
+        if (this.defaultBatchFetchSize < 0) {
+            erros.add("defaultBatchFetchSize deve ser maior ou igual a zero");
+        }
+        if (this.batchFetchStyle != null && !this.batchFetchStyle.matches("(?i)LEGACY|PADDED|DYNAMIC")) {
+            erros.add("batchFetchStyle deve ser LEGACY, PADDED ou DYNAMIC");
+        }
+        if (this.queryPlanCacheMaxSize <= 0) {
+            erros.add("queryPlanCacheMaxSize deve ser maior que zero");
+        }
+        if (this.queryPlanParameterMetadataMaxSize <= 0) {
+            erros.add("queryPlanParameterMetadataMaxSize deve ser maior que zero");
+        }
+        if (this.statementCacheSize < 0) {
+            erros.add("statementCacheSize deve ser maior ou igual a zero");
+        }
+        for (final Map.Entry<String, String> entry : this.properties.entrySet()) {
+            if (entry.getKey() == null || entry.getKey().trim().isEmpty() || entry.getValue() == null) {
+                erros.add("properties não aceita chaves vazias nem valores nulos");
+            }
+        }
+        if (!erros.isEmpty()) {
+            throw new IllegalStateException("Configuração inválida em jpa.tuning: " + String.join("; ", erros) + ".");
+        }
+    }
+
+    /**
+     * @return the jdbcFetchSize
+     */
+    public int getJdbcFetchSize() {
+        return this.jdbcFetchSize;
+    }
+
+    /**
+     * @param jdbcFetchSize the jdbcFetchSize to set
+     */
+    public void setJdbcFetchSize(final int jdbcFetchSize) {
+        this.jdbcFetchSize = jdbcFetchSize;
+    }
+
+    /**
+     * @return the jdbcBatchSize
+     */
+    public Integer getJdbcBatchSize() {
+        return this.jdbcBatchSize;
+    }
+
+    /**
+     * @param jdbcBatchSize the jdbcBatchSize to set
+     */
+    public void setJdbcBatchSize(final Integer jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    /**
+     * @return the defaultBatchFetchSize
+     */
+    public int getDefaultBatchFetchSize() {
+        return this.defaultBatchFetchSize;
+    }
+
+    /**
+     * @param defaultBatchFetchSize the defaultBatchFetchSize to set
+     */
+    public void setDefaultBatchFetchSize(final int defaultBatchFetchSize) {
+        this.defaultBatchFetchSize = defaultBatchFetchSize;
+    }
+
+    /**
+     * @return the batchFetchStyle
+     */
+    public String getBatchFetchStyle() {
+        return this.batchFetchStyle;
+    }
+
+    /**
+     * @param batchFetchStyle the batchFetchStyle to set
+     */
+    public void setBatchFetchStyle(final String batchFetchStyle) {
+        this.batchFetchStyle = batchFetchStyle;
+    }
+
+    /**
+     * @return the queryPlanCacheMaxSize
+     */
+    public int getQueryPlanCacheMaxSize() {
+        return this.queryPlanCacheMaxSize;
+    }
+
+    /**
+     * @param queryPlanCacheMaxSize the queryPlanCacheMaxSize to set
+     */
+    public void setQueryPlanCacheMaxSize(final int queryPlanCacheMaxSize) {
+        this.queryPlanCacheMaxSize = queryPlanCacheMaxSize;
+    }
+
+    /**
+     * @return the queryPlanParameterMetadataMaxSize
+     */
+    public int getQueryPlanParameterMetadataMaxSize() {
+        return this.queryPlanParameterMetadataMaxSize;
+    }
+
+    /**
+     * @param queryPlanParameterMetadataMaxSize the queryPlanParameterMetadataMaxSize to set
+     */
+    public void setQueryPlanParameterMetadataMaxSize(final int queryPlanParameterMetadataMaxSize) {
+        this.queryPlanParameterMetadataMaxSize = queryPlanParameterMetadataMaxSize;
+    }
+
+    /**
+     * @return the statementCacheSize
+     */
+    public int getStatementCacheSize() {
+        return this.statementCacheSize;
+    }
+
+    /**
+     * @param statementCacheSize the statementCacheSize to set
+     */
+    public void setStatementCacheSize(final int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * @return the generateStatistics
+     */
+    public boolean isGenerateStatistics() {
+        return this.generateStatistics;
+    }
+
+    /**
+     * @param generateStatistics the generateStatistics to set
+     */
+    public void setGenerateStatistics(final boolean generateStatistics) {
+        this.generateStatistics = generateStatistics;
+    }
+
+    /**
+     * @return the report
+     */
+    public boolean isReport() {
+        return this.report;
+    }
+
+    /**
+     * @param report the report to set
+     */
+    public void setReport(final boolean report) {
+        this.report = report;
+    }
+
+    /**
+     * @return the properties
+     */
+    public Map<String, String> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * @param properties the properties to set
+     */
+    public void setProperties(final Map<String, String> properties) {
+        this.properties = properties;
+    }
+
+}
@@ -1,24 +1,44 @@
 package br.com.ebrother.jeeframework.config;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.web.DispatcherServletAutoConfiguration;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
-import org.springframework.web.multipart.commons.CommonsMultipartResolver;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.DefaultServletHandlerConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
+import br.com.ebrother.jeeframework.controller.async.ContextPropagatingTaskDecorator;
+import br.com.ebrother.jeeframework.controller.binary.BinaryDTOHttpMessageConverter;
+import br.com.ebrother.jeeframework.controller.binary.BinaryFormat;
+import br.com.ebrother.jeeframework.controller.interceptor.QueryCountInterceptor;
+import br.com.ebrother.jeeframework.controller.locale.StatelessLocaleResolver;
+import br.com.ebrother.jeeframework.controller.multipart.StreamingMultipartArgumentResolver;
+import br.com.ebrother.jeeframework.controller.multipart.StreamingMultipartResolver;
+import br.com.ebrother.jeeframework.controller.resource.StaticResourceHttpRequestHandler;
+
 /**
  * Classe responsável por realizar as configurações básicas da aplicação.
  *
@@ -28,6 +48,9 @@ import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 @EnableWebMvc
 public class WebConfiguration extends WebMvcConfigurerAdapter {
 
+    /** Nome do bean do executor das requisições assíncronas. */
+    public static final String CONTROLLER_TASK_EXECUTOR = "controllerTaskExecutor";
+
     /** Classpath dos arquivos de mensagem. */
     private static final String CLASSPATH_I18N_MESSAGES = "classpath:i18n/messages";
 
@@ -37,15 +60,116 @@ public class WebConfiguration extends WebMvcConfigurerAdapter {
     /** Parâmetro de configuração da linguagem da aplicação. */
     private static final String PARAM_LOCALE = "lang";
 
+    /** Número de consultas por requisição a partir do qual é registrado um alerta de N+1. Zero desabilita. */
+    @Value("${web.queryCount.warnThreshold:30}")
+    private int queryCountWarnThreshold;
+
+    /** Número de consultas por requisição a partir do qual a requisição falha. Zero desabilita; útil em testes. */
+    @Value("${web.queryCount.failThreshold:0}")
+    private int queryCountFailThreshold;
+
+    /** Intervalo, em segundos, entre as verificações de alteração dos arquivos de mensagem. -1 nunca recarrega. */
+    @Value("${web.messages.cacheSeconds:-1}")
+    private int messagesCacheSeconds;
+
+    /** Número de threads mantidas no executor das requisições assíncronas. */
+    @Value("${web.async.corePoolSize:8}")
+    private int asyncCorePoolSize;
+
+    /** Número máximo de threads do executor das requisições assíncronas. */
+    @Value("${web.async.maxPoolSize:32}")
+    private int asyncMaxPoolSize;
+
+    /** Número máximo de tarefas aguardando no executor das requisições assíncronas. */
+    @Value("${web.async.queueCapacity:200}")
+    private int asyncQueueCapacity;
+
+    /** Tempo máximo, em milissegundos, de uma requisição assíncrona. */
+    @Value("${web.async.timeoutMillis:30000}")
+    private long asyncTimeoutMillis;
+
+    /** Tamanho máximo, em bytes, de cada arquivo enviado. -1 sem limite. */
+    @Value("${web.multipart.maxFileSize:-1}")
+    private long multipartMaxFileSize;
+
+    /** Tamanho máximo, em bytes, de toda a requisição multipart. -1 sem limite. */
+    @Value("${web.multipart.maxRequestSize:-1}")
+    private long multipartMaxRequestSize;
+
+    /** Tamanho, em bytes, a partir do qual os arquivos processados antecipadamente são gravados em disco. */
+    @Value("${web.multipart.maxInMemorySize:10240}")
+    private int multipartMaxInMemorySize;
+
+    /** Caminhos cujas partes são entregues ao controller à medida que chegam, sem processamento antecipado. */
+    @Value("${web.multipart.streamingPaths:}")
+    private String[] multipartStreamingPaths;
+
+    /** Padrão dos caminhos dos recursos estáticos, relativo ao mapeamento do servlet. */
+    @Value("${web.resources.pathPattern:/static/**}")
+    private String resourcesPathPattern;
+
+    /** Locais dos recursos estáticos. */
+    @Value("${web.resources.locations:classpath:/static/}")
+    private String[] resourcesLocations;
+
+    /** Tempo, em dias, de cache dos recursos estáticos requisitados pela URL versionada. */
+    @Value("${web.resources.cacheMaxAgeDays:365}")
+    private int resourcesCacheMaxAgeDays;
+
+    /** Indica se as variantes pré-compactadas (.br e .gz) dos recursos estáticos são servidas. */
+    @Value("${web.resources.precompressed:true}")
+    private boolean resourcesPrecompressed;
+
+    /** Indica se a resolução dos recursos estáticos é guardada em cache. Desabilitar apenas em desenvolvimento. */
+    @Value("${web.resources.cache:true}")
+    private boolean resourcesCache;
+
+    /** Tamanho mínimo, em bytes, dos recursos estáticos enviados por sendfile. Zero desabilita. */
+    @Value("${web.resources.sendfileMinSize:49152}")
+    private long resourcesSendfileMinSize;
+
+    /** Formatos binários aceitos e produzidos para os DTOs, além do JSON. Vazio desabilita. */
+    @Value("${web.binary.formats:CBOR,SMILE}")
+    private BinaryFormat[] binaryFormats;
+
+    /** Indica se a linguagem é resolvida sem sessão HTTP, pelo parâmetro, pelo cookie ou pelo cabeçalho <code>Accept-Language</code>. */
+    @Value("${web.locale.stateless:true}")
+    private boolean localeStateless;
+
+    /** Nome do cookie que guarda a linguagem trocada pelo parâmetro, no modo sem sessão. Vazio desabilita o cookie. */
+    @Value("${web.locale.cookieName:lang}")
+    private String localeCookieName;
+
+    /** Validade, em segundos, do cookie da linguagem. -1 expira ao fechar o navegador. */
+    @Value("${web.locale.cookieMaxAge:-1}")
+    private int localeCookieMaxAge;
+
+    /**
+     * Linguagens suportadas no modo sem sessão. O padrão são as linguagens dos arquivos de mensagens do framework; as demais resolvem para a
+     * linguagem padrão. Vazio aceita qualquer linguagem.
+     */
+    @Value("${web.locale.supported:pt-BR,en-US,es}")
+    private String[] localeSupported;
+
     /**
-     * Configura a linguagem padrão da aplicação para pt-BR.
+     * Configura a linguagem padrão da aplicação para pt-BR. Por padrão a linguagem é resolvida a cada requisição, sem criar sessão HTTP;
+     * com <code>web.locale.stateless=false</code> ela é guardada na sessão.
      *
      * @return {@link LocaleResolver}.
      */
     @Bean
     public LocaleResolver localeResolver() {
-        final SessionLocaleResolver localeResolver = new SessionLocaleResolver();
+        if (!this.localeStateless) {
+            final SessionLocaleResolver localeResolver = new SessionLocaleResolver();
+            localeResolver.setDefaultLocale(LOCALE_PT_BR);
+            return localeResolver;
+        }
+        final StatelessLocaleResolver localeResolver = new StatelessLocaleResolver();
         localeResolver.setDefaultLocale(LOCALE_PT_BR);
+        localeResolver.setParamName(PARAM_LOCALE);
+        localeResolver.setCookie(this.localeCookieName, this.localeCookieMaxAge);
+        localeResolver.setSupportedLocales(Arrays.stream(this.localeSupported).map(tag -> Locale.forLanguageTag(tag.trim().replace('_', '-')))
+                .collect(Collectors.toList()));
         return localeResolver;
     }
 
@@ -59,6 +183,38 @@ public class WebConfiguration extends WebMvcConfigurerAdapter {
         configurer.enable();
     }
 
+    /**
+     * Configura o tratamento dos recursos estáticos com URLs versionadas, cache imutável, variantes pré-compactadas, requisições parciais e
+     * sendfile.
+     *
+     * @return {@link StaticResourceHttpRequestHandler}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "web.resources.enabled", havingValue = "true", matchIfMissing = true)
+    public StaticResourceHttpRequestHandler staticResourceHandler() {
+        final StaticResourceHttpRequestHandler handler = new StaticResourceHttpRequestHandler();
+        handler.setLocalizacoes(this.resourcesLocations);
+        handler.setCacheMaxAgeDays(this.resourcesCacheMaxAgeDays);
+        handler.setPrecompressed(this.resourcesPrecompressed);
+        handler.setCache(this.resourcesCache);
+        handler.setSendfileMinSize(this.resourcesSendfileMinSize);
+        return handler;
+    }
+
+    /**
+     * Mapeia os caminhos dos recursos estáticos, depois dos controllers.
+     *
+     * @return {@link SimpleUrlHandlerMapping}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "web.resources.enabled", havingValue = "true", matchIfMissing = true)
+    public SimpleUrlHandlerMapping staticResourceHandlerMapping() {
+        final SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping();
+        mapping.setUrlMap(Collections.singletonMap(this.resourcesPathPattern, this.staticResourceHandler()));
+        mapping.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return mapping;
+    }
+
     /**
      * Adiciona o interceptor responsável por trocar a linguagem da aplicação.
      *
@@ -67,6 +223,44 @@ public class WebConfiguration extends WebMvcConfigurerAdapter {
     @Override
     public void addInterceptors(final InterceptorRegistry registry) {
         registry.addInterceptor(this.localeChangeInterceptor());
+        registry.addInterceptor(this.queryCountInterceptor());
+    }
+
+    /**
+     * Configura a contagem de consultas ao banco de dados por requisição.
+     *
+     * @return {@link QueryCountInterceptor}.
+     */
+    @Bean
+    public QueryCountInterceptor queryCountInterceptor() {
+        return new QueryCountInterceptor(this.queryCountWarnThreshold, this.queryCountFailThreshold);
+    }
+
+    /**
+     * Configura o executor e o tempo máximo das requisições assíncronas.
+     *
+     * @param configurer {@link AsyncSupportConfigurer}.
+     */
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(this.controllerTaskExecutor());
+        configurer.setDefaultTimeout(this.asyncTimeoutMillis);
+    }
+
+    /**
+     * Configura o executor limitado das requisições assíncronas, que leva a linguagem e o contexto da requisição para as threads de trabalho.
+     *
+     * @return {@link ThreadPoolTaskExecutor}.
+     */
+    @Bean(name = CONTROLLER_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor controllerTaskExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(this.asyncCorePoolSize);
+        executor.setMaxPoolSize(this.asyncMaxPoolSize);
+        executor.setQueueCapacity(this.asyncQueueCapacity);
+        executor.setThreadNamePrefix("controller-async-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
     }
 
     /**
@@ -90,6 +284,7 @@ public class WebConfiguration extends WebMvcConfigurerAdapter {
     public MessageSource messageSource() {
         final ReloadableResourceBundleMessageSource ret = new ReloadableResourceBundleMessageSource();
         ret.setBasename(CLASSPATH_I18N_MESSAGES);
+        ret.setCacheSeconds(this.messagesCacheSeconds);
         return ret;
     }
 
@@ -126,13 +321,42 @@ public class WebConfiguration extends WebMvcConfigurerAdapter {
     }
 
     /**
-     * Configura a aplicação para tratar adequadamente os arquivos Multipart.
+     * Configura a aplicação para tratar adequadamente os arquivos Multipart. Nos caminhos de <code>web.multipart.streamingPaths</code> as
+     * partes não são processadas antecipadamente e o controller as recebe por meio de uma
+     * {@link br.com.ebrother.jeeframework.controller.multipart.StreamingMultipartRequest}.
      *
-     * @return {@link CommonsMultipartResolver}.
+     * @return {@link StreamingMultipartResolver}.
      */
     @Bean
-    public CommonsMultipartResolver multipartResolver() {
-        return new CommonsMultipartResolver();
+    public StreamingMultipartResolver multipartResolver() {
+        final StreamingMultipartResolver multipartResolver = new StreamingMultipartResolver();
+        multipartResolver.setMaxUploadSizePerFile(this.multipartMaxFileSize);
+        multipartResolver.setMaxUploadSize(this.multipartMaxRequestSize);
+        multipartResolver.setMaxInMemorySize(this.multipartMaxInMemorySize);
+        multipartResolver.setStreamingPaths(this.multipartStreamingPaths);
+        return multipartResolver;
+    }
+
+    /**
+     * Adiciona o parâmetro de leitura das partes multipart sob demanda.
+     *
+     * @param argumentResolvers os {@link HandlerMethodArgumentResolver}.
+     */
+    @Override
+    public void addArgumentResolvers(final List<HandlerMethodArgumentResolver> argumentResolvers) {
+        argumentResolvers.add(new StreamingMultipartArgumentResolver(this.multipartResolver()));
+    }
+
+    /**
+     * Adiciona os conversores dos formatos binários depois dos conversores padrão, mantendo o JSON como formato padrão.
+     *
+     * @param converters os {@link HttpMessageConverter}.
+     */
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        for (final BinaryFormat formato : this.binaryFormats) {
+            converters.add(new BinaryDTOHttpMessageConverter(formato));
+        }
     }
 
 }
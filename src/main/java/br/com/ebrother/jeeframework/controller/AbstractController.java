@@ -1,11 +1,45 @@
 package br.com.ebrother.jeeframework.controller;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.ebrother.jeeframework.config.WebConfiguration;
+import br.com.ebrother.jeeframework.controller.stream.JsonStreamingResponseBody;
 import br.com.ebrother.jeeframework.messages.MessageByLocaleService;
+import br.com.ebrother.jeeframework.model.AbstractEntity;
+import br.com.ebrother.jeeframework.model.Versionavel;
 
 /**
  * Classe abstrata de controller.
+ * <p>
+ * Os métodos <code>executarAssincrono</code> executam tarefas demoradas no executor limitado de requisições assíncronas, liberando a thread
+ * do container durante a espera. A linguagem é propagada para a thread de trabalho; os atributos da requisição não.
+ * <p>
+ * Os métodos <code>naoModificado</code> implementam o GET condicional a partir da versão e da data de alteração das entidades:
+ *
+ * <pre>
+ * final Pedido pedido = this.service.buscar(id);
+ * if (this.naoModificado(request, pedido)) {
+ *     return null;
+ * }
+ * </pre>
+ *
+ * Listas grandes podem ser transmitidas registro a registro com <code>transmitir</code>, sem montar a lista inteira em memória.
  *
  * @author Rafael Braga.
  */
@@ -15,4 +49,144 @@ public abstract class AbstractController {
     @Autowired
     protected MessageByLocaleService mensagens;
 
+    /** Executor das requisições assíncronas. */
+    @Autowired(required = false)
+    @Qualifier(WebConfiguration.CONTROLLER_TASK_EXECUTOR)
+    private Executor executor;
+
+    /** {@link ObjectMapper} da aplicação, usado nas respostas transmitidas. */
+    @Autowired(required = false)
+    private ObjectMapper objectMapper;
+
+    /**
+     * Executa a tarefa no executor de requisições assíncronas. O tempo máximo é o padrão configurado em <code>web.async.timeoutMillis</code>.
+     * Em caso de erro, o {@link CompletableFuture} é concluído com a própria exceção da tarefa, para que seja tratada pelo controller advice.
+     *
+     * @param tarefa a tarefa.
+     * @return o {@link CompletableFuture} com o resultado da tarefa.
+     */
+    protected <T> CompletableFuture<T> executarAssincrono(final Supplier<T> tarefa) {
+        if (this.executor == null) {
+            throw new IllegalStateException("Executor '" + WebConfiguration.CONTROLLER_TASK_EXECUTOR + "' não configurado.");
+        }
+        final CompletableFuture<T> futuro = new CompletableFuture<>();
+        this.executor.execute(() -> {
+            if (futuro.isDone()) {
+                return;
+            }
+            try {
+                futuro.complete(tarefa.get());
+            } catch (final RuntimeException | Error e) {
+                futuro.completeExceptionally(e);
+            }
+        });
+        return futuro;
+    }
+
+    /**
+     * Executa a tarefa no executor de requisições assíncronas com um tempo máximo específico.
+     *
+     * @param tarefa a tarefa.
+     * @param timeoutMillis o tempo máximo da requisição, em milissegundos.
+     * @return o {@link DeferredResult} com o resultado da tarefa.
+     */
+    protected <T> DeferredResult<T> executarAssincrono(final Supplier<T> tarefa, final long timeoutMillis) {
+        return this.aguardar(this.executarAssincrono(tarefa), timeoutMillis);
+    }
+
+    /**
+     * Responde a requisição quando a etapa for concluída, sem ocupar a thread do container. Se o tempo máximo for atingido, a etapa é
+     * cancelada e a requisição falha com o status 503.
+     *
+     * @param etapa a etapa assíncrona, por exemplo retornada por um serviço.
+     * @param timeoutMillis o tempo máximo da requisição, em milissegundos.
+     * @return o {@link DeferredResult} com o resultado da etapa.
+     */
+    protected <T> DeferredResult<T> aguardar(final CompletionStage<T> etapa, final long timeoutMillis) {
+        final DeferredResult<T> resultado = new DeferredResult<>(timeoutMillis);
+        resultado.onTimeout(() -> etapa.toCompletableFuture().cancel(false));
+        etapa.whenComplete((valor, erro) -> {
+            if (erro == null) {
+                resultado.setResult(valor);
+            } else if (erro instanceof CompletionException && erro.getCause() != null) {
+                resultado.setErrorResult(erro.getCause());
+            } else {
+                resultado.setErrorResult(erro);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Transmite os registros ao cliente à medida que são lidos e convertidos, com o tipo de conteúdo do formato escolhido. A escrita ocorre no
+     * executor de requisições assíncronas e está sujeita ao tempo máximo de <code>web.async.timeoutMillis</code>.
+     *
+     * <pre>
+     * return this.transmitir(JsonStreamingResponseBody.of(this.service.pesquisar(filtro), StreamingFormat.JSON_ARRAY).map(this.converter));
+     * </pre>
+     *
+     * @param corpo o corpo da resposta.
+     * @return o {@link ResponseEntity} com o corpo transmitido.
+     */
+    protected ResponseEntity<StreamingResponseBody> transmitir(final JsonStreamingResponseBody<?> corpo) {
+        if (!corpo.hasObjectMapper() && this.objectMapper != null) {
+            corpo.setObjectMapper(this.objectMapper);
+        }
+        return ResponseEntity.ok().contentType(corpo.getFormato().getMediaType()).body(corpo);
+    }
+
+    /**
+     * Verifica se a entidade foi alterada desde a versão que o cliente possui, usando os cabeçalhos <code>If-None-Match</code> e
+     * <code>If-Modified-Since</code>. Define os cabeçalhos <code>ETag</code> e <code>Last-Modified</code> da resposta e, se a entidade não foi
+     * alterada, o status 304; nesse caso o controller deve retornar <code>null</code>.
+     *
+     * @param request a requisição.
+     * @param entidade a entidade.
+     * @return <code>true</code> se a entidade não foi alterada.
+     */
+    protected <E extends AbstractEntity<?> & Versionavel> boolean naoModificado(final WebRequest request, final E entidade) {
+        if (entidade.getVersao() == null && entidade.getDataUltimaAlteracao() == null) {
+            return false;
+        }
+        final long ultimaAlteracao = ultimaAlteracao(entidade);
+        final String etag = "W/\"" + entidade.getId() + "-" + (entidade.getVersao() != null ? entidade.getVersao() : ultimaAlteracao) + "\"";
+        return request.checkNotModified(etag, ultimaAlteracao);
+    }
+
+    /**
+     * Verifica se a lista de entidades foi alterada desde a versão que o cliente possui. O <code>ETag</code> é calculado a partir dos
+     * identificadores e das versões das entidades, sem serializar a resposta.
+     *
+     * @param request a requisição.
+     * @param entidades as entidades da resposta.
+     * @return <code>true</code> se nenhuma entidade foi alterada, incluída ou removida.
+     * @see #naoModificado(WebRequest, AbstractEntity)
+     */
+    protected <E extends AbstractEntity<?> & Versionavel> boolean naoModificado(final WebRequest request, final Collection<E> entidades) {
+        long hash = 1;
+        long maisRecente = -1;
+        for (final E entidade : entidades) {
+            if (entidade.getVersao() == null && entidade.getDataUltimaAlteracao() == null) {
+                return false;
+            }
+            final long ultimaAlteracao = ultimaAlteracao(entidade);
+            hash = 31 * hash + Objects.hashCode(entidade.getId());
+            hash = 31 * hash + (entidade.getVersao() != null ? entidade.getVersao() : ultimaAlteracao);
+            maisRecente = Math.max(maisRecente, ultimaAlteracao);
+        }
+        final String etag = "W/\"" + Integer.toHexString(entidades.size()) + "-" + Long.toHexString(hash) + "\"";
+        return request.checkNotModified(etag, maisRecente);
+    }
+
+    /**
+     * Retorna a data da última alteração da entidade em milissegundos, truncada para segundos como no cabeçalho HTTP.
+     *
+     * @param entidade a entidade.
+     * @return a data em milissegundos, ou -1 se não for conhecida.
+     */
+    private static long ultimaAlteracao(final Versionavel entidade) {
+        final Date data = entidade.getDataUltimaAlteracao();
+        return data != null ? data.getTime() / 1000 * 1000 : -1;
+    }
+
 }
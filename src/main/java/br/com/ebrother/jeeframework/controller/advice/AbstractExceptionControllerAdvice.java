@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import br.com.ebrother.jeeframework.controller.AbstractController;
 import br.com.ebrother.jeeframework.exception.GenericException;
 import br.com.ebrother.jeeframework.exception.NenhumRegistroEncontradoException;
+import br.com.ebrother.jeeframework.exception.util.IndicadorTipoException;
 import br.com.ebrother.jeeframework.exception.util.ResponseExceptionDTO;
 
 @ControllerAdvice
@@ -17,15 +18,23 @@ public abstract class AbstractExceptionControllerAdvice extends AbstractControll
 
     @ExceptionHandler(GenericException.class)
     public ResponseEntity<ResponseExceptionDTO> lancarExcecaoNegocio(final HttpServletRequest req, final GenericException e) {
-        final ResponseExceptionDTO response = new ResponseExceptionDTO();
-        response.setMensagem(e.getMensagem());
-        response.setTipo(e.getTipo().getDescricao());
-        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(new ResponseExceptionDTO(e.getMensagem(), e.getTipo()), HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Responde {@link NenhumRegistroEncontradoException} com o status 404 e um {@link ResponseExceptionDTO} com a mensagem constante da
+     * exceção e o tipo {@link IndicadorTipoException#ERRO}, no mesmo formato de {@link GenericException}. Nas versões anteriores a 0.0.2 o
+     * corpo desta resposta era vazio. Cada resposta recebe um DTO novo, que pode ser alterado pelas subclasses.
+     *
+     * @param req a requisição.
+     * @param e a exceção.
+     * @return a resposta.
+     */
     @ExceptionHandler(NenhumRegistroEncontradoException.class)
-    public ResponseEntity<String> lancarExcecaoNenhumRegistroEncontrado(final HttpServletRequest req, final NenhumRegistroEncontradoException e) {
-        return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+    public ResponseEntity<ResponseExceptionDTO> lancarExcecaoNenhumRegistroEncontrado(final HttpServletRequest req,
+            final NenhumRegistroEncontradoException e) {
+        return new ResponseEntity<>(new ResponseExceptionDTO(NenhumRegistroEncontradoException.MENSAGEM, IndicadorTipoException.ERRO),
+                HttpStatus.NOT_FOUND);
     }
 
 }
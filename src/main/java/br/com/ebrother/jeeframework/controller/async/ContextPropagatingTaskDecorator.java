@@ -0,0 +1,86 @@
+package br.com.ebrother.jeeframework.controller.async;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.SimpleLocaleContext;
+import org.springframework.context.i18n.SimpleTimeZoneAwareLocaleContext;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
+import org.springframework.core.task.TaskDecorator;
+
+import br.com.ebrother.jeeframework.metrics.QueryCount;
+import br.com.ebrother.jeeframework.metrics.QueryCounter;
+
+/**
+ * {@link TaskDecorator} que leva para a thread de execução o contexto da thread que submeteu a tarefa: a linguagem
+ * ({@link LocaleContextHolder}), o MDC do log e a contagem de consultas ({@link QueryCounter}). Ao final da tarefa, o contexto anterior da
+ * thread de execução é restaurado.
+ * <p>
+ * A transação não é propagada, pois a conexão e a sessão do Hibernate pertencem à thread que as abriu; a tarefa deve chamar serviços
+ * transacionais, que abrem a própria transação. Os atributos da requisição
+ * ({@link org.springframework.web.context.request.RequestContextHolder}) também não são propagados: a requisição deixa de estar ativa
+ * assim que o controller retorna e é reaproveitada pelo container ao final do tempo máximo, enquanto a tarefa pode continuar executando.
+ * Os valores da requisição necessários à tarefa devem ser lidos pelo controller e passados a ela. Pelo mesmo motivo, a linguagem é
+ * propagada como um valor já resolvido, e não como o {@link LocaleContext} do DispatcherServlet, que consulta a requisição a cada acesso.
+ *
+ * @author Rafael Braga
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Runnable decorate(final Runnable runnable) {
+        final LocaleContext localeContext = resolverLocaleContext(LocaleContextHolder.getLocaleContext());
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        final QueryCount contagem = QueryCounter.atual();
+        return () -> {
+            final LocaleContext localeContextAnterior = LocaleContextHolder.getLocaleContext();
+            final Map<String, String> mdcAnterior = MDC.getCopyOfContextMap();
+            final QueryCount contagemAnterior = QueryCounter.atual();
+            LocaleContextHolder.setLocaleContext(localeContext);
+            definirMdc(mdc);
+            QueryCounter.associar(contagem);
+            try {
+                runnable.run();
+            } finally {
+                LocaleContextHolder.setLocaleContext(localeContextAnterior);
+                definirMdc(mdcAnterior);
+                QueryCounter.associar(contagemAnterior);
+            }
+        };
+    }
+
+    /**
+     * Resolve a linguagem e o fuso horário do contexto na thread que submeteu a tarefa.
+     *
+     * @param localeContext o contexto da thread atual, ou <code>null</code>.
+     * @return um contexto com os valores já resolvidos, ou <code>null</code>.
+     */
+    private static LocaleContext resolverLocaleContext(final LocaleContext localeContext) {
+        if (localeContext == null) {
+            return null;
+        }
+        if (localeContext instanceof TimeZoneAwareLocaleContext) {
+            return new SimpleTimeZoneAwareLocaleContext(localeContext.getLocale(), ((TimeZoneAwareLocaleContext) localeContext).getTimeZone());
+        }
+        return new SimpleLocaleContext(localeContext.getLocale());
+    }
+
+    /**
+     * Substitui o MDC da thread atual.
+     *
+     * @param mdc o novo conteúdo do MDC, ou <code>null</code> para limpá-lo.
+     */
+    private static void definirMdc(final Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+
+}
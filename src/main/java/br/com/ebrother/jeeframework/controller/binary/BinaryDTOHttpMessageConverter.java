@@ -0,0 +1,101 @@
+package br.com.ebrother.jeeframework.controller.binary;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+import br.com.ebrother.jeeframework.exception.util.ResponseExceptionDTO;
+
+/**
+ * Conversor dos DTOs para um formato binário. Atende somente {@link AbstractDTO}, coleções e arrays de {@link AbstractDTO} e
+ * {@link ResponseExceptionDTO}; os demais tipos continuam com o conversor JSON.
+ * <p>
+ * Deve ser registrado depois do conversor JSON, para que o JSON continue sendo o formato das requisições sem <code>Accept</code> ou com
+ * <code>Accept: *&#47;*</code>.
+ *
+ * @author Rafael Braga
+ */
+public class BinaryDTOHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    /** O formato binário. */
+    private final BinaryFormat formato;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param formato o formato binário.
+     */
+    public BinaryDTOHttpMessageConverter(final BinaryFormat formato) {
+        super(formato.criarObjectMapper(), formato.getMediaType());
+        this.formato = formato;
+        // FORMATO BINÁRIO NÃO TEM CHARSET
+        this.setDefaultCharset(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        return suportado(ResolvableType.forClass(clazz)) && super.canRead(clazz, mediaType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRead(final Type type, final Class<?> contextClass, final MediaType mediaType) {
+        final ResolvableType contexto = contextClass != null ? ResolvableType.forClass(contextClass) : null;
+        return suportado(ResolvableType.forType(type, contexto)) && super.canRead(type, contextClass, mediaType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canWrite(final Class<?> clazz, final MediaType mediaType) {
+        return suportado(ResolvableType.forClass(clazz)) && super.canWrite(clazz, mediaType);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O tipo declarado no método do controller permite reconhecer as coleções de DTOs, cujo tipo dos elementos não é conhecido pela classe
+     * do valor.
+     */
+    @Override
+    public boolean canWrite(final Type type, final Class<?> clazz, final MediaType mediaType) {
+        final boolean tipoSuportado = type != null && suportado(ResolvableType.forType(type));
+        return (tipoSuportado || suportado(ResolvableType.forClass(clazz))) && super.canWrite(clazz, mediaType);
+    }
+
+    /**
+     * Verifica se o tipo é um DTO, uma coleção ou array de DTOs ou o DTO de exceção.
+     *
+     * @param resolvableType o tipo.
+     * @return <code>true</code> se o tipo for atendido pelo conversor.
+     */
+    private static boolean suportado(final ResolvableType resolvableType) {
+        ResolvableType tipo = resolvableType;
+        if (tipo.isArray()) {
+            tipo = tipo.getComponentType();
+        } else if (Collection.class.isAssignableFrom(tipo.resolve(Object.class))) {
+            tipo = tipo.asCollection().getGeneric(0);
+        } else if (ResponseExceptionDTO.class.isAssignableFrom(tipo.resolve(Object.class))) {
+            return true;
+        }
+        return AbstractDTO.class.isAssignableFrom(tipo.resolve(Object.class));
+    }
+
+    /**
+     * @return the formato
+     */
+    public BinaryFormat getFormato() {
+        return this.formato;
+    }
+
+}
@@ -0,0 +1,83 @@
+package br.com.ebrother.jeeframework.controller.binary;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Enumerador dos formatos binários aceitos e produzidos para os DTOs, negociados pelos cabeçalhos <code>Accept</code> e
+ * <code>Content-Type</code>.
+ *
+ * @author Rafael Braga
+ */
+public enum BinaryFormat {
+
+    /** Concise Binary Object Representation (RFC 7049). */
+    CBOR(new MediaType("application", "cbor")) {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected JsonFactory criarFactory() {
+            return new CBORFactory();
+        }
+
+    },
+
+    /** Smile, o JSON binário do Jackson. */
+    SMILE(new MediaType("application", "x-jackson-smile")) {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected JsonFactory criarFactory() {
+            return new SmileFactory();
+        }
+
+    };
+
+    /** O tipo de conteúdo do formato. */
+    private final MediaType mediaType;
+
+    /**
+     * Construtor do enumerador.
+     *
+     * @param mediaType o tipo de conteúdo do formato.
+     */
+    BinaryFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Cria a fábrica de geradores e leitores do formato.
+     *
+     * @return a {@link JsonFactory}.
+     */
+    protected abstract JsonFactory criarFactory();
+
+    /**
+     * Cria um {@link ObjectMapper} do formato com as mesmas configurações do {@link ObjectMapper} JSON padrão do Spring MVC, para que os DTOs
+     * tenham a mesma representação nos dois formatos.
+     *
+     * @return o {@link ObjectMapper}.
+     */
+    public ObjectMapper criarObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper(this.criarFactory());
+        Jackson2ObjectMapperBuilder.json().configure(objectMapper);
+        return objectMapper;
+    }
+
+    /**
+     * @return the mediaType
+     */
+    public MediaType getMediaType() {
+        return this.mediaType;
+    }
+
+}
@@ -0,0 +1,86 @@
+package br.com.ebrother.jeeframework.controller.interceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import br.com.ebrother.jeeframework.metrics.QueryCount;
+import br.com.ebrother.jeeframework.metrics.QueryCounter;
+
+/**
+ * Interceptor que conta as consultas ao banco de dados executadas por requisição e registra um alerta quando o limite configurado é
+ * ultrapassado, sinal típico de consultas N+1.
+ *
+ * @author Rafael Braga
+ */
+public class QueryCountInterceptor extends HandlerInterceptorAdapter {
+
+    /** Atributo da requisição que guarda a contagem entre os despachos assíncronos. */
+    private static final String ATRIBUTO_CONTAGEM = QueryCountInterceptor.class.getName() + ".CONTAGEM";
+
+    /** Logger da classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryCountInterceptor.class);
+
+    /** Número de consultas a partir do qual é registrado um alerta. Zero desabilita. */
+    private final int limiteAlerta;
+
+    /** Número de consultas a partir do qual a requisição falha. Zero desabilita. */
+    private final int limiteFalha;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param limiteAlerta número de consultas a partir do qual é registrado um alerta; zero desabilita.
+     * @param limiteFalha número de consultas a partir do qual a requisição falha; zero desabilita.
+     */
+    public QueryCountInterceptor(final int limiteAlerta, final int limiteFalha) {
+        this.limiteAlerta = limiteAlerta;
+        this.limiteFalha = limiteFalha;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+        final Object existente = request.getAttribute(ATRIBUTO_CONTAGEM);
+        if (existente instanceof QueryCount) {
+            QueryCounter.associar((QueryCount) existente);
+        } else {
+            request.setAttribute(ATRIBUTO_CONTAGEM, QueryCounter.iniciar(request.getMethod() + " " + request.getRequestURI(), this.limiteFalha));
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request, final HttpServletResponse response, final Object handler)
+            throws Exception {
+        QueryCounter.associar(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler, final Exception ex)
+            throws Exception {
+        QueryCounter.finalizar();
+        final Object contagem = request.getAttribute(ATRIBUTO_CONTAGEM);
+        if (contagem instanceof QueryCount) {
+            final QueryCount queryCount = (QueryCount) contagem;
+            if (this.limiteAlerta > 0 && queryCount.getConsultas() > this.limiteAlerta) {
+                LOGGER.warn("{} executou {} consultas em {} ms (limite {}). Verifique consultas N+1.", queryCount.getDescricao(),
+                        queryCount.getConsultas(), queryCount.getTempoMillis(), this.limiteAlerta);
+            } else {
+                LOGGER.debug("{} executou {} consultas em {} ms.", queryCount.getDescricao(), queryCount.getConsultas(), queryCount.getTempoMillis());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,233 @@
+package br.com.ebrother.jeeframework.controller.locale;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.i18n.AbstractLocaleResolver;
+import org.springframework.web.util.CookieGenerator;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Resolvedor de linguagem que não usa a sessão HTTP. A linguagem é obtida, nesta ordem, do parâmetro da requisição, do cookie, do cabeçalho
+ * <code>Accept-Language</code> e, por fim, da linguagem padrão.
+ * <p>
+ * A troca de linguagem pelo {@link org.springframework.web.servlet.i18n.LocaleChangeInterceptor} vale para a requisição atual e, se o
+ * cookie estiver configurado, é gravada nele para as requisições seguintes. A linguagem de cada valor distinto do
+ * <code>Accept-Language</code> é calculada uma única vez e guardada em cache.
+ * <p>
+ * Com linguagens suportadas configuradas, cada linguagem pedida é comparada a elas na ordem de preferência: primeiro pela correspondência do
+ * RFC 4647 (<code>pt-BR</code> atende <code>pt-BR-x-teste</code>) e depois somente pelo idioma (<code>en</code> ou <code>en-GB</code>
+ * atendem <code>en-US</code>). Linguagens sem correspondência resolvem para a linguagem padrão.
+ *
+ * @author Rafael Braga
+ */
+public class StatelessLocaleResolver extends AbstractLocaleResolver {
+
+    /** Logger da classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatelessLocaleResolver.class);
+
+    /** Atributo da requisição que guarda a linguagem já resolvida. */
+    private static final String ATRIBUTO_LOCALE = StatelessLocaleResolver.class.getName() + ".LOCALE";
+
+    /** Número máximo de valores do <code>Accept-Language</code> mantidos em cache. Ao ser atingido, o cache é descartado. */
+    private static final int MAXIMO_CACHE = 512;
+
+    /** Marcador de valor do <code>Accept-Language</code> sem linguagem aceita, para o qual vale a linguagem padrão. */
+    private static final Locale NENHUMA = new Locale("");
+
+    /** Nome do parâmetro da requisição com a linguagem, ou <code>null</code>. */
+    private String paramName;
+
+    /** Gerador do cookie com a linguagem, ou <code>null</code> se o cookie não for usado. */
+    private CookieGenerator cookie;
+
+    /** Linguagens suportadas. Vazio aceita qualquer linguagem. */
+    private List<Locale> supportedLocales = Collections.emptyList();
+
+    /** Linguagem escolhida por valor do cabeçalho <code>Accept-Language</code>. */
+    private final ConcurrentMap<String, Locale> cache = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale resolveLocale(final HttpServletRequest request) {
+        final Object resolvido = request.getAttribute(ATRIBUTO_LOCALE);
+        if (resolvido instanceof Locale) {
+            return (Locale) resolvido;
+        }
+        Locale locale = null;
+        if (this.paramName != null) {
+            locale = this.suportado(request.getParameter(this.paramName));
+        }
+        if (locale == null && this.cookie != null) {
+            final Cookie valor = WebUtils.getCookie(request, this.cookie.getCookieName());
+            locale = valor != null ? this.suportado(valor.getValue()) : null;
+        }
+        if (locale == null) {
+            locale = this.aceita(request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+        }
+        if (locale == null) {
+            locale = this.getDefaultLocale();
+        }
+        request.setAttribute(ATRIBUTO_LOCALE, locale);
+        return locale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLocale(final HttpServletRequest request, final HttpServletResponse response, final Locale locale) {
+        if (locale != null) {
+            request.setAttribute(ATRIBUTO_LOCALE, locale);
+        } else {
+            request.removeAttribute(ATRIBUTO_LOCALE);
+        }
+        if (this.cookie != null && response != null) {
+            if (locale != null) {
+                this.cookie.addCookie(response, locale.toLanguageTag());
+            } else {
+                this.cookie.removeCookie(response);
+            }
+        }
+    }
+
+    /**
+     * Converte o valor do parâmetro ou do cookie em linguagem, se for uma linguagem suportada.
+     *
+     * @param valor o valor, como <code>en</code>, <code>pt-BR</code> ou <code>pt_BR</code>.
+     * @return a linguagem, ou <code>null</code>.
+     */
+    private Locale suportado(final String valor) {
+        if (!StringUtils.hasText(valor)) {
+            return null;
+        }
+        final Locale locale = Locale.forLanguageTag(valor.trim().replace('_', '-'));
+        if (locale.getLanguage().isEmpty()) {
+            return null;
+        }
+        if (this.supportedLocales.isEmpty()) {
+            return locale;
+        }
+        return this.escolher(Collections.singletonList(new Locale.LanguageRange(locale.toLanguageTag())));
+    }
+
+    /**
+     * Retorna a linguagem preferida do cabeçalho <code>Accept-Language</code>, usando o cache.
+     *
+     * @param cabecalho o valor do cabeçalho.
+     * @return a linguagem, ou <code>null</code> se nenhuma for aceita.
+     */
+    private Locale aceita(final String cabecalho) {
+        if (!StringUtils.hasText(cabecalho)) {
+            return null;
+        }
+        Locale locale = this.cache.get(cabecalho);
+        if (locale == null) {
+            locale = this.interpretar(cabecalho);
+            if (this.cache.size() >= MAXIMO_CACHE) {
+                this.cache.clear();
+            }
+            this.cache.putIfAbsent(cabecalho, locale);
+        }
+        return locale != NENHUMA ? locale : null;
+    }
+
+    /**
+     * Interpreta o cabeçalho <code>Accept-Language</code>, respeitando os pesos e as linguagens suportadas.
+     *
+     * @param cabecalho o valor do cabeçalho.
+     * @return a linguagem, ou {@link #NENHUMA}.
+     */
+    private Locale interpretar(final String cabecalho) {
+        final List<Locale.LanguageRange> faixas;
+        try {
+            faixas = Locale.LanguageRange.parse(cabecalho);
+        } catch (final IllegalArgumentException e) {
+            LOGGER.debug("Accept-Language inválido: {}", cabecalho);
+            return NENHUMA;
+        }
+        if (!this.supportedLocales.isEmpty()) {
+            final Locale locale = this.escolher(faixas);
+            return locale != null ? locale : NENHUMA;
+        }
+        for (final Locale.LanguageRange faixa : faixas) {
+            if (faixa.getWeight() > 0 && !faixa.getRange().contains("*")) {
+                return Locale.forLanguageTag(faixa.getRange());
+            }
+        }
+        return NENHUMA;
+    }
+
+    /**
+     * Escolhe a linguagem suportada que atende a primeira linguagem pedida, na ordem de preferência.
+     *
+     * @param faixas as linguagens pedidas, em ordem de preferência.
+     * @return a linguagem suportada, ou <code>null</code> se nenhuma atender.
+     */
+    private Locale escolher(final List<Locale.LanguageRange> faixas) {
+        for (final Locale.LanguageRange faixa : faixas) {
+            if (faixa.getWeight() <= 0 || faixa.getRange().contains("*")) {
+                continue;
+            }
+            final Locale exata = Locale.lookup(Collections.singletonList(faixa), this.supportedLocales);
+            if (exata != null) {
+                return exata;
+            }
+            final String idioma = Locale.forLanguageTag(faixa.getRange()).getLanguage();
+            for (final Locale suportada : this.supportedLocales) {
+                if (suportada.getLanguage().equals(idioma)) {
+                    return suportada;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param paramName the paramName to set
+     */
+    public void setParamName(final String paramName) {
+        this.paramName = StringUtils.hasText(paramName) ? paramName : null;
+    }
+
+    /**
+     * Define o cookie que guarda a linguagem trocada pelo parâmetro. Nome vazio desabilita o cookie.
+     *
+     * @param cookieName o nome do cookie.
+     * @param cookieMaxAge a validade do cookie, em segundos; -1 expira ao fechar o navegador.
+     */
+    public void setCookie(final String cookieName, final int cookieMaxAge) {
+        if (!StringUtils.hasText(cookieName)) {
+            this.cookie = null;
+            return;
+        }
+        final CookieGenerator gerador = new CookieGenerator();
+        gerador.setCookieName(cookieName);
+        gerador.setCookieMaxAge(cookieMaxAge);
+        gerador.setCookieHttpOnly(true);
+        this.cookie = gerador;
+    }
+
+    /**
+     * @param supportedLocales the supportedLocales to set
+     */
+    public void setSupportedLocales(final List<Locale> supportedLocales) {
+        this.supportedLocales = supportedLocales != null ? new ArrayList<>(supportedLocales) : Collections.<Locale>emptyList();
+        this.cache.clear();
+    }
+
+}
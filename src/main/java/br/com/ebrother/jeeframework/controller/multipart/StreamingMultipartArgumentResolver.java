@@ -0,0 +1,53 @@
+package br.com.ebrother.jeeframework.controller.multipart;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartRequest;
+
+/**
+ * Fornece a {@link StreamingMultipartRequest} aos métodos dos controllers que a recebem como parâmetro.
+ *
+ * @author Rafael Braga
+ */
+public class StreamingMultipartArgumentResolver implements HandlerMethodArgumentResolver {
+
+    /** O resolvedor de multipart. */
+    private final StreamingMultipartResolver multipartResolver;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param multipartResolver o resolvedor de multipart.
+     */
+    public StreamingMultipartArgumentResolver(final StreamingMultipartResolver multipartResolver) {
+        this.multipartResolver = multipartResolver;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsParameter(final MethodParameter parameter) {
+        return StreamingMultipartRequest.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer, final NativeWebRequest webRequest,
+            final WebDataBinderFactory binderFactory) {
+        final HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (webRequest.getNativeRequest(MultipartRequest.class) != null || !this.multipartResolver.isStreaming(request)) {
+            throw new MultipartException("A requisição " + request.getRequestURI() + " não é multipart ou não está em web.multipart.streamingPaths.");
+        }
+        return this.multipartResolver.resolveStreaming(request);
+    }
+
+}
@@ -0,0 +1,90 @@
+package br.com.ebrother.jeeframework.controller.multipart;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+/**
+ * Percorre as partes de uma requisição multipart na ordem em que chegam, sem armazená-las em memória ou em arquivos temporários.
+ * <p>
+ * Recebida como parâmetro nos métodos dos controllers cujos caminhos estão em <code>web.multipart.streamingPaths</code>:
+ *
+ * <pre>
+ * &#64;PostMapping("/documentos")
+ * public void enviar(final StreamingMultipartRequest partes) throws IOException {
+ *     while (partes.hasNext()) {
+ *         final StreamingPart parte = partes.next();
+ *         if (!parte.isFormField()) {
+ *             parte.transferTo(this.diretorio.resolve(UUID.randomUUID().toString()));
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Rafael Braga
+ */
+public class StreamingMultipartRequest implements Iterator<StreamingPart> {
+
+    /** As partes do commons-fileupload. */
+    private final FileItemIterator itens;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param itens as partes do commons-fileupload.
+     */
+    StreamingMultipartRequest(final FileItemIterator itens) {
+        this.itens = itens;
+    }
+
+    /**
+     * {@inheritDoc} O restante da parte atual é descartado.
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            return this.itens.hasNext();
+        } catch (final FileUploadException | IOException e) {
+            throw traduzir(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamingPart next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return new StreamingPart(this.itens.next());
+        } catch (final FileUploadException | IOException e) {
+            throw traduzir(e);
+        }
+    }
+
+    /**
+     * Converte as exceções do commons-fileupload nas exceções de multipart do Spring.
+     *
+     * @param e a exceção original.
+     * @return a {@link MultipartException}, ou {@link MaxUploadSizeExceededException} se um limite de tamanho foi ultrapassado.
+     */
+    static MultipartException traduzir(final Exception e) {
+        final Throwable causa = e instanceof FileUploadBase.FileUploadIOException ? e.getCause() : e;
+        if (causa instanceof FileUploadBase.SizeLimitExceededException) {
+            return new MaxUploadSizeExceededException(((FileUploadBase.SizeLimitExceededException) causa).getPermittedSize(), e);
+        }
+        if (causa instanceof FileUploadBase.FileSizeLimitExceededException) {
+            return new MaxUploadSizeExceededException(((FileUploadBase.FileSizeLimitExceededException) causa).getPermittedSize(), e);
+        }
+        return new MultipartException("Não foi possível ler a requisição multipart.", e);
+    }
+
+}
@@ -0,0 +1,93 @@
+package br.com.ebrother.jeeframework.controller.multipart;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.multipart.commons.CommonsMultipartResolver;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * {@link CommonsMultipartResolver} que deixa de processar antecipadamente as requisições dos caminhos de streaming. Nesses caminhos o corpo
+ * da requisição fica intacto e o controller recebe as partes à medida que chegam por meio de uma {@link StreamingMultipartRequest}; nos
+ * demais, os arquivos continuam disponíveis como {@link org.springframework.web.multipart.MultipartFile}.
+ *
+ * @author Rafael Braga
+ */
+public class StreamingMultipartResolver extends CommonsMultipartResolver {
+
+    /** Padrões dos caminhos de streaming, relativos ao mapeamento do servlet. */
+    private String[] streamingPaths = new String[0];
+
+    /** Comparador dos caminhos. */
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    /** Extrai o caminho da requisição da mesma forma que o mapeamento dos controllers. */
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMultipart(final HttpServletRequest request) {
+        return super.isMultipart(request) && !this.isStreaming(request);
+    }
+
+    /**
+     * Verifica se a requisição é multipart e pertence a um caminho de streaming.
+     *
+     * @param request a requisição.
+     * @return <code>true</code> se as partes devem ser lidas sob demanda.
+     */
+    public boolean isStreaming(final HttpServletRequest request) {
+        if (this.streamingPaths.length == 0 || !ServletFileUpload.isMultipartContent(request)) {
+            return false;
+        }
+        final String caminho = this.urlPathHelper.getLookupPathForRequest(request);
+        for (final String padrao : this.streamingPaths) {
+            if (this.pathMatcher.match(padrao, caminho)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inicia a leitura das partes da requisição, aplicando os mesmos limites de tamanho do processamento antecipado.
+     *
+     * @param request a requisição.
+     * @return a {@link StreamingMultipartRequest}.
+     */
+    public StreamingMultipartRequest resolveStreaming(final HttpServletRequest request) {
+        final FileUpload configuracao = this.getFileUpload();
+        final ServletFileUpload upload = new ServletFileUpload();
+        upload.setSizeMax(configuracao.getSizeMax());
+        upload.setFileSizeMax(configuracao.getFileSizeMax());
+        upload.setHeaderEncoding(this.determineEncoding(request));
+        try {
+            return new StreamingMultipartRequest(upload.getItemIterator(request));
+        } catch (final FileUploadException | IOException e) {
+            throw StreamingMultipartRequest.traduzir(e);
+        }
+    }
+
+    /**
+     * @return the streamingPaths
+     */
+    public String[] getStreamingPaths() {
+        return this.streamingPaths;
+    }
+
+    /**
+     * @param streamingPaths the streamingPaths to set
+     */
+    public void setStreamingPaths(final String... streamingPaths) {
+        this.streamingPaths = streamingPaths;
+    }
+
+}
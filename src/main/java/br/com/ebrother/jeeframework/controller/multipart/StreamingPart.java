@@ -0,0 +1,202 @@
+package br.com.ebrother.jeeframework.controller.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Parte de uma requisição multipart lida diretamente do corpo da requisição, à medida que chega.
+ * <p>
+ * O conteúdo só pode ser lido uma vez e somente enquanto esta for a parte atual da {@link StreamingMultipartRequest}; ao avançar para a
+ * próxima parte, o restante desta é descartado.
+ *
+ * @author Rafael Braga
+ */
+public class StreamingPart {
+
+    /** Número máximo de bytes transferidos por chamada a {@link FileChannel#transferFrom}. */
+    private static final long BLOCO_TRANSFERENCIA = 8L * 1024 * 1024;
+
+    /** A parte do commons-fileupload. */
+    private final FileItemStream item;
+
+    /** O conteúdo da parte, aberto no primeiro acesso. */
+    private InputStream conteudo;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param item a parte do commons-fileupload.
+     */
+    StreamingPart(final FileItemStream item) {
+        this.item = item;
+    }
+
+    /**
+     * Retorna o conteúdo da parte. Se um limite de tamanho for ultrapassado durante a leitura, é lançada
+     * {@link org.apache.commons.fileupload.FileUploadBase.FileUploadIOException}.
+     *
+     * @return o {@link InputStream} do conteúdo.
+     * @throws IOException em caso de erro de leitura.
+     */
+    public InputStream getInputStream() throws IOException {
+        if (this.conteudo == null) {
+            this.conteudo = this.item.openStream();
+        }
+        return this.conteudo;
+    }
+
+    /**
+     * Retorna o conteúdo da parte como canal.
+     *
+     * @return o {@link ReadableByteChannel} do conteúdo.
+     * @throws IOException em caso de erro de leitura.
+     */
+    public ReadableByteChannel getChannel() throws IOException {
+        return Channels.newChannel(this.getInputStream());
+    }
+
+    /**
+     * Lê o conteúdo de um campo de formulário.
+     *
+     * @param charset o {@link Charset} do conteúdo.
+     * @return o valor do campo.
+     * @throws IOException em caso de erro de leitura.
+     */
+    public String getString(final Charset charset) throws IOException {
+        return StreamUtils.copyToString(this.getInputStream(), charset);
+    }
+
+    /**
+     * Grava o conteúdo da parte no arquivo, criando-o ou substituindo-o. A gravação usa {@link FileChannel#transferFrom}, sem cópias
+     * intermediárias em memória além do buffer do próprio canal. Se um limite de tamanho for ultrapassado, é lançada
+     * {@link org.springframework.web.multipart.MaxUploadSizeExceededException}.
+     *
+     * @param destino o arquivo de destino.
+     * @return o número de bytes gravados.
+     * @throws IOException em caso de erro de leitura ou gravação.
+     */
+    public long transferTo(final Path destino) throws IOException {
+        try (FileChannel canal = FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return this.transferTo(canal);
+        }
+    }
+
+    /**
+     * Grava o conteúdo da parte no canal a partir da sua posição atual.
+     *
+     * @param destino o {@link FileChannel} de destino.
+     * @return o número de bytes gravados.
+     * @throws IOException em caso de erro de leitura ou gravação.
+     */
+    public long transferTo(final FileChannel destino) throws IOException {
+        final CanalOrigem origem = new CanalOrigem(this.getChannel());
+        final long inicio = destino.position();
+        long posicao = inicio;
+        try {
+            long transferidos;
+            while ((transferidos = destino.transferFrom(origem, posicao, BLOCO_TRANSFERENCIA)) > 0) {
+                posicao += transferidos;
+            }
+        } catch (final FileUploadBase.FileUploadIOException e) {
+            throw StreamingMultipartRequest.traduzir(e);
+        }
+        destino.position(posicao);
+        return posicao - inicio;
+    }
+
+    /**
+     * @return o nome do campo do formulário.
+     */
+    public String getName() {
+        return this.item.getFieldName();
+    }
+
+    /**
+     * @return o nome original do arquivo, ou <code>null</code> para campos de formulário.
+     */
+    public String getOriginalFilename() {
+        return this.item.getName();
+    }
+
+    /**
+     * @return o tipo de conteúdo informado pelo cliente.
+     */
+    public String getContentType() {
+        return this.item.getContentType();
+    }
+
+    /**
+     * @return <code>true</code> se a parte for um campo de formulário e não um arquivo.
+     */
+    public boolean isFormField() {
+        return this.item.isFormField();
+    }
+
+    /**
+     * Canal de origem que guarda o primeiro erro de leitura e o relança nas leituras seguintes, pois {@link FileChannel#transferFrom} descarta o
+     * erro quando parte dos bytes já foi transferida.
+     */
+    private static final class CanalOrigem implements ReadableByteChannel {
+
+        /** O canal do conteúdo. */
+        private final ReadableByteChannel canal;
+
+        /** O primeiro erro de leitura. */
+        private IOException erro;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param canal o canal do conteúdo.
+         */
+        CanalOrigem(final ReadableByteChannel canal) {
+            this.canal = canal;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            if (this.erro != null) {
+                throw this.erro;
+            }
+            try {
+                return this.canal.read(dst);
+            } catch (final IOException e) {
+                this.erro = e;
+                throw e;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isOpen() {
+            return this.canal.isOpen();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() throws IOException {
+            this.canal.close();
+        }
+
+    }
+
+}
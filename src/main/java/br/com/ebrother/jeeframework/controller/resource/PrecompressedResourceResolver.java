@@ -0,0 +1,268 @@
+package br.com.ebrother.jeeframework.controller.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+/**
+ * Resolvedor que serve as variantes pré-compactadas dos recursos estáticos geradas no build, como <code>app.js.br</code> e
+ * <code>app.js.gz</code>, quando o cliente as aceita. Brotli tem preferência sobre gzip. As requisições com <code>Range</code> sempre
+ * recebem o recurso original, pois os intervalos se referem ao conteúdo sem compactação.
+ *
+ * @author Rafael Braga
+ */
+public class PrecompressedResourceResolver extends AbstractResourceResolver {
+
+    /** Codificações suportadas, em ordem de preferência, e as extensões dos arquivos correspondentes. */
+    private static final String[][] CODIFICACOES = { { "br", ".br" }, { "gzip", ".gz" } };
+
+    /** Marcador de variante inexistente no cache. */
+    private static final Resource INEXISTENTE = new PrecompressedResource(null, null, null);
+
+    /** Indica se a existência das variantes é guardada em cache. */
+    private final boolean cache;
+
+    /** Variantes já verificadas, por codificação e caminho. */
+    private final ConcurrentMap<String, Resource> variantes = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor da classe.
+     *
+     * @param cache <code>true</code> para guardar em cache a existência das variantes, como em produção.
+     */
+    public PrecompressedResourceResolver(final boolean cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Resource resolveResourceInternal(final HttpServletRequest request, final String requestPath, final List<? extends Resource> locations,
+            final ResourceResolverChain chain) {
+        final Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null || request == null || request.getHeader(HttpHeaders.RANGE) != null) {
+            return resource;
+        }
+        final String aceitas = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (aceitas == null) {
+            return resource;
+        }
+        for (final String[] codificacao : CODIFICACOES) {
+            if (aceita(aceitas, codificacao[0])) {
+                final Resource variante = this.variante(resource, requestPath, codificacao[0], codificacao[1]);
+                if (variante != INEXISTENTE) {
+                    return variante;
+                }
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Procura a variante compactada do recurso.
+     *
+     * @param resource o recurso original.
+     * @param requestPath o caminho da requisição.
+     * @param codificacao a codificação.
+     * @param extensao a extensão do arquivo compactado.
+     * @return a variante, ou {@link #INEXISTENTE}.
+     */
+    private Resource variante(final Resource resource, final String requestPath, final String codificacao, final String extensao) {
+        if (!this.cache) {
+            return this.criarVariante(resource, codificacao, extensao);
+        }
+        return this.variantes.computeIfAbsent(codificacao + ':' + requestPath, chave -> this.criarVariante(resource, codificacao, extensao));
+    }
+
+    /**
+     * Verifica se a variante compactada existe no sistema de arquivos ou no classpath.
+     *
+     * @param resource o recurso original.
+     * @param codificacao a codificação.
+     * @param extensao a extensão do arquivo compactado.
+     * @return a variante, ou {@link #INEXISTENTE}.
+     */
+    private Resource criarVariante(final Resource resource, final String codificacao, final String extensao) {
+        try {
+            final Resource compactado = resource.createRelative(resource.getFilename() + extensao);
+            if (compactado.exists() && compactado.isReadable()) {
+                return new PrecompressedResource(resource, compactado, codificacao);
+            }
+        } catch (final IOException e) {
+            this.logger.trace("Variante " + extensao + " de " + resource + " indisponível", e);
+        }
+        return INEXISTENTE;
+    }
+
+    /**
+     * Verifica se a codificação consta do cabeçalho <code>Accept-Encoding</code> sem <code>q=0</code>.
+     *
+     * @param aceitas o valor do cabeçalho.
+     * @param codificacao a codificação.
+     * @return <code>true</code> se o cliente aceita a codificação.
+     */
+    private static boolean aceita(final String aceitas, final String codificacao) {
+        for (final String item : aceitas.split(",")) {
+            final String[] partes = item.split(";");
+            if (partes[0].trim().equalsIgnoreCase(codificacao)) {
+                for (int i = 1; i < partes.length; i++) {
+                    final String parametro = partes[i].trim().replace(" ", "");
+                    if (parametro.matches("q=0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String resolveUrlPathInternal(final String resourceUrlPath, final List<? extends Resource> locations, final ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * Variante compactada de um recurso. Mantém o nome e o tipo do recurso original e expõe o conteúdo, o tamanho e o arquivo da variante.
+     */
+    static final class PrecompressedResource extends AbstractResource implements EncodedResource {
+
+        /** O recurso original. */
+        private final Resource original;
+
+        /** O recurso compactado. */
+        private final Resource compactado;
+
+        /** A codificação do conteúdo. */
+        private final String codificacao;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param original o recurso original.
+         * @param compactado o recurso compactado.
+         * @param codificacao a codificação do conteúdo.
+         */
+        PrecompressedResource(final Resource original, final Resource compactado, final String codificacao) {
+            this.original = original;
+            this.compactado = compactado;
+            this.codificacao = codificacao;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return this.compactado.getInputStream();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean exists() {
+            return this.compactado.exists();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isReadable() {
+            return this.compactado.isReadable();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public URL getURL() throws IOException {
+            return this.compactado.getURL();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public URI getURI() throws IOException {
+            return this.compactado.getURI();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public File getFile() throws IOException {
+            return this.compactado.getFile();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long contentLength() throws IOException {
+            return this.compactado.contentLength();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long lastModified() throws IOException {
+            return this.compactado.lastModified();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Resource createRelative(final String relativePath) throws IOException {
+            return this.original.createRelative(relativePath);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getFilename() {
+            return this.original.getFilename();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDescription() {
+            return this.compactado.getDescription();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getContentEncoding() {
+            return this.codificacao;
+        }
+
+    }
+
+}
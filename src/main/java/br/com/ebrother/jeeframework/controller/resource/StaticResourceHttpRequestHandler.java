@@ -0,0 +1,389 @@
+package br.com.ebrother.jeeframework.controller.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.CachingResourceResolver;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.EncodedResource;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * Serve os recursos estáticos da aplicação com URLs versionadas pelo conteúdo, variantes pré-compactadas e envio de arquivos grandes sem cópia
+ * pela JVM.
+ * <p>
+ * Os recursos requisitados pela URL versionada (<code>app-3f2a...e1.js</code>, gerada pelo
+ * {@link org.springframework.web.servlet.resource.ResourceUrlProvider}) recebem <code>Cache-Control</code> imutável de longa duração; os
+ * requisitados pelo nome original são revalidados a cada uso com <code>Last-Modified</code>. Requisições com <code>Range</code> são atendidas
+ * com <code>206 Partial Content</code>. Quando o container suporta <i>sendfile</i> (Tomcat com conector NIO), arquivos a partir de
+ * <code>sendfileMinSize</code> bytes são enviados pelo próprio container diretamente do sistema de arquivos.
+ *
+ * @author Rafael Braga
+ */
+public class StaticResourceHttpRequestHandler extends ResourceHttpRequestHandler {
+
+    /** Atributo do Tomcat que indica o suporte a sendfile. */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+    /** Atributo do Tomcat com o caminho do arquivo enviado por sendfile. */
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+    /** Atributo do Tomcat com a posição inicial do envio por sendfile. */
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+    /** Atributo do Tomcat com a posição final do envio por sendfile. */
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** Atributo da requisição que indica que o recurso foi requisitado pela URL versionada. */
+    private static final String ATRIBUTO_VERSIONADO = StaticResourceHttpRequestHandler.class.getName() + ".VERSIONADO";
+
+    /** Conteúdo vazio entregue ao conversor quando o arquivo é enviado pelo container. */
+    private static final byte[] VAZIO = new byte[0];
+
+    /** Locais dos recursos, como <code>classpath:/static/</code>. */
+    private String[] localizacoes = new String[0];
+
+    /** Valor do <code>Cache-Control</code> dos recursos requisitados pela URL versionada. */
+    private String cacheControlVersionado = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+
+    /** Indica se as variantes pré-compactadas são servidas. */
+    private boolean precompressed = true;
+
+    /** Indica se a resolução dos recursos é guardada em cache, como em produção. */
+    private boolean cache = true;
+
+    /** Tamanho mínimo, em bytes, dos arquivos enviados por sendfile. Zero ou negativo desabilita. */
+    private long sendfileMinSize = 48 * 1024;
+
+    /**
+     * Construtor da classe.
+     */
+    public StaticResourceHttpRequestHandler() {
+        this.setCacheControl(CacheControl.noCache());
+    }
+
+    /**
+     * Resolve os locais e monta a cadeia de resolvedores antes da inicialização padrão.
+     *
+     * @throws Exception em caso de erro na inicialização.
+     */
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (this.getLocations().isEmpty()) {
+            final List<Resource> locais = new ArrayList<>(this.localizacoes.length);
+            for (final String localizacao : this.localizacoes) {
+                locais.add(this.getApplicationContext().getResource(localizacao.trim()));
+            }
+            this.setLocations(locais);
+        }
+        if (this.getResourceResolvers().isEmpty()) {
+            final List<ResourceResolver> resolvedores = new ArrayList<>();
+            if (this.precompressed) {
+                resolvedores.add(new PrecompressedResourceResolver(this.cache));
+            }
+            if (this.cache) {
+                resolvedores.add(new CachingResourceResolver(new ConcurrentMapCache("static-resources")));
+            }
+            resolvedores.add(new VersionResourceResolver().addVersionStrategy(new ContentVersionStrategy(), "/**"));
+            resolvedores.add(new PathResourceResolver());
+            this.setResourceResolvers(resolvedores);
+        }
+        super.afterPropertiesSet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleRequest(final HttpServletRequest request, final HttpServletResponse response) throws ServletException, IOException {
+        super.handleRequest(request, new RespostaRecurso(request, response));
+    }
+
+    /**
+     * Resolve o recurso, registra se ele foi requisitado pela URL versionada e prepara o envio por sendfile quando possível.
+     *
+     * @param request a requisição.
+     * @return o recurso, ou <code>null</code> se não existir.
+     * @throws IOException em caso de erro de leitura.
+     */
+    @Override
+    protected Resource getResource(final HttpServletRequest request) throws IOException {
+        final Resource resource = super.getResource(request);
+        if (resource == null) {
+            return null;
+        }
+        final String caminho = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        final boolean versionado = caminho != null && !StringUtils.getFilename(caminho).equals(resource.getFilename());
+        request.setAttribute(ATRIBUTO_VERSIONADO, versionado);
+        if (this.sendfileMinSize > 0 && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null) {
+            final File arquivo = arquivo(resource);
+            if (arquivo != null && arquivo.length() >= this.sendfileMinSize) {
+                return resource instanceof EncodedResource ? new RecursoSendfileCodificado(request, resource, arquivo)
+                        : new RecursoSendfile(request, resource, arquivo);
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Informa que a resposta varia conforme o <code>Accept-Encoding</code> quando as variantes pré-compactadas estão habilitadas.
+     *
+     * @param response a resposta.
+     * @param resource o recurso.
+     * @param mediaType o tipo do conteúdo.
+     * @throws IOException em caso de erro de leitura.
+     */
+    @Override
+    protected void setHeaders(final HttpServletResponse response, final Resource resource, final MediaType mediaType) throws IOException {
+        super.setHeaders(response, resource, mediaType);
+        if (this.precompressed) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    /**
+     * Retorna o arquivo do recurso, se ele estiver no sistema de arquivos.
+     *
+     * @param resource o recurso.
+     * @return o {@link File}, ou <code>null</code> se o recurso estiver em um jar ou não for um arquivo.
+     */
+    private static File arquivo(final Resource resource) {
+        try {
+            final File arquivo = resource.getFile();
+            return arquivo.isFile() ? arquivo : null;
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param localizacoes os locais dos recursos, como <code>classpath:/static/</code> ou <code>file:/var/www/</code>.
+     */
+    public void setLocalizacoes(final String... localizacoes) {
+        this.localizacoes = localizacoes;
+    }
+
+    /**
+     * @param maxAgeDays o tempo, em dias, de cache dos recursos requisitados pela URL versionada.
+     */
+    public void setCacheMaxAgeDays(final int maxAgeDays) {
+        this.cacheControlVersionado = CacheControl.maxAge(maxAgeDays, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+    }
+
+    /**
+     * @param precompressed the precompressed to set
+     */
+    public void setPrecompressed(final boolean precompressed) {
+        this.precompressed = precompressed;
+    }
+
+    /**
+     * @param cache the cache to set
+     */
+    public void setCache(final boolean cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * @param sendfileMinSize the sendfileMinSize to set
+     */
+    public void setSendfileMinSize(final long sendfileMinSize) {
+        this.sendfileMinSize = sendfileMinSize;
+    }
+
+    /**
+     * Resposta que aplica o <code>Cache-Control</code> imutável aos recursos requisitados pela URL versionada.
+     */
+    private final class RespostaRecurso extends HttpServletResponseWrapper {
+
+        /** A requisição. */
+        private final HttpServletRequest request;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param request a requisição.
+         * @param response a resposta original.
+         */
+        RespostaRecurso(final HttpServletRequest request, final HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setHeader(final String name, final String value) {
+            if (HttpHeaders.CACHE_CONTROL.equalsIgnoreCase(name) && Boolean.TRUE.equals(this.request.getAttribute(ATRIBUTO_VERSIONADO))) {
+                super.setHeader(name, StaticResourceHttpRequestHandler.this.cacheControlVersionado);
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+    }
+
+    /**
+     * Recurso cujo conteúdo é enviado pelo container via sendfile. Ao ser lido pelo conversor, registra o arquivo nos atributos da requisição e
+     * entrega um conteúdo vazio; o tamanho informado continua sendo o do arquivo.
+     */
+    private static class RecursoSendfile extends AbstractResource {
+
+        /** A requisição. */
+        private final HttpServletRequest request;
+
+        /** O recurso resolvido. */
+        private final Resource resource;
+
+        /** O arquivo do recurso. */
+        private final File arquivo;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param request a requisição.
+         * @param resource o recurso resolvido.
+         * @param arquivo o arquivo do recurso.
+         */
+        RecursoSendfile(final HttpServletRequest request, final Resource resource, final File arquivo) {
+            this.request = request;
+            this.resource = resource;
+            this.arquivo = arquivo;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public InputStream getInputStream() throws IOException {
+            this.request.setAttribute(SENDFILE_FILENAME, this.arquivo.getAbsolutePath());
+            this.request.setAttribute(SENDFILE_START, 0L);
+            this.request.setAttribute(SENDFILE_END, this.arquivo.length());
+            return new ByteArrayInputStream(VAZIO);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean exists() {
+            return this.arquivo.exists();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public URL getURL() throws IOException {
+            return this.resource.getURL();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public URI getURI() throws IOException {
+            return this.resource.getURI();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public File getFile() {
+            return this.arquivo;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long contentLength() {
+            return this.arquivo.length();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long lastModified() throws IOException {
+            return this.resource.lastModified();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getFilename() {
+            return this.resource.getFilename();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDescription() {
+            return this.resource.getDescription();
+        }
+
+        /**
+         * @return the resource
+         */
+        Resource getResource() {
+            return this.resource;
+        }
+
+    }
+
+    /**
+     * Variante pré-compactada enviada via sendfile.
+     */
+    private static final class RecursoSendfileCodificado extends RecursoSendfile implements EncodedResource {
+
+        /**
+         * Construtor da classe.
+         *
+         * @param request a requisição.
+         * @param resource o recurso resolvido, pré-compactado.
+         * @param arquivo o arquivo do recurso.
+         */
+        RecursoSendfileCodificado(final HttpServletRequest request, final Resource resource, final File arquivo) {
+            super(request, resource, arquivo);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getContentEncoding() {
+            return ((EncodedResource) this.getResource()).getContentEncoding();
+        }
+
+    }
+
+}
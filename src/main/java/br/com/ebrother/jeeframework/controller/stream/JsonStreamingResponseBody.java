@@ -0,0 +1,385 @@
+package br.com.ebrother.jeeframework.controller.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.ebrother.jeeframework.converter.Converter;
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+import br.com.ebrother.jeeframework.model.AbstractEntity;
+
+/**
+ * Corpo de resposta que serializa os registros um a um à medida que são lidos da origem, como array JSON ou NDJSON, sem montar a lista
+ * inteira em memória.
+ * <p>
+ * A escrita é bloqueante: se o cliente lê devagar, a leitura da origem aguarda o envio dos registros anteriores, e se o cliente desconecta a
+ * escrita falha e a origem é fechada sem ser percorrida até o fim. Além do buffer do gerador JSON e do buffer da resposta, nada é acumulado.
+ * <p>
+ * A origem é percorrida na thread do executor assíncrono, depois que o método do controller retornou. Cursores do banco de dados precisam
+ * portanto ser abertos e percorridos dentro de uma transação própria:
+ *
+ * <pre>
+ * return this.transmitir(JsonStreamingResponseBody.of(() -&gt; this.dao.streamAll(), StreamingFormat.NDJSON)
+ *         .map(this.converter::convertToDTO)
+ *         .withTransaction(this.transacaoLeitura));
+ * </pre>
+ *
+ * A transmissão está sujeita ao tempo máximo das requisições assíncronas (<code>web.async.timeoutMillis</code>).
+ *
+ * @author Rafael Braga
+ *
+ * @param <T> o tipo dos registros transmitidos.
+ */
+public final class JsonStreamingResponseBody<T> implements StreamingResponseBody {
+
+    /** Logger da classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonStreamingResponseBody.class);
+
+    /** Número padrão de registros entre cada envio forçado ao cliente. */
+    private static final int REGISTROS_POR_ENVIO_PADRAO = 100;
+
+    /** Abre a origem dos registros, já convertidos. */
+    private final Supplier<? extends Iterator<? extends T>> origem;
+
+    /** O formato da resposta. */
+    private final StreamingFormat formato;
+
+    /** Transação em que a origem é aberta e percorrida, ou <code>null</code>. */
+    private TransactionOperations transacao;
+
+    /** O {@link ObjectMapper} usado na serialização, ou <code>null</code> para o padrão. */
+    private ObjectMapper objectMapper;
+
+    /** Número de registros entre cada envio forçado ao cliente. O primeiro registro é sempre enviado imediatamente. */
+    private int registrosPorEnvio = REGISTROS_POR_ENVIO_PADRAO;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param origem abre a origem dos registros.
+     * @param formato o formato da resposta.
+     */
+    private JsonStreamingResponseBody(final Supplier<? extends Iterator<? extends T>> origem, final StreamingFormat formato) {
+        this.origem = origem;
+        this.formato = formato;
+    }
+
+    /**
+     * Cria a resposta a partir de um iterador. Se o iterador for {@link AutoCloseable}, como o
+     * {@link br.com.ebrother.jeeframework.dao.util.ScrollableResultStream}, ele é fechado ao final.
+     *
+     * @param itens os registros.
+     * @param formato o formato da resposta.
+     * @return o {@link JsonStreamingResponseBody}.
+     */
+    public static <T> JsonStreamingResponseBody<T> of(final Iterator<? extends T> itens, final StreamingFormat formato) {
+        return new JsonStreamingResponseBody<>(() -> itens, formato);
+    }
+
+    /**
+     * Cria a resposta a partir de um {@link Stream}, fechado ao final.
+     *
+     * @param itens os registros.
+     * @param formato o formato da resposta.
+     * @return o {@link JsonStreamingResponseBody}.
+     */
+    public static <T> JsonStreamingResponseBody<T> of(final Stream<? extends T> itens, final StreamingFormat formato) {
+        return new JsonStreamingResponseBody<>(() -> new IteradorStream<>(itens), formato);
+    }
+
+    /**
+     * Cria a resposta a partir de uma origem aberta somente no início da transmissão, dentro da transação informada em
+     * {@link #withTransaction(TransactionOperations)}.
+     *
+     * @param origem abre os registros; se o iterador for {@link AutoCloseable}, ele é fechado ao final.
+     * @param formato o formato da resposta.
+     * @return o {@link JsonStreamingResponseBody}.
+     */
+    public static <T> JsonStreamingResponseBody<T> of(final Supplier<? extends Iterator<? extends T>> origem, final StreamingFormat formato) {
+        return new JsonStreamingResponseBody<>(origem, formato);
+    }
+
+    /**
+     * Converte cada registro antes da serialização, um de cada vez.
+     *
+     * @param conversao a conversão de cada registro.
+     * @return um novo {@link JsonStreamingResponseBody} com as mesmas configurações.
+     */
+    public <R> JsonStreamingResponseBody<R> map(final Function<? super T, ? extends R> conversao) {
+        final Supplier<? extends Iterator<? extends T>> anterior = this.origem;
+        final JsonStreamingResponseBody<R> convertido = new JsonStreamingResponseBody<>(() -> new IteradorConvertido<>(anterior.get(), conversao),
+                this.formato);
+        convertido.transacao = this.transacao;
+        convertido.objectMapper = this.objectMapper;
+        convertido.registrosPorEnvio = this.registrosPorEnvio;
+        return convertido;
+    }
+
+    /**
+     * Converte cada entidade em DTO com o converter, uma de cada vez.
+     *
+     * @param converter o {@link Converter}.
+     * @return um novo {@link JsonStreamingResponseBody} com os DTOs.
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends AbstractEntity<?>, D extends AbstractDTO> JsonStreamingResponseBody<D> map(final Converter<E, D> converter) {
+        return this.map(item -> converter.convertToDTO((E) item));
+    }
+
+    /**
+     * Abre e percorre a origem dentro da transação, normalmente um {@link org.springframework.transaction.support.TransactionTemplate}
+     * somente-leitura.
+     *
+     * @param operacoes a transação.
+     * @return este {@link JsonStreamingResponseBody}.
+     */
+    public JsonStreamingResponseBody<T> withTransaction(final TransactionOperations operacoes) {
+        this.transacao = operacoes;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        if (this.transacao == null) {
+            this.escrever(outputStream);
+            return;
+        }
+        try {
+            this.transacao.execute(status -> {
+                try {
+                    this.escrever(outputStream);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Percorre a origem e escreve os registros, enviando-os ao cliente a cada {@link #registrosPorEnvio} registros. O fim do array só é
+     * escrito quando a origem termina sem erro, de modo que uma transmissão interrompida resulta em JSON inválido e o cliente percebe a
+     * falha.
+     *
+     * @param outputStream o corpo da resposta.
+     * @throws IOException em caso de erro de escrita, inclusive quando o cliente desconecta.
+     */
+    private void escrever(final OutputStream outputStream) throws IOException {
+        final Iterator<? extends T> itens = this.origem.get();
+        long escritos = 0;
+        try (JsonGenerator gerador = this.getObjectMapper().getFactory().createGenerator(outputStream)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // UMA FALHA NO MEIO DA TRANSMISSÃO NÃO PODE PRODUZIR UM JSON VÁLIDO E TRUNCADO
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            gerador.setRootValueSeparator(null);
+            if (this.formato == StreamingFormat.JSON_ARRAY) {
+                gerador.writeStartArray();
+            }
+            while (itens.hasNext()) {
+                gerador.writeObject(itens.next());
+                if (this.formato == StreamingFormat.NDJSON) {
+                    gerador.writeRaw('\n');
+                }
+                escritos++;
+                if (escritos == 1 || escritos % this.registrosPorEnvio == 0) {
+                    gerador.flush();
+                }
+            }
+            if (this.formato == StreamingFormat.JSON_ARRAY) {
+                gerador.writeEndArray();
+            }
+            gerador.flush();
+        } catch (final IOException e) {
+            LOGGER.debug("Transmissão interrompida após {} registros: {}", escritos, e.toString());
+            throw e;
+        } finally {
+            fechar(itens);
+        }
+    }
+
+    /**
+     * Fecha a origem, se ela mantiver recursos abertos.
+     *
+     * @param itens a origem.
+     */
+    private static void fechar(final Iterator<?> itens) {
+        if (itens instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) itens).close();
+            } catch (final Exception e) {
+                LOGGER.warn("Erro ao fechar a origem da transmissão.", e);
+            }
+        }
+    }
+
+    /**
+     * @return the formato
+     */
+    public StreamingFormat getFormato() {
+        return this.formato;
+    }
+
+    /**
+     * @return o {@link ObjectMapper} configurado, ou o padrão.
+     */
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper != null ? this.objectMapper : MapperPadrao.MAPPER;
+    }
+
+    /**
+     * @return <code>true</code> se um {@link ObjectMapper} foi configurado.
+     */
+    public boolean hasObjectMapper() {
+        return this.objectMapper != null;
+    }
+
+    /**
+     * @param objectMapper the objectMapper to set
+     */
+    public void setObjectMapper(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param registrosPorEnvio the registrosPorEnvio to set
+     */
+    public void setRegistrosPorEnvio(final int registrosPorEnvio) {
+        this.registrosPorEnvio = Math.max(1, registrosPorEnvio);
+    }
+
+    /**
+     * Iterador que converte cada registro da origem no momento em que é lido.
+     *
+     * @param <O> o tipo dos registros da origem.
+     * @param <R> o tipo dos registros convertidos.
+     */
+    private static final class IteradorConvertido<O, R> implements Iterator<R>, AutoCloseable {
+
+        /** A origem. */
+        private final Iterator<? extends O> origem;
+
+        /** A conversão. */
+        private final Function<? super O, ? extends R> conversao;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param origem a origem.
+         * @param conversao a conversão.
+         */
+        IteradorConvertido(final Iterator<? extends O> origem, final Function<? super O, ? extends R> conversao) {
+            this.origem = origem;
+            this.conversao = conversao;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return this.origem.hasNext();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public R next() {
+            return this.conversao.apply(this.origem.next());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            fechar(this.origem);
+        }
+
+    }
+
+    /**
+     * Iterador de um {@link Stream} que o fecha ao final.
+     *
+     * @param <O> o tipo dos registros.
+     */
+    private static final class IteradorStream<O> implements Iterator<O>, AutoCloseable {
+
+        /** O {@link Stream}. */
+        private final Stream<? extends O> stream;
+
+        /** O iterador do {@link Stream}. */
+        private final Iterator<? extends O> iterador;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param stream o {@link Stream}.
+         */
+        IteradorStream(final Stream<? extends O> stream) {
+            this.stream = stream;
+            this.iterador = stream.iterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return this.iterador.hasNext();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public O next() {
+            return this.iterador.next();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            this.stream.close();
+        }
+
+    }
+
+    /**
+     * {@link ObjectMapper} padrão, criado somente no primeiro uso.
+     */
+    private static final class MapperPadrao {
+
+        /** O {@link ObjectMapper} padrão. */
+        private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+        /**
+         * Construtor privado.
+         */
+        private MapperPadrao() {
+            // CLASSE UTILITÁRIA
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package br.com.ebrother.jeeframework.controller.stream;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Enumerador dos formatos das respostas transmitidas incrementalmente.
+ *
+ * @author Rafael Braga
+ */
+public enum StreamingFormat {
+
+    /** Um único array JSON, compatível com os clientes que esperam uma lista. */
+    JSON_ARRAY(MediaType.APPLICATION_JSON_UTF8),
+
+    /** Um objeto JSON por linha (<i>newline delimited JSON</i>), que o cliente pode processar à medida que recebe. */
+    NDJSON(new MediaType("application", "x-ndjson"));
+
+    /** O tipo de conteúdo da resposta. */
+    private final MediaType mediaType;
+
+    /**
+     * Construtor do enumerador.
+     *
+     * @param mediaType o tipo de conteúdo da resposta.
+     */
+    StreamingFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * @return the mediaType
+     */
+    public MediaType getMediaType() {
+        return this.mediaType;
+    }
+
+}
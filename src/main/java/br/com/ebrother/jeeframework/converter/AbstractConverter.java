@@ -2,7 +2,14 @@ package br.com.ebrother.jeeframework.converter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import br.com.ebrother.jeeframework.dto.AbstractDTO;
 import br.com.ebrother.jeeframework.model.AbstractEntity;
@@ -17,12 +24,24 @@ import br.com.ebrother.jeeframework.model.AbstractEntity;
  */
 public abstract class AbstractConverter<E extends AbstractEntity<? extends Serializable>, D extends AbstractDTO> implements Converter<E, D> {
 
+    /** Propriedade de sistema com o número de threads do pool de conversão paralela. */
+    public static final String PROPRIEDADE_PARALELISMO = "jeeframework.converter.parallelism";
+
+    /**
+     * Tamanho mínimo da lista para que a conversão seja feita em paralelo. O padrão desabilita o modo paralelo, que só deve ser usado quando
+     * a conversão não depender de carregamento tardio do Hibernate, pois a sessão não pode ser acessada por várias threads.
+     */
+    private int limiteParalelo = Integer.MAX_VALUE;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<E> convertToEntityList(final List<D> dtos) {
-        final List<E> entities = new ArrayList<>();
+        if (dtos.size() >= this.limiteParalelo) {
+            return converterParalelo(dtos, this::convertToEntity);
+        }
+        final List<E> entities = new ArrayList<>(dtos.size());
         for (final D dto : dtos) {
             entities.add(this.convertToEntity(dto));
         }
@@ -34,11 +53,102 @@ public abstract class AbstractConverter<E extends AbstractEntity<? extends Seria
      */
     @Override
     public List<D> convertToDTOList(final List<E> entities) {
-        final List<D> dtos = new ArrayList<>();
+        if (entities.size() >= this.limiteParalelo) {
+            return converterParalelo(entities, this::convertToDTO);
+        }
+        final List<D> dtos = new ArrayList<>(entities.size());
         for (final E entity : entities) {
             dtos.add(this.convertToDTO(entity));
         }
         return dtos;
     }
 
+    /**
+     * Converte as entidades para DTOs sob demanda, à medida que o {@link Stream} é consumido.
+     *
+     * @param entities as entidades.
+     * @return o {@link Stream} de DTOs.
+     */
+    public Stream<D> convertToDTOStream(final Iterable<E> entities) {
+        return StreamSupport.stream(entities.spliterator(), false).map(this::convertToDTO);
+    }
+
+    /**
+     * Converte as entidades para DTOs sob demanda, à medida que o {@link Stream} é consumido.
+     *
+     * @param entities o {@link Stream} de entidades.
+     * @return o {@link Stream} de DTOs.
+     */
+    public Stream<D> convertToDTOStream(final Stream<E> entities) {
+        return entities.map(this::convertToDTO);
+    }
+
+    /**
+     * Converte os DTOs para entidades sob demanda, à medida que o {@link Stream} é consumido.
+     *
+     * @param dtos os DTOs.
+     * @return o {@link Stream} de entidades.
+     */
+    public Stream<E> convertToEntityStream(final Iterable<D> dtos) {
+        return StreamSupport.stream(dtos.spliterator(), false).map(this::convertToEntity);
+    }
+
+    /**
+     * Converte os DTOs para entidades sob demanda, à medida que o {@link Stream} é consumido.
+     *
+     * @param dtos o {@link Stream} de DTOs.
+     * @return o {@link Stream} de entidades.
+     */
+    public Stream<E> convertToEntityStream(final Stream<D> dtos) {
+        return dtos.map(this::convertToEntity);
+    }
+
+    /**
+     * Converte a lista em paralelo no pool de conversão, preservando a ordem. Cada posição da lista de destino, criada já com o tamanho
+     * final, é preenchida por uma única thread, sem alteração estrutural.
+     *
+     * @param origem a lista de origem.
+     * @param conversao a conversão de cada elemento.
+     * @return a lista convertida, que pode ser alterada como a da conversão sequencial.
+     */
+    private static <O, T> List<T> converterParalelo(final List<O> origem, final Function<O, T> conversao) {
+        final List<O> indexada = origem instanceof RandomAccess ? origem : new ArrayList<>(origem);
+        final List<T> convertidos = new ArrayList<>(Collections.<T> nCopies(indexada.size(), null));
+        PoolConversao.POOL.submit(() -> IntStream.range(0, indexada.size()).parallel().forEach(i -> convertidos.set(i, conversao.apply(indexada.get(i)))))
+                .join();
+        return convertidos;
+    }
+
+    /**
+     * @return the limiteParalelo
+     */
+    public int getLimiteParalelo() {
+        return this.limiteParalelo;
+    }
+
+    /**
+     * @param limiteParalelo the limiteParalelo to set
+     */
+    public void setLimiteParalelo(final int limiteParalelo) {
+        this.limiteParalelo = limiteParalelo;
+    }
+
+    /**
+     * Pool limitado usado nas conversões paralelas, criado somente no primeiro uso.
+     */
+    private static final class PoolConversao {
+
+        /** O pool de conversão. */
+        private static final ForkJoinPool POOL = new ForkJoinPool(
+                Integer.getInteger(PROPRIEDADE_PARALELISMO, Math.max(1, Runtime.getRuntime().availableProcessors() - 1)));
+
+        /**
+         * Construtor privado.
+         */
+        private PoolConversao() {
+            // CLASSE UTILITÁRIA
+        }
+
+    }
+
 }
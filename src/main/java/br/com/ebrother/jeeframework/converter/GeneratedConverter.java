@@ -0,0 +1,387 @@
+package br.com.ebrother.jeeframework.converter;
+
+import java.beans.PropertyDescriptor;
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cglib.beans.BeanCopier;
+import org.springframework.cglib.reflect.FastClass;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+import br.com.ebrother.jeeframework.model.AbstractEntity;
+
+/**
+ * Converter cujo mapeamento campo a campo é gerado em bytecode na primeira instanciação, sem uso de reflexão durante a conversão.
+ * <p>
+ * As propriedades com o mesmo nome na entidade e no DTO são copiadas diretamente pelos getters e setters. Propriedades que referenciam outras
+ * entidades ou DTOs, inclusive em coleções, são convertidas pelos converters registrados para os respectivos tipos; os converters do contexto
+ * Spring são registrados automaticamente; uma entidade ou DTO aninhado sem converter registrado resulta em {@link IllegalStateException}.
+ * Referências repetidas e ciclos do grafo são convertidos uma única vez. As coleções de destino são criadas conforme o tipo declarado no
+ * setter, como {@link TreeSet} para {@link SortedSet}, preservando o comparador da origem. Propriedades de mesmo nome e tipos incompatíveis
+ * ficam com o valor padrão e são registradas no log na criação do converter. Subclasses podem sobrescrever
+ * {@link #convertToDTO(AbstractEntity)} e {@link #convertToEntity(AbstractDTO)} para complementar o mapeamento.
+ *
+ * @author Rafael Braga
+ *
+ * @param <E> a classe de Entidade.
+ * @param <D> a classe de DTO.
+ */
+public abstract class GeneratedConverter<E extends AbstractEntity<? extends Serializable>, D extends AbstractDTO> extends AbstractConverter<E, D> {
+
+    /**
+     * Objetos já convertidos na conversão em andamento na thread, pela classe de destino e pela identidade da origem, para preservar
+     * referências repetidas e interromper ciclos. A classe de destino faz parte da chave porque o mesmo objeto pode ser convertido para
+     * classes diferentes por converters diferentes na mesma conversão.
+     */
+    private static final ThreadLocal<Map<Class<?>, Map<Object, Object>>> CONVERTIDOS = new ThreadLocal<>();
+
+    /** Logger da classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedConverter.class);
+
+    /** A classe da entidade. */
+    private final Class<E> entityClass;
+
+    /** A classe do DTO. */
+    private final Class<D> dtoClass;
+
+    /** Cópia gerada de entidade para DTO. */
+    private final BeanCopier copierToDTO;
+
+    /** Cópia gerada de DTO para entidade. */
+    private final BeanCopier copierToEntity;
+
+    /** Conversão das propriedades na cópia de entidade para DTO. */
+    private final org.springframework.cglib.core.Converter conversorToDTO;
+
+    /** Conversão das propriedades na cópia de DTO para entidade. */
+    private final org.springframework.cglib.core.Converter conversorToEntity;
+
+    /** Instanciação gerada do DTO. */
+    private final FastClass fastDTO;
+
+    /** Instanciação gerada da entidade. */
+    private final FastClass fastEntity;
+
+    /** Tipo dos elementos das coleções do DTO, pelo nome do setter. */
+    private final Map<String, Class<?>> elementosDTO;
+
+    /** Tipo dos elementos das coleções da entidade, pelo nome do setter. */
+    private final Map<String, Class<?>> elementosEntity;
+
+    /** Converters registrados, pela classe de entidade ou de DTO. */
+    private final Map<Class<?>, Converter<?, ?>> conversores = new ConcurrentHashMap<>();
+
+    /** Converters já resolvidos para subclasses e proxies. */
+    private final Map<Class<?>, Converter<?, ?>> conversoresResolvidos = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor da classe. As classes de entidade e DTO são obtidas dos parâmetros genéricos da subclasse.
+     */
+    @SuppressWarnings("unchecked")
+    protected GeneratedConverter() {
+        final Class<?>[] tipos = GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(this.getClass()), GeneratedConverter.class);
+        if (tipos == null || tipos[0] == null || tipos[1] == null) {
+            throw new IllegalStateException("Não foi possível resolver os tipos de entidade e DTO de " + this.getClass().getName());
+        }
+        this.entityClass = (Class<E>) tipos[0];
+        this.dtoClass = (Class<D>) tipos[1];
+        this.copierToDTO = BeanCopier.create(this.entityClass, this.dtoClass, true);
+        this.copierToEntity = BeanCopier.create(this.dtoClass, this.entityClass, true);
+        this.fastDTO = FastClass.create(this.dtoClass);
+        this.fastEntity = FastClass.create(this.entityClass);
+        this.elementosDTO = resolverElementos(this.dtoClass);
+        this.elementosEntity = resolverElementos(this.entityClass);
+        verificarCompatibilidade(this.entityClass, this.dtoClass);
+        verificarCompatibilidade(this.dtoClass, this.entityClass);
+        this.conversorToDTO = (valor, alvo, setter) -> this.converterPropriedade(valor, alvo, this.elementosDTO.get(setter));
+        this.conversorToEntity = (valor, alvo, setter) -> this.converterPropriedade(valor, alvo, this.elementosEntity.get(setter));
+        this.registrar(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public D convertToDTO(final E entity) {
+        return this.converter(entity, this.dtoClass, this.fastDTO, this.copierToDTO, this.conversorToDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E convertToEntity(final D dto) {
+        return this.converter(dto, this.entityClass, this.fastEntity, this.copierToEntity, this.conversorToEntity);
+    }
+
+    /**
+     * Registra os converters usados nas propriedades aninhadas.
+     *
+     * @param converters os converters.
+     */
+    @Autowired(required = false)
+    public void setConverters(final List<Converter<?, ?>> converters) {
+        for (final Converter<?, ?> converter : converters) {
+            this.registrar(converter);
+        }
+    }
+
+    /**
+     * Registra um converter para as propriedades aninhadas.
+     *
+     * @param converter o converter.
+     */
+    public void registrar(final Converter<?, ?> converter) {
+        final Class<?>[] tipos = GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(converter.getClass()), Converter.class);
+        if (tipos != null && tipos[0] != null && tipos[1] != null) {
+            this.conversores.putIfAbsent(tipos[0], converter);
+            this.conversores.putIfAbsent(tipos[1], converter);
+            this.conversoresResolvidos.clear();
+        }
+    }
+
+    /**
+     * Converte o objeto usando a cópia gerada.
+     *
+     * @param origem o objeto de origem.
+     * @param classeDestino a classe de destino.
+     * @param fastClass a instanciação gerada do destino.
+     * @param copier a cópia gerada.
+     * @param conversor a conversão das propriedades.
+     * @return o objeto convertido.
+     */
+    private <T> T converter(final Object origem, final Class<T> classeDestino, final FastClass fastClass, final BeanCopier copier,
+            final org.springframework.cglib.core.Converter conversor) {
+        if (origem == null) {
+            return null;
+        }
+        final Map<Class<?>, Map<Object, Object>> atual = CONVERTIDOS.get();
+        final Map<Class<?>, Map<Object, Object>> porDestino = atual != null ? atual : new HashMap<>();
+        final Map<Object, Object> convertidos = porDestino.computeIfAbsent(classeDestino, c -> new IdentityHashMap<>());
+        final Object existente = convertidos.get(origem);
+        if (existente != null) {
+            return classeDestino.cast(existente);
+        }
+        if (atual == null) {
+            CONVERTIDOS.set(porDestino);
+        }
+        try {
+            final T destino = classeDestino.cast(fastClass.newInstance());
+            convertidos.put(origem, destino);
+            copier.copy(origem, destino, conversor);
+            return destino;
+        } catch (final InvocationTargetException e) {
+            throw new IllegalStateException("Não foi possível instanciar " + classeDestino.getName(), e.getTargetException());
+        } finally {
+            if (atual == null) {
+                CONVERTIDOS.remove();
+            }
+        }
+    }
+
+    /**
+     * Converte o valor de uma propriedade para o tipo do setter de destino.
+     *
+     * @param valor o valor de origem.
+     * @param alvo o tipo do setter de destino.
+     * @param elemento o tipo dos elementos, quando o destino for uma coleção.
+     * @return o valor convertido.
+     */
+    private Object converterPropriedade(final Object valor, final Class<?> alvo, final Class<?> elemento) {
+        if (valor == null) {
+            return alvo.isPrimitive() ? valorPadrao(alvo) : null;
+        }
+        if (valor instanceof Collection && Collection.class.isAssignableFrom(alvo)) {
+            return this.converterColecao((Collection<?>) valor, alvo, elemento);
+        }
+        if (ClassUtils.isAssignableValue(alvo, valor)) {
+            return valor;
+        }
+        final Object convertido = this.converterAninhado(valor, alvo);
+        if (convertido != null) {
+            return convertido;
+        }
+        return alvo.isPrimitive() ? valorPadrao(alvo) : null;
+    }
+
+    /**
+     * Converte os elementos de uma coleção.
+     *
+     * @param valores a coleção de origem.
+     * @param alvo o tipo da coleção de destino.
+     * @param elemento o tipo dos elementos de destino.
+     * @return a coleção convertida.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Object> converterColecao(final Collection<?> valores, final Class<?> alvo, final Class<?> elemento) {
+        final Collection<Object> colecao;
+        if (valores instanceof SortedSet && alvo.isAssignableFrom(TreeSet.class)) {
+            colecao = new TreeSet<>((Comparator<Object>) ((SortedSet<?>) valores).comparator());
+        } else if (alvo.isAssignableFrom(ArrayList.class)) {
+            colecao = new ArrayList<>(valores.size());
+        } else {
+            // SET, SORTEDSET E CLASSES CONCRETAS, COMO LINKEDLIST E ENUMSET
+            colecao = CollectionFactory.createCollection(alvo, elemento, valores.size());
+        }
+        for (final Object valor : valores) {
+            if (valor == null || elemento == null || elemento.isInstance(valor)) {
+                colecao.add(valor);
+            } else {
+                colecao.add(this.converterAninhado(valor, elemento));
+            }
+        }
+        return colecao;
+    }
+
+    /**
+     * Converte uma entidade ou DTO aninhado usando o converter registrado para o seu tipo.
+     *
+     * @param valor o valor de origem.
+     * @param alvo o tipo de destino.
+     * @return o valor convertido, ou <code>null</code> se não houver converter para o tipo.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object converterAninhado(final Object valor, final Class<?> alvo) {
+        final boolean paraDTO = valor instanceof AbstractEntity && AbstractDTO.class.isAssignableFrom(alvo);
+        if (!paraDTO && !(valor instanceof AbstractDTO && AbstractEntity.class.isAssignableFrom(alvo))) {
+            return null;
+        }
+        final Converter converter = this.getConverter(valor.getClass());
+        if (converter == null) {
+            throw new IllegalStateException("Nenhum converter registrado para " + ClassUtils.getUserClass(valor).getName() + " na conversão para "
+                    + alvo.getName());
+        }
+        return paraDTO ? converter.convertToDTO((AbstractEntity) valor) : converter.convertToEntity((AbstractDTO) valor);
+    }
+
+    /**
+     * Retorna o converter registrado para a classe ou para a superclasse mais próxima, o que cobre os proxies do Hibernate.
+     *
+     * @param classe a classe do valor.
+     * @return o converter, ou <code>null</code> se não houver.
+     */
+    private Converter<?, ?> getConverter(final Class<?> classe) {
+        final Converter<?, ?> resolvido = this.conversoresResolvidos.get(classe);
+        if (resolvido != null) {
+            return resolvido;
+        }
+        Class<?> atual = classe;
+        while (atual != null && atual != Object.class) {
+            final Converter<?, ?> converter = this.conversores.get(atual);
+            if (converter != null) {
+                this.conversoresResolvidos.put(classe, converter);
+                return converter;
+            }
+            atual = atual.getSuperclass();
+        }
+        return null;
+    }
+
+    /**
+     * Resolve o tipo dos elementos das propriedades do tipo coleção, pelo nome do setter. Executado somente na criação do converter.
+     *
+     * @param classe a classe de destino.
+     * @return o tipo dos elementos, pelo nome do setter.
+     */
+    private static Map<String, Class<?>> resolverElementos(final Class<?> classe) {
+        final Map<String, Class<?>> elementos = new HashMap<>();
+        for (final PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(classe)) {
+            if (descriptor.getWriteMethod() != null && Collection.class.isAssignableFrom(descriptor.getPropertyType())) {
+                final Class<?> elemento = ResolvableType.forMethodParameter(descriptor.getWriteMethod(), 0).asCollection().resolveGeneric(0);
+                if (elemento != null) {
+                    elementos.put(descriptor.getWriteMethod().getName(), elemento);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(elementos);
+    }
+
+    /**
+     * Registra no log as propriedades de mesmo nome cujos tipos não podem ser convertidos, e que portanto ficarão com o valor padrão.
+     * Executado somente na criação do converter.
+     *
+     * @param origem a classe de origem.
+     * @param destino a classe de destino.
+     */
+    private static void verificarCompatibilidade(final Class<?> origem, final Class<?> destino) {
+        final List<String> incompativeis = new ArrayList<>();
+        for (final PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(destino)) {
+            final PropertyDescriptor leitura = BeanUtils.getPropertyDescriptor(origem, descriptor.getName());
+            if (descriptor.getWriteMethod() == null || leitura == null || leitura.getReadMethod() == null) {
+                continue;
+            }
+            final Class<?> tipoOrigem = leitura.getPropertyType();
+            final Class<?> tipoDestino = descriptor.getPropertyType();
+            final boolean compativel = ClassUtils.isAssignable(tipoDestino, tipoOrigem)
+                    || Collection.class.isAssignableFrom(tipoOrigem) && Collection.class.isAssignableFrom(tipoDestino)
+                    || AbstractEntity.class.isAssignableFrom(tipoOrigem) && AbstractDTO.class.isAssignableFrom(tipoDestino)
+                    || AbstractDTO.class.isAssignableFrom(tipoOrigem) && AbstractEntity.class.isAssignableFrom(tipoDestino);
+            if (!compativel) {
+                incompativeis.add(descriptor.getName() + " (" + tipoOrigem.getName() + " -> " + tipoDestino.getName() + ")");
+            }
+        }
+        if (!incompativeis.isEmpty()) {
+            LOGGER.warn("Propriedades de tipos incompatíveis na conversão de {} para {} ficarão com o valor padrão: {}", origem.getName(),
+                    destino.getName(), incompativeis);
+        }
+    }
+
+    /**
+     * Retorna o valor padrão de um tipo primitivo.
+     *
+     * @param tipo o tipo primitivo.
+     * @return o valor padrão.
+     */
+    private static Object valorPadrao(final Class<?> tipo) {
+        if (tipo == boolean.class) {
+            return Boolean.FALSE;
+        } else if (tipo == char.class) {
+            return '\0';
+        } else if (tipo == long.class) {
+            return 0L;
+        } else if (tipo == double.class) {
+            return 0D;
+        } else if (tipo == float.class) {
+            return 0F;
+        } else if (tipo == short.class) {
+            return (short) 0;
+        } else if (tipo == byte.class) {
+            return (byte) 0;
+        }
+        return 0;
+    }
+
+    /**
+     * @return the entityClass
+     */
+    public Class<E> getEntityClass() {
+        return this.entityClass;
+    }
+
+    /**
+     * @return the dtoClass
+     */
+    public Class<D> getDtoClass() {
+        return this.dtoClass;
+    }
+
+}
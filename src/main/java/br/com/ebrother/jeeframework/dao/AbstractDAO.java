@@ -1,23 +1,62 @@
 package br.com.ebrother.jeeframework.dao;
 
+import java.beans.PropertyDescriptor;
 import java.io.Serializable;
-import java.lang.reflect.ParameterizedType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
 
 import org.hibernate.Criteria;
+import org.hibernate.FetchMode;
+import org.hibernate.ScrollMode;
 import org.hibernate.Session;
+import org.hibernate.criterion.Conjunction;
 import org.hibernate.criterion.DetachedCriteria;
+import org.hibernate.criterion.Disjunction;
 import org.hibernate.criterion.Order;
 import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Projection;
+import org.hibernate.criterion.ProjectionList;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.internal.CriteriaImpl;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.transform.ResultTransformer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.util.ClassUtils;
 
+import br.com.ebrother.jeeframework.dao.util.DTOResultTransformer;
+import br.com.ebrother.jeeframework.dao.util.KeysetCursor;
+import br.com.ebrother.jeeframework.dao.util.KeysetPage;
+import br.com.ebrother.jeeframework.dao.util.ModoContagem;
+import br.com.ebrother.jeeframework.dao.util.Pagina;
+import br.com.ebrother.jeeframework.dao.util.ScrollableResultStream;
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+import br.com.ebrother.jeeframework.exception.GenericException;
+import br.com.ebrother.jeeframework.exception.util.IndicadorTipoException;
 import br.com.ebrother.jeeframework.messages.MessageByLocaleService;
+import br.com.ebrother.jeeframework.metrics.DAOMetricsRegistry;
+import br.com.ebrother.jeeframework.metrics.DAOOperationMetrics;
 import br.com.ebrother.jeeframework.model.AbstractEntity;
+import br.com.ebrother.jeeframework.model.AbstractVersionedEntity;
 
 /**
  * Classe abstrata de acesso ao banco de dados.
@@ -33,10 +72,38 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
     @PersistenceContext
     private EntityManager entityManager;
 
+    /** Número padrão de registros trazidos por ida ao banco nas consultas em streaming. */
+    protected static final int FETCH_SIZE_PADRAO = 500;
+
+    /** Tamanho padrão do lote de gravação quando não configurado no Hibernate. */
+    protected static final int BATCH_SIZE_PADRAO = 50;
+
+    /** Propriedade do Hibernate com o tamanho do lote JDBC. */
+    private static final String PROPRIEDADE_BATCH_SIZE = "hibernate.jdbc.batch_size";
+
+    /** Dica JPA que define o grafo de entidades carregado pela consulta. */
+    private static final String HINT_FETCH_GRAPH = "javax.persistence.fetchgraph";
+
+    /** Chave da mensagem de cursor de paginação inválido. */
+    private static final String MSG_CURSOR_INVALIDO = "msg.erro.cursor.invalido";
+
+    /** Valor de início de medição que indica que as métricas estão desabilitadas. */
+    private static final long SEM_MEDICAO = Long.MIN_VALUE;
+
     /** Serviço de mensagens. */
     @Autowired
     private MessageByLocaleService mensagens;
 
+    /** Registro das métricas dos DAOs. */
+    @Autowired(required = false)
+    private DAOMetricsRegistry metricsRegistry;
+
+    /** Métricas deste DAO, por operação. */
+    private final ConcurrentMap<String, DAOOperationMetrics> metricas = new ConcurrentHashMap<>();
+
+    /** Classe da entidade, resolvida uma única vez na criação do DAO. */
+    private final Class<E> entityClass = this.resolverEntityClass();
+
     /**
      * Recupera um objeto pelo seu identificador.
      *
@@ -44,7 +111,36 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      * @return o objeto recuperado.
      */
     public E findOne(final P id) {
-        return this.getEntityManager().find(this.getEntityClass(), id);
+        if (!this.isMedindo()) {
+            return this.getEntityManager().find(this.getEntityClass(), id);
+        }
+        return this.medir("findOne", () -> this.getEntityManager().find(this.getEntityClass(), id), AbstractDAO::contar);
+    }
+
+    /**
+     * Recupera um objeto pelo seu identificador, carregando em uma única consulta as associações do grafo de entidades informado.
+     *
+     * @param id o identificador do objeto.
+     * @param entityGraph o nome do {@link javax.persistence.NamedEntityGraph} declarado na entidade.
+     * @return o objeto recuperado.
+     */
+    public E findOne(final P id, final String entityGraph) {
+        if (!this.isMedindo()) {
+            return this.findOneComGrafo(id, entityGraph);
+        }
+        return this.medir("findOne", () -> this.findOneComGrafo(id, entityGraph), AbstractDAO::contar);
+    }
+
+    /**
+     * Recupera um objeto pelo seu identificador com o grafo de entidades informado.
+     *
+     * @param id o identificador do objeto.
+     * @param entityGraph o nome do {@link javax.persistence.NamedEntityGraph}.
+     * @return o objeto recuperado.
+     */
+    private E findOneComGrafo(final P id, final String entityGraph) {
+        return this.getEntityManager().find(this.getEntityClass(), id,
+                Collections.<String, Object> singletonMap(HINT_FETCH_GRAPH, this.getEntityManager().getEntityGraph(entityGraph)));
     }
 
     /**
@@ -54,9 +150,31 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      */
     public List<E> listAll() {
         final Criteria criteria = this.createCriteria();
+        if (this.getCacheRegion() != null) {
+            this.setCacheable(criteria, this.getCacheRegion());
+        }
         return this.executeCriteria(criteria);
     }
 
+    /**
+     * Percorre todos os registros sem carregá-los de uma só vez em memória.
+     *
+     * @param fetchSize o número de registros trazidos por ida ao banco.
+     * @return o {@link ScrollableResultStream}, que deve ser fechado ao final.
+     */
+    public ScrollableResultStream<E> streamAll(final int fetchSize) {
+        return this.executeCriteriaStream(this.createCriteria(), fetchSize);
+    }
+
+    /**
+     * Percorre todos os registros sem carregá-los de uma só vez em memória.
+     *
+     * @return o {@link ScrollableResultStream}, que deve ser fechado ao final.
+     */
+    public ScrollableResultStream<E> streamAll() {
+        return this.streamAll(FETCH_SIZE_PADRAO);
+    }
+
     /**
      * Salva um objeto.
      *
@@ -64,11 +182,24 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      * @return o objeto salvo.
      */
     public E save(final E objeto) {
+        if (!this.isMedindo()) {
+            return this.salvar(objeto);
+        }
+        return this.medir("save", () -> this.salvar(objeto), AbstractDAO::contar);
+    }
+
+    /**
+     * Persiste o objeto novo ou sincroniza o objeto existente com o contexto de persistência.
+     *
+     * @param objeto o objeto a ser salvo.
+     * @return o objeto salvo.
+     */
+    private E salvar(final E objeto) {
         if (objeto.getId() == null) {
             this.getEntityManager().persist(objeto);
             return objeto;
         }
-        return this.getEntityManager().merge(objeto);
+        return this.getEntityManager().contains(objeto) ? objeto : this.getEntityManager().merge(objeto);
     }
 
     /**
@@ -77,7 +208,11 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      * @param objeto o objeto a ser excluído.
      */
     public void delete(final E objeto) {
-        this.getEntityManager().remove(objeto);
+        if (!this.isMedindo()) {
+            this.getEntityManager().remove(objeto);
+            return;
+        }
+        this.medir("delete", () -> this.getEntityManager().remove(objeto));
     }
 
     /**
@@ -86,7 +221,171 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      * @param id o identificador do registro a ser excluído.
      */
     public void delete(final P id) {
-        this.getEntityManager().remove(this.getEntityManager().find(this.getEntityClass(), id));
+        if (!this.isMedindo()) {
+            this.getEntityManager().remove(this.getEntityManager().find(this.getEntityClass(), id));
+            return;
+        }
+        this.medir("delete", () -> this.getEntityManager().remove(this.getEntityManager().find(this.getEntityClass(), id)));
+    }
+
+    /**
+     * Verifica se existe registro com o identificador informado, sem carregar a entidade.
+     *
+     * @param id o identificador.
+     * @return <code>true</code> se o registro existir.
+     */
+    public boolean existsById(final P id) {
+        final Criteria criteria = this.createCriteria().add(Restrictions.idEq(id)).setProjection(Projections.id()).setMaxResults(1);
+        if (!this.isMedindo()) {
+            return criteria.uniqueResult() != null;
+        }
+        return this.medir("existsById", () -> criteria.uniqueResult() != null, existe -> existe ? 1 : 0);
+    }
+
+    /**
+     * Recupera somente a versão de um registro, sem carregar a entidade. A entidade deve ter uma propriedade anotada com
+     * {@link javax.persistence.Version}.
+     *
+     * @param id o identificador.
+     * @return a versão, ou <code>null</code> se o registro não existir.
+     */
+    public Long findVersion(final P id) {
+        final Criteria criteria = this.createCriteria().add(Restrictions.idEq(id))
+                .setProjection(Projections.property(this.getVersionPropertyName()));
+        if (!this.isMedindo()) {
+            return toLong(criteria.uniqueResult());
+        }
+        return this.medir("findVersion", () -> toLong(criteria.uniqueResult()), AbstractDAO::contar);
+    }
+
+    /**
+     * Recupera os identificadores e as versões dos registros alterados a partir do instante informado, para que clientes e caches busquem
+     * somente o que mudou. A entidade deve estender {@link AbstractVersionedEntity}.
+     *
+     * @param desde o instante a partir do qual as alterações são consideradas, inclusive.
+     * @return as versões por identificador, em ordem de alteração.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<P, Long> findModifiedSince(final Instant desde) {
+        if (!AbstractVersionedEntity.class.isAssignableFrom(this.getEntityClass())) {
+            throw new IllegalStateException(this.getEntityClass().getName() + " não estende " + AbstractVersionedEntity.class.getSimpleName() + ".");
+        }
+        final Criteria criteria = this.createCriteria()
+                .add(Restrictions.ge(AbstractVersionedEntity.PROPRIEDADE_DATA_ULTIMA_ALTERACAO, Date.from(desde)))
+                .setProjection(Projections.projectionList().add(Projections.id()).add(Projections.property(this.getVersionPropertyName())))
+                .addOrder(Order.asc(AbstractVersionedEntity.PROPRIEDADE_DATA_ULTIMA_ALTERACAO)).addOrder(Order.asc(this.getIdPropertyName()));
+        final List<Object[]> linhas = this.isMedindo()
+                ? this.medir("findModifiedSince", () -> (List<Object[]>) criteria.list(), List::size) : criteria.list();
+        final Map<P, Long> versoes = new LinkedHashMap<>(linhas.size() * 4 / 3 + 1);
+        for (final Object[] linha : linhas) {
+            versoes.put((P) linha[0], toLong(linha[1]));
+        }
+        return versoes;
+    }
+
+    /**
+     * Salva uma coleção de objetos em lotes.
+     * <p>
+     * A cada lote o contexto de persistência é sincronizado e limpo, de modo que os comandos são enviados em lotes JDBC e o cache de primeiro
+     * nível não cresce indefinidamente. Os objetos retornados ficam desanexados da sessão ao final de cada lote.
+     *
+     * @param objetos os objetos a serem salvos.
+     * @return os objetos salvos, na mesma ordem.
+     */
+    public List<E> saveAll(final Collection<E> objetos) {
+        if (!this.isMedindo()) {
+            return this.salvarLotes(objetos);
+        }
+        return this.medir("saveAll", () -> this.salvarLotes(objetos), List::size);
+    }
+
+    /**
+     * Salva os objetos, sincronizando e limpando o contexto de persistência a cada lote.
+     *
+     * @param objetos os objetos a serem salvos.
+     * @return os objetos salvos, na mesma ordem.
+     */
+    private List<E> salvarLotes(final Collection<E> objetos) {
+        final int batchSize = this.getBatchSize();
+        final List<E> salvos = new ArrayList<>(objetos.size());
+        int pendentes = 0;
+        for (final E objeto : objetos) {
+            salvos.add(this.save(objeto));
+            if (++pendentes == batchSize) {
+                this.getEntityManager().flush();
+                this.getEntityManager().clear();
+                pendentes = 0;
+            }
+        }
+        if (pendentes > 0) {
+            this.getEntityManager().flush();
+            this.getEntityManager().clear();
+        }
+        return salvos;
+    }
+
+    /**
+     * Exclui os registros com os identificadores informados, com um único <code>DELETE ... WHERE id IN (...)</code> por lote.
+     * <p>
+     * A exclusão em massa não passa pelo contexto de persistência: cascatas e callbacks da entidade não são executados e instâncias já
+     * carregadas na sessão não são atualizadas.
+     *
+     * @param ids os identificadores dos registros a serem excluídos.
+     * @return o número de registros excluídos.
+     */
+    public int deleteAllById(final Collection<P> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (!this.isMedindo()) {
+            return this.excluirLotes(ids);
+        }
+        return this.medir("deleteAllById", () -> this.excluirLotes(ids), Integer::intValue);
+    }
+
+    /**
+     * Exclui os registros em lotes de <code>DELETE ... WHERE id IN (...)</code>.
+     *
+     * @param ids os identificadores dos registros a serem excluídos.
+     * @return o número de registros excluídos.
+     */
+    private int excluirLotes(final Collection<P> ids) {
+        this.getEntityManager().flush();
+        final String hql = "delete from " + this.getEntityClass().getName() + " e where e." + this.getIdPropertyName() + " in (:ids)";
+        final int batchSize = this.getBatchSize();
+        final List<P> lote = new ArrayList<>(Math.min(batchSize, ids.size()));
+        int excluidos = 0;
+        for (final P id : ids) {
+            lote.add(id);
+            if (lote.size() == batchSize) {
+                excluidos += this.getSession().createQuery(hql).setParameterList("ids", lote).executeUpdate();
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            excluidos += this.getSession().createQuery(hql).setParameterList("ids", lote).executeUpdate();
+        }
+        return excluidos;
+    }
+
+    /**
+     * Retorna o tamanho do lote de gravação configurado no Hibernate.
+     *
+     * @return o tamanho do lote.
+     */
+    protected int getBatchSize() {
+        final Object valor = this.getEntityManager().getEntityManagerFactory().getProperties().get(PROPRIEDADE_BATCH_SIZE);
+        if (valor != null) {
+            try {
+                final int batchSize = Integer.parseInt(valor.toString().trim());
+                if (batchSize > 0) {
+                    return batchSize;
+                }
+            } catch (final NumberFormatException e) {
+                // USA O VALOR PADRÃO
+            }
+        }
+        return BATCH_SIZE_PADRAO;
     }
 
     /**
@@ -94,9 +393,48 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      *
      * @return a classe da entidade.
      */
-    @SuppressWarnings("unchecked")
     protected Class<E> getEntityClass() {
-        return (Class<E>) ((ParameterizedType) this.getClass().getGenericSuperclass()).getActualTypeArguments()[0];
+        if (this.entityClass == null) {
+            throw new IllegalStateException("Não foi possível determinar a classe da entidade de " + ClassUtils.getUserClass(this).getName()
+                    + "; sobrescreva getEntityClass().");
+        }
+        return this.entityClass;
+    }
+
+    /**
+     * Resolve a classe da entidade a partir dos parâmetros de tipo da hierarquia do DAO, em qualquer nível e ignorando as subclasses geradas
+     * pelos proxies.
+     *
+     * @return a classe da entidade, ou <code>null</code> se não puder ser determinada.
+     */
+    @SuppressWarnings("unchecked")
+    private Class<E> resolverEntityClass() {
+        final Class<?>[] tipos = GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(this.getClass()), AbstractDAO.class);
+        if (tipos == null || !AbstractEntity.class.isAssignableFrom(tipos[0])) {
+            return null;
+        }
+        return (Class<E>) tipos[0];
+    }
+
+    /**
+     * Retorna a região do cache de consultas usada por {@link #listAll()}. Subclasses de tabelas raramente alteradas podem sobrescrever este
+     * método para que a listagem seja mantida no cache de consultas.
+     *
+     * @return o nome da região, ou <code>null</code> para não usar o cache.
+     */
+    protected String getCacheRegion() {
+        return null;
+    }
+
+    /**
+     * Marca a {@link Criteria} para ser mantida no cache de consultas. Só tem efeito quando o cache de consultas estiver habilitado.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param regiao o nome da região do cache.
+     * @return a própria {@link Criteria}.
+     */
+    protected Criteria setCacheable(final Criteria criteria, final String regiao) {
+        return criteria.setCacheable(true).setCacheRegion(regiao);
     }
 
     /**
@@ -115,7 +453,81 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      */
     protected Criteria createCriteria() {
         final DetachedCriteria detachedCriteria = this.createDetachedCriteria();
-        return detachedCriteria.getExecutableCriteria((Session) this.entityManager.getDelegate());
+        return detachedCriteria.getExecutableCriteria(this.getSession());
+    }
+
+    /**
+     * Retorna a sessão do Hibernate associada ao {@link EntityManager}.
+     *
+     * @return a {@link Session}.
+     */
+    protected Session getSession() {
+        return (Session) this.entityManager.getDelegate();
+    }
+
+    /**
+     * Retorna o nome da propriedade identificadora da entidade.
+     *
+     * @return o nome da propriedade.
+     */
+    protected String getIdPropertyName() {
+        return this.getSession().getSessionFactory().getClassMetadata(this.getEntityClass()).getIdentifierPropertyName();
+    }
+
+    /**
+     * Retorna o nome da propriedade de versão da entidade.
+     *
+     * @return o nome da propriedade.
+     */
+    protected String getVersionPropertyName() {
+        final ClassMetadata metadata = this.getSession().getSessionFactory().getClassMetadata(this.getEntityClass());
+        if (!metadata.isVersioned()) {
+            throw new IllegalStateException(this.getEntityClass().getName() + " não possui propriedade de versão.");
+        }
+        return metadata.getPropertyNames()[metadata.getVersionProperty()];
+    }
+
+    /**
+     * Converte o valor da propriedade de versão, numérica ou data, para {@link Long}.
+     *
+     * @param versao o valor da versão.
+     * @return a versão como {@link Long}.
+     */
+    private static Long toLong(final Object versao) {
+        if (versao instanceof Number) {
+            return ((Number) versao).longValue();
+        }
+        if (versao instanceof Date) {
+            return ((Date) versao).getTime();
+        }
+        return null;
+    }
+
+    /**
+     * Declara as associações que devem ser carregadas com <i>join</i> na mesma consulta, evitando uma consulta extra por registro ao
+     * percorrê-las. Quando uma das associações for uma coleção, os registros raiz repetidos são descartados em memória; nesse caso a
+     * paginação com <code>maxResults</code> é aplicada às linhas e não às entidades.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param associacoes os caminhos das associações.
+     * @return a própria {@link Criteria}.
+     */
+    protected Criteria addFetch(final Criteria criteria, final String... associacoes) {
+        for (final String associacao : associacoes) {
+            criteria.setFetchMode(associacao, FetchMode.JOIN);
+        }
+        return criteria.setResultTransformer(Criteria.DISTINCT_ROOT_ENTITY);
+    }
+
+    /**
+     * Aplica um grafo de entidades a uma consulta JPQL.
+     *
+     * @param query a {@link TypedQuery}.
+     * @param entityGraph o nome do {@link javax.persistence.NamedEntityGraph} declarado na entidade.
+     * @return a própria {@link TypedQuery}.
+     */
+    protected <T> TypedQuery<T> applyEntityGraph(final TypedQuery<T> query, final String entityGraph) {
+        return query.setHint(HINT_FETCH_GRAPH, this.getEntityManager().getEntityGraph(entityGraph));
     }
 
     /**
@@ -124,7 +536,7 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      * @param criteria a {@link Criteria}.
      * @param firstResult o índice do primeiro registro.
      * @param maxResults o número de registros.
-     * @param mapOrdenacao os campos para ordenação.
+     * @param mapOrdenacao os campos para ordenação, ou <code>null</code>.
      * @return a lista com os registros encontrados.
      */
     @SuppressWarnings({ "unchecked" })
@@ -133,10 +545,15 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
         if (maxResults > 0) {
             criteria.setMaxResults(maxResults);
         }
-        for (final Map.Entry<String, Boolean> entry : mapOrdenacao.entrySet()) {
-            this.addOrder(criteria, entry.getKey(), entry.getValue());
+        if (mapOrdenacao != null) {
+            for (final Map.Entry<String, Boolean> entry : mapOrdenacao.entrySet()) {
+                this.addOrder(criteria, entry.getKey(), entry.getValue());
+            }
+        }
+        if (!this.isMedindo()) {
+            return criteria.list();
         }
-        return criteria.list();
+        return this.medir("executeCriteria", () -> (List<T>) criteria.list(), List::size);
     }
 
     /**
@@ -179,6 +596,245 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
         return this.executeCriteria(criteria, 0, 0, null, false);
     }
 
+    /**
+     * Executa a {@link Criteria} selecionando somente as propriedades informadas e criando os DTOs diretamente a partir das colunas, sem
+     * carregar as entidades no contexto de persistência.
+     * <p>
+     * As chaves do mapa são os caminhos das propriedades da entidade (associações exigem <code>createAlias</code> na {@link Criteria}) e os
+     * valores as propriedades correspondentes do DTO, atribuídas pelos <i>setters</i>. A projeção e o transformador de resultado da
+     * {@link Criteria} são substituídos.
+     *
+     * <pre>
+     * final LinkedHashMap&lt;String, String&gt; propriedades = new LinkedHashMap&lt;&gt;();
+     * propriedades.put("id", "id");
+     * propriedades.put("nome", "nome");
+     * return this.executeCriteriaDTO(this.createCriteria(), PessoaResumoDTO.class, propriedades, 0, 50, ordenacao);
+     * </pre>
+     *
+     * @param criteria a {@link Criteria}.
+     * @param dtoClass a classe de DTO.
+     * @param propriedades as propriedades da entidade e as propriedades do DTO correspondentes, na ordem das colunas.
+     * @param firstResult o índice do primeiro registro.
+     * @param maxResults o número de registros; zero para todos.
+     * @param mapOrdenacao os campos para ordenação, ou <code>null</code>.
+     * @return a lista de DTOs.
+     * @see #executeCriteriaDTOByConstructor(Criteria, Class, List, int, int, Map)
+     */
+    protected <D extends AbstractDTO> List<D> executeCriteriaDTO(final Criteria criteria, final Class<D> dtoClass,
+            final LinkedHashMap<String, String> propriedades, final int firstResult, final int maxResults, final Map<String, Boolean> mapOrdenacao) {
+        final String[] propriedadesDTO = propriedades.values().toArray(new String[propriedades.size()]);
+        return this.executeProjecaoDTO(criteria, propriedades.keySet(), DTOResultTransformer.of(dtoClass, propriedadesDTO), firstResult,
+                maxResults, mapOrdenacao, "executeCriteriaDTO");
+    }
+
+    /**
+     * Executa a {@link Criteria} como {@link #executeCriteriaDTO(Criteria, Class, LinkedHashMap, int, int, Map)}, mas cria os DTOs pelo
+     * construtor que recebe todas as colunas na ordem da lista. O construtor é escolhido pelos tipos das propriedades da entidade, que devem
+     * ser caminhos de propriedades acessíveis a partir dela (sem aliases), e a falta de um construtor compatível é detectada antes da consulta.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param dtoClass a classe de DTO.
+     * @param propriedades as propriedades da entidade, na ordem dos parâmetros do construtor.
+     * @param firstResult o índice do primeiro registro.
+     * @param maxResults o número de registros; zero para todos.
+     * @param mapOrdenacao os campos para ordenação, ou <code>null</code>.
+     * @return a lista de DTOs.
+     */
+    protected <D extends AbstractDTO> List<D> executeCriteriaDTOByConstructor(final Criteria criteria, final Class<D> dtoClass,
+            final List<String> propriedades, final int firstResult, final int maxResults, final Map<String, Boolean> mapOrdenacao) {
+        final List<Class<?>> tipos = this.getPropertyTypes(propriedades);
+        final ResultTransformer transformador = DTOResultTransformer.ofConstructor(dtoClass, tipos.toArray(new Class<?>[tipos.size()]));
+        return this.executeProjecaoDTO(criteria, propriedades, transformador, firstResult, maxResults, mapOrdenacao,
+                "executeCriteriaDTOByConstructor");
+    }
+
+    /**
+     * Projeta as propriedades, aplica o transformador dos DTOs, a paginação e a ordenação, e executa a {@link Criteria}.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param propriedades as propriedades da entidade, na ordem das colunas.
+     * @param transformador o transformador dos DTOs.
+     * @param firstResult o índice do primeiro registro.
+     * @param maxResults o número de registros; zero para todos.
+     * @param mapOrdenacao os campos para ordenação, ou <code>null</code>.
+     * @param operacao o nome da operação nas métricas.
+     * @return a lista de DTOs.
+     */
+    @SuppressWarnings("unchecked")
+    private <D extends AbstractDTO> List<D> executeProjecaoDTO(final Criteria criteria, final Collection<String> propriedades,
+            final ResultTransformer transformador, final int firstResult, final int maxResults, final Map<String, Boolean> mapOrdenacao,
+            final String operacao) {
+        final ProjectionList projecao = Projections.projectionList();
+        for (final String propriedade : propriedades) {
+            projecao.add(Projections.property(propriedade));
+        }
+        criteria.setProjection(projecao);
+        criteria.setResultTransformer(transformador);
+        criteria.setReadOnly(true);
+        criteria.setFirstResult(firstResult);
+        if (maxResults > 0) {
+            criteria.setMaxResults(maxResults);
+        }
+        if (mapOrdenacao != null) {
+            for (final Map.Entry<String, Boolean> entry : mapOrdenacao.entrySet()) {
+                this.addOrder(criteria, entry.getKey(), entry.getValue());
+            }
+        }
+        if (!this.isMedindo()) {
+            return criteria.list();
+        }
+        return this.medir(operacao, () -> (List<D>) criteria.list(), List::size);
+    }
+
+    /**
+     * Executa a {@link Criteria} criando os DTOs diretamente a partir das propriedades informadas, sem paginação.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param dtoClass a classe de DTO.
+     * @param propriedades as propriedades da entidade e as propriedades do DTO correspondentes, na ordem das colunas.
+     * @return a lista de DTOs.
+     * @see #executeCriteriaDTO(Criteria, Class, LinkedHashMap, int, int, Map)
+     */
+    protected <D extends AbstractDTO> List<D> executeCriteriaDTO(final Criteria criteria, final Class<D> dtoClass,
+            final LinkedHashMap<String, String> propriedades) {
+        return this.executeCriteriaDTO(criteria, dtoClass, propriedades, 0, 0, null);
+    }
+
+    /**
+     * Executa a {@link Criteria} com um cursor somente-avanço, limpando o contexto de persistência a cada <code>fetchSize</code> registros.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param fetchSize o número de registros trazidos por ida ao banco.
+     * @return o {@link ScrollableResultStream}, que deve ser fechado ao final.
+     */
+    protected <T> ScrollableResultStream<T> executeCriteriaStream(final Criteria criteria, final int fetchSize) {
+        return this.executeCriteriaStream(criteria, fetchSize, fetchSize);
+    }
+
+    /**
+     * Executa a {@link Criteria} com um cursor somente-avanço.
+     * <p>
+     * As entidades são carregadas em modo somente-leitura, sem snapshot para verificação de alterações. Alguns drivers exigem configuração
+     * própria para não trazer o resultado inteiro (no PostgreSQL a conexão precisa estar em uma transação).
+     *
+     * @param criteria a {@link Criteria}.
+     * @param fetchSize o número de registros trazidos por ida ao banco.
+     * @param intervaloLimpeza número de registros entre cada limpeza do contexto de persistência; zero desabilita.
+     * @return o {@link ScrollableResultStream}, que deve ser fechado ao final.
+     */
+    protected <T> ScrollableResultStream<T> executeCriteriaStream(final Criteria criteria, final int fetchSize, final int intervaloLimpeza) {
+        criteria.setFetchSize(fetchSize);
+        criteria.setReadOnly(true);
+        if (!this.isMedindo()) {
+            return new ScrollableResultStream<>(criteria.scroll(ScrollMode.FORWARD_ONLY), this.getSession(), intervaloLimpeza);
+        }
+        return this.medir("executeCriteriaStream", () -> new ScrollableResultStream<T>(criteria.scroll(ScrollMode.FORWARD_ONLY),
+                this.getSession(), intervaloLimpeza), stream -> 0);
+    }
+
+    /**
+     * Executa a {@link Criteria} com paginação por chave (keyset).
+     * <p>
+     * Em vez de descartar os registros anteriores com OFFSET, a consulta filtra a partir dos valores de ordenação do último registro da página
+     * anterior, de modo que páginas profundas custam o mesmo que a primeira quando existe índice sobre as propriedades de ordenação. O
+     * identificador da entidade é usado como último critério de desempate, em ordem ascendente, quando não estiver entre as propriedades de
+     * ordenação; se estiver, a direção informada é mantida. As propriedades de ordenação não podem ser nulas e devem ser caminhos de
+     * propriedades da entidade.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param mapOrdenacao as propriedades de ordenação, na ordem de prioridade, com true para ascendente e false para descendente.
+     * @param cursor o cursor retornado pela página anterior, ou <code>null</code> para a primeira página.
+     * @param maxResults o número de registros por página, maior que zero.
+     * @return a {@link KeysetPage} com os registros e o cursor da próxima página.
+     */
+    @SuppressWarnings("unchecked")
+    protected KeysetPage<E> executeCriteriaKeyset(final Criteria criteria, final LinkedHashMap<String, Boolean> mapOrdenacao, final String cursor,
+            final int maxResults) {
+        if (maxResults <= 0) {
+            throw new IllegalArgumentException("O número de registros por página deve ser positivo: " + maxResults);
+        }
+        final LinkedHashMap<String, Boolean> ordenacao = mapOrdenacao != null ? new LinkedHashMap<>(mapOrdenacao) : new LinkedHashMap<>();
+        if (ordenacao.containsValue(null)) {
+            throw new IllegalArgumentException("A direção de todas as propriedades de ordenação deve ser informada: " + ordenacao);
+        }
+        ordenacao.putIfAbsent(this.getIdPropertyName(), Boolean.TRUE);
+        final List<String> propriedades = new ArrayList<>(ordenacao.keySet());
+
+        if (cursor != null && !cursor.isEmpty()) {
+            final List<Object> valores;
+            try {
+                valores = KeysetCursor.decode(cursor, this.getPropertyTypes(propriedades));
+            } catch (final IllegalArgumentException e) {
+                throw new GenericException(this.getMensagens().getMessage(MSG_CURSOR_INVALIDO), IndicadorTipoException.ERRO);
+            }
+            criteria.add(this.createKeysetRestriction(ordenacao, propriedades, valores));
+        }
+        for (final Map.Entry<String, Boolean> entry : ordenacao.entrySet()) {
+            criteria.addOrder(entry.getValue() ? Order.asc(entry.getKey()) : Order.desc(entry.getKey()));
+        }
+        criteria.setMaxResults(maxResults + 1);
+
+        final List<E> registros = this.isMedindo() ? this.medir("executeCriteriaKeyset", () -> (List<E>) criteria.list(), List::size)
+                : criteria.list();
+        if (registros.size() <= maxResults) {
+            return new KeysetPage<>(registros, null);
+        }
+        final List<E> pagina = new ArrayList<>(registros.subList(0, maxResults));
+        final BeanWrapper ultimo = PropertyAccessorFactory.forBeanPropertyAccess(pagina.get(maxResults - 1));
+        final List<Object> valores = new ArrayList<>(propriedades.size());
+        for (final String propriedade : propriedades) {
+            valores.add(ultimo.getPropertyValue(propriedade));
+        }
+        return new KeysetPage<>(pagina, KeysetCursor.encode(valores));
+    }
+
+    /**
+     * Retorna os tipos das propriedades da entidade, resolvendo os caminhos aninhados e os tipos genéricos, como o identificador de
+     * {@link AbstractEntity}.
+     *
+     * @param propriedades os caminhos das propriedades.
+     * @return os tipos, na mesma ordem.
+     */
+    private List<Class<?>> getPropertyTypes(final List<String> propriedades) {
+        final List<Class<?>> tipos = new ArrayList<>(propriedades.size());
+        for (final String propriedade : propriedades) {
+            Class<?> tipo = this.getEntityClass();
+            for (final String parte : propriedade.split("\\.")) {
+                final PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(tipo, parte);
+                if (descriptor == null || descriptor.getReadMethod() == null) {
+                    throw new IllegalArgumentException("Propriedade de ordenação inexistente em " + this.getEntityClass().getName() + ": "
+                            + propriedade);
+                }
+                tipo = GenericTypeResolver.resolveReturnType(descriptor.getReadMethod(), tipo);
+            }
+            tipos.add(ClassUtils.resolvePrimitiveIfNecessary(tipo));
+        }
+        return tipos;
+    }
+
+    /**
+     * Cria a restrição que seleciona os registros posteriores ao cursor, respeitando a direção de cada propriedade:
+     * <code>(p1 &gt; v1) OR (p1 = v1 AND p2 &lt; v2) OR ...</code>.
+     *
+     * @param ordenacao as propriedades de ordenação e suas direções.
+     * @param propriedades as propriedades de ordenação.
+     * @param valores os valores do cursor.
+     * @return a {@link Disjunction}.
+     */
+    private Disjunction createKeysetRestriction(final Map<String, Boolean> ordenacao, final List<String> propriedades, final List<Object> valores) {
+        final Disjunction disjunction = Restrictions.disjunction();
+        for (int i = 0; i < propriedades.size(); i++) {
+            final Conjunction conjunction = Restrictions.conjunction();
+            for (int j = 0; j < i; j++) {
+                conjunction.add(Restrictions.eq(propriedades.get(j), valores.get(j)));
+            }
+            final String propriedade = propriedades.get(i);
+            conjunction.add(ordenacao.get(propriedade) ? Restrictions.gt(propriedade, valores.get(i)) : Restrictions.lt(propriedade, valores.get(i)));
+            disjunction.add(conjunction);
+        }
+        return disjunction;
+    }
+
     /**
      * Executa a query.
      *
@@ -186,7 +842,10 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
      * @return o registro encontrado.
      */
     protected E executeCriteriaUniqueResult(final Criteria criteria) {
-        return this.getEntityClass().cast(criteria.uniqueResult());
+        if (!this.isMedindo()) {
+            return this.getEntityClass().cast(criteria.uniqueResult());
+        }
+        return this.medir("executeCriteriaUniqueResult", () -> this.getEntityClass().cast(criteria.uniqueResult()), AbstractDAO::contar);
     }
 
     /**
@@ -203,36 +862,190 @@ public abstract class AbstractDAO<E extends AbstractEntity<P>, P extends Seriali
     }
 
     /**
-     * Retorna o número total de registros encontrados na query.
+     * Retorna o número total de registros encontrados na query. A projeção e o transformador de resultado da {@link Criteria} são restaurados
+     * ao final, de modo que ela pode ser reutilizada para buscar os registros.
      *
      * @param criteria a {@link Criteria}.
      * @return o número total de registros.
      */
     protected Long executeCriteriaCount(final Criteria criteria) {
-        criteria.setProjection(Projections.rowCount());
-        final Long result = (Long) criteria.uniqueResult();
-        if (result == null) {
-            return 0L;
-        }
-        return result;
+        return this.executeCount(criteria, Projections.rowCount(), "executeCriteriaCount");
     }
 
     /**
-     * Retorna o número total de registros encontrados na query.
+     * Retorna o número total de registros encontrados na query. A projeção e o transformador de resultado da {@link Criteria} são restaurados
+     * ao final, de modo que ela pode ser reutilizada para buscar os registros.
      *
      * @param criteria a {@link Criteria}.
      * @param countProperty propriedade para o distinct.
      * @return o número total de registros.
      */
     protected Long executeCriteriaCountDistinct(final Criteria criteria, final String countProperty) {
-        criteria.setProjection(Projections.countDistinct(countProperty));
-        final Long result = (Long) criteria.uniqueResult();
+        return this.executeCount(criteria, Projections.countDistinct(countProperty), "executeCriteriaCountDistinct");
+    }
+
+    /**
+     * Executa a contagem com a projeção informada e restaura a {@link Criteria}.
+     *
+     * @param criteria a {@link Criteria}.
+     * @param contagem a projeção de contagem.
+     * @param metodo o nome da operação nas métricas.
+     * @return o número total de registros.
+     */
+    private Long executeCount(final Criteria criteria, final Projection contagem, final String metodo) {
+        final CriteriaImpl impl = criteria instanceof CriteriaImpl ? (CriteriaImpl) criteria : null;
+        final Projection projecao = impl != null ? impl.getProjection() : null;
+        final ResultTransformer transformer = impl != null ? impl.getResultTransformer() : null;
+        criteria.setProjection(contagem);
+        final Long result;
+        try {
+            result = this.isMedindo() ? this.medir(metodo, () -> (Long) criteria.uniqueResult(), total -> 1) : (Long) criteria.uniqueResult();
+        } finally {
+            if (impl != null) {
+                criteria.setProjection(projecao);
+                criteria.setResultTransformer(transformer);
+            }
+        }
         if (result == null) {
             return 0L;
         }
         return result;
     }
 
+    /**
+     * Realiza uma consulta paginada retornando os registros e, conforme o modo, o total de registros ou a indicação de próxima página.
+     * <p>
+     * Os filtros são aplicados a uma nova {@link Criteria} para cada consulta, evitando que a contagem altere a consulta dos registros. No modo
+     * {@link ModoContagem#EXATA} a contagem só é executada quando o total não puder ser deduzido da própria página, ou seja, quando a página
+     * vier completa ou vazia após a primeira. No modo {@link ModoContagem#POSSUI_PROXIMO} é feita uma única consulta com um registro a mais.
+     *
+     * @param filtro aplica as restrições e associações à {@link Criteria}.
+     * @param firstResult o índice do primeiro registro.
+     * @param maxResults o número de registros.
+     * @param mapOrdenacao os campos para ordenação.
+     * @param modo o {@link ModoContagem}.
+     * @return a {@link Pagina}.
+     */
+    protected <T> Pagina<T> executeCriteriaPage(final Consumer<Criteria> filtro, final int firstResult, final int maxResults,
+            final Map<String, Boolean> mapOrdenacao, final ModoContagem modo) {
+        final Criteria criteria = this.createCriteria();
+        filtro.accept(criteria);
+        if (modo == ModoContagem.POSSUI_PROXIMO && maxResults > 0) {
+            final List<T> registros = this.executeCriteria(criteria, firstResult, maxResults + 1, mapOrdenacao);
+            if (registros.size() > maxResults) {
+                return new Pagina<>(new ArrayList<>(registros.subList(0, maxResults)), null, true);
+            }
+            return new Pagina<>(registros, null, false);
+        }
+        final List<T> registros = this.executeCriteria(criteria, firstResult, maxResults, mapOrdenacao);
+        final boolean paginaIncompleta = maxResults <= 0 || registros.size() < maxResults;
+        if (paginaIncompleta && (!registros.isEmpty() || firstResult == 0)) {
+            return new Pagina<>(registros, Long.valueOf(firstResult + registros.size()), false);
+        }
+        final Criteria contagem = this.createCriteria();
+        filtro.accept(contagem);
+        final Long total = this.executeCriteriaCount(contagem);
+        return new Pagina<>(registros, total, firstResult + registros.size() < total);
+    }
+
+    /**
+     * Realiza uma consulta paginada retornando os registros e o total de registros.
+     *
+     * @param filtro aplica as restrições e associações à {@link Criteria}.
+     * @param firstResult o índice do primeiro registro.
+     * @param maxResults o número de registros.
+     * @param mapOrdenacao os campos para ordenação.
+     * @return a {@link Pagina}.
+     */
+    protected <T> Pagina<T> executeCriteriaPage(final Consumer<Criteria> filtro, final int firstResult, final int maxResults,
+            final Map<String, Boolean> mapOrdenacao) {
+        return this.executeCriteriaPage(filtro, firstResult, maxResults, mapOrdenacao, ModoContagem.EXATA);
+    }
+
+    /**
+     * Indica se as operações devem ser medidas. Os métodos verificam esta condição antes de montar a operação a ser medida, de modo que, com
+     * as métricas desabilitadas, a consulta é executada diretamente, sem nenhum objeto adicional.
+     *
+     * @return <code>true</code> se as métricas estiverem habilitadas.
+     */
+    private boolean isMedindo() {
+        return this.metricsRegistry != null && this.metricsRegistry.isEnabled();
+    }
+
+    /**
+     * Executa e mede uma operação. As métricas registram a duração e o número de registros, ou um número negativo se a operação falhar.
+     *
+     * @param operacao o nome da operação.
+     * @param acao a operação.
+     * @param registros calcula o número de registros a partir do resultado.
+     * @return o resultado da operação.
+     */
+    private <R> R medir(final String operacao, final Supplier<R> acao, final ToIntFunction<? super R> registros) {
+        final long inicio = this.iniciarMedicao();
+        int quantidade = -1;
+        try {
+            final R resultado = acao.get();
+            if (inicio != SEM_MEDICAO) {
+                quantidade = registros.applyAsInt(resultado);
+            }
+            return resultado;
+        } finally {
+            this.finalizarMedicao(operacao, inicio, quantidade);
+        }
+    }
+
+    /**
+     * Executa e mede uma operação sobre um único registro, sem resultado.
+     *
+     * @param operacao o nome da operação.
+     * @param acao a operação.
+     */
+    private void medir(final String operacao, final Runnable acao) {
+        this.medir(operacao, () -> {
+            acao.run();
+            return Boolean.TRUE;
+        }, executado -> 1);
+    }
+
+    /**
+     * Conta o registro de uma operação que retorna no máximo um registro.
+     *
+     * @param objeto o registro, ou <code>null</code>.
+     * @return 1 se o registro existir; 0 caso contrário.
+     */
+    private static int contar(final Object objeto) {
+        return objeto == null ? 0 : 1;
+    }
+
+    /**
+     * Inicia a medição de uma operação.
+     *
+     * @return o instante de início, ou {@link #SEM_MEDICAO} se as métricas estiverem desabilitadas.
+     */
+    private long iniciarMedicao() {
+        return this.isMedindo() ? System.nanoTime() : SEM_MEDICAO;
+    }
+
+    /**
+     * Registra a duração e o número de registros de uma operação.
+     *
+     * @param metodo o nome da operação.
+     * @param inicio o instante de início retornado por {@link #iniciarMedicao()}.
+     * @param registros o número de registros, ou um valor negativo se a operação falhou.
+     */
+    private void finalizarMedicao(final String metodo, final long inicio, final int registros) {
+        if (inicio == SEM_MEDICAO) {
+            return;
+        }
+        final long duracao = System.nanoTime() - inicio;
+        DAOOperationMetrics operacao = this.metricas.get(metodo);
+        if (operacao == null) {
+            operacao = this.metricas.computeIfAbsent(metodo,
+                    m -> this.metricsRegistry.getMetricas(ClassUtils.getUserClass(this), m, this.getEntityClass()));
+        }
+        operacao.registrar(duracao, registros);
+    }
+
     /**
      * @return the entityManager
      */
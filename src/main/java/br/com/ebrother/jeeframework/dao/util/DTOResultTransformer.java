@@ -0,0 +1,229 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.transform.ResultTransformer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+
+/**
+ * Transforma as linhas de uma consulta com projeção diretamente em DTOs, sem carregar as entidades.
+ * <p>
+ * Por padrão ({@link #of(Class, String...)}) o DTO é criado pelo construtor sem argumentos e cada coluna é atribuída pelo <i>setter</i> da
+ * propriedade do DTO informada para ela, de modo que a correspondência é sempre feita pelo nome. O uso de um construtor com todas as colunas
+ * ({@link #ofConstructor(Class, Class...)}) é explícito: o construtor é escolhido pelos tipos das colunas, e não apenas pela quantidade.
+ * Construtores e <i>setters</i> são resolvidos uma única vez por DTO e lista de propriedades ou de tipos. O cache usa referências
+ * <i>soft</i>, liberadas pelo coletor de lixo quando falta memória, de modo que não retém indefinidamente as classes de DTO de uma aplicação
+ * descarregada. Na desserialização a instância é substituída pela do cache, resolvida novamente a partir da classe e das propriedades ou
+ * dos tipos.
+ *
+ * @author Rafael Braga
+ *
+ * @param <D> a classe de DTO.
+ */
+public final class DTOResultTransformer<D extends AbstractDTO> implements ResultTransformer {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 4316730151592946186L;
+
+    /** Transformadores já criados, por DTO e propriedades ou tipos das colunas. */
+    private static final ConcurrentMap<List<Object>, DTOResultTransformer<?>> CACHE = new ConcurrentReferenceHashMap<>();
+
+    /** A classe de DTO. */
+    private final Class<D> dtoClass;
+
+    /** As propriedades de cada coluna, ou <code>null</code> quando o construtor recebe todas as colunas. */
+    private final String[] propriedades;
+
+    /** Os tipos das colunas recebidas pelo construtor, ou <code>null</code> quando os <i>setters</i> forem usados. */
+    private final Class<?>[] tiposColunas;
+
+    /** O construtor que recebe todas as colunas, ou o construtor sem argumentos quando os <i>setters</i> forem usados. */
+    private final transient Constructor<D> construtor;
+
+    /** Os <i>setters</i> de cada coluna, ou <code>null</code> quando o construtor recebe todas as colunas. */
+    private final transient Method[] setters;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param dtoClass a classe de DTO.
+     * @param propriedades as propriedades de cada coluna, ou <code>null</code> quando o construtor recebe todas as colunas.
+     * @param tiposColunas os tipos das colunas do construtor, ou <code>null</code> quando os <i>setters</i> forem usados.
+     * @param construtor o construtor do DTO.
+     * @param setters os <i>setters</i> de cada coluna, ou <code>null</code> quando o construtor recebe todas as colunas.
+     */
+    private DTOResultTransformer(final Class<D> dtoClass, final String[] propriedades, final Class<?>[] tiposColunas, final Constructor<D> construtor,
+            final Method[] setters) {
+        this.dtoClass = dtoClass;
+        this.propriedades = propriedades;
+        this.tiposColunas = tiposColunas;
+        this.construtor = construtor;
+        this.setters = setters;
+        ReflectionUtils.makeAccessible(this.construtor);
+    }
+
+    /**
+     * Retorna o transformador que cria o DTO pelo construtor sem argumentos e atribui cada coluna pelo <i>setter</i> da propriedade
+     * correspondente.
+     *
+     * @param dtoClass a classe de DTO.
+     * @param propriedades as propriedades do DTO, na ordem das colunas projetadas.
+     * @return o {@link DTOResultTransformer}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <D extends AbstractDTO> DTOResultTransformer<D> of(final Class<D> dtoClass, final String... propriedades) {
+        final List<Object> chave = new ArrayList<>(propriedades.length + 1);
+        chave.add(dtoClass);
+        chave.addAll(Arrays.asList(propriedades));
+        return (DTOResultTransformer<D>) CACHE.computeIfAbsent(chave, c -> porSetters(dtoClass, propriedades.clone()));
+    }
+
+    /**
+     * Retorna o transformador que cria o DTO pelo construtor que recebe todas as colunas, na ordem da projeção. Deve existir exatamente um
+     * construtor com um parâmetro por coluna e cujos tipos aceitem os tipos das colunas.
+     *
+     * @param dtoClass a classe de DTO.
+     * @param tiposColunas os tipos das colunas projetadas, na ordem da projeção.
+     * @return o {@link DTOResultTransformer}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <D extends AbstractDTO> DTOResultTransformer<D> ofConstructor(final Class<D> dtoClass, final Class<?>... tiposColunas) {
+        final List<Object> chave = new ArrayList<>(tiposColunas.length + 2);
+        chave.add(dtoClass);
+        chave.add(Constructor.class);
+        chave.addAll(Arrays.asList(tiposColunas));
+        return (DTOResultTransformer<D>) CACHE.computeIfAbsent(chave,
+                c -> new DTOResultTransformer<>(dtoClass, null, tiposColunas.clone(), construtor(dtoClass, tiposColunas), null));
+    }
+
+    /**
+     * Cria o transformador baseado nos <i>setters</i>.
+     *
+     * @param dtoClass a classe de DTO.
+     * @param propriedades as propriedades do DTO, na ordem das colunas projetadas.
+     * @return o {@link DTOResultTransformer}.
+     */
+    private static <D extends AbstractDTO> DTOResultTransformer<D> porSetters(final Class<D> dtoClass, final String[] propriedades) {
+        final Constructor<D> semArgumentos;
+        try {
+            semArgumentos = dtoClass.getDeclaredConstructor();
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalArgumentException(dtoClass.getName() + " não possui construtor sem argumentos.", e);
+        }
+        final Method[] setters = new Method[propriedades.length];
+        for (int i = 0; i < propriedades.length; i++) {
+            final PropertyDescriptor descritor = BeanUtils.getPropertyDescriptor(dtoClass, propriedades[i]);
+            if (descritor == null || descritor.getWriteMethod() == null) {
+                throw new IllegalArgumentException(dtoClass.getName() + " não possui a propriedade gravável '" + propriedades[i] + "'.");
+            }
+            setters[i] = descritor.getWriteMethod();
+            ReflectionUtils.makeAccessible(setters[i]);
+        }
+        return new DTOResultTransformer<>(dtoClass, propriedades, null, semArgumentos, setters);
+    }
+
+    /**
+     * Procura o construtor do DTO cujos parâmetros aceitam os tipos das colunas.
+     *
+     * @param dtoClass a classe de DTO.
+     * @param tiposColunas os tipos das colunas.
+     * @return o construtor.
+     */
+    @SuppressWarnings("unchecked")
+    private static <D> Constructor<D> construtor(final Class<D> dtoClass, final Class<?>[] tiposColunas) {
+        Constructor<D> encontrado = null;
+        for (final Constructor<?> candidato : dtoClass.getDeclaredConstructors()) {
+            if (aceita(candidato.getParameterTypes(), tiposColunas)) {
+                if (encontrado != null) {
+                    throw new IllegalArgumentException(dtoClass.getName() + " possui mais de um construtor compatível com as colunas "
+                            + Arrays.toString(tiposColunas) + ".");
+                }
+                encontrado = (Constructor<D>) candidato;
+            }
+        }
+        if (encontrado == null) {
+            throw new IllegalArgumentException(dtoClass.getName() + " não possui construtor compatível com as colunas " + Arrays.toString(tiposColunas)
+                    + ".");
+        }
+        return encontrado;
+    }
+
+    /**
+     * Verifica se os parâmetros aceitam os tipos das colunas, na mesma ordem.
+     *
+     * @param parametros os tipos dos parâmetros.
+     * @param tiposColunas os tipos das colunas.
+     * @return <code>true</code> se cada parâmetro aceitar a coluna correspondente.
+     */
+    private static boolean aceita(final Class<?>[] parametros, final Class<?>[] tiposColunas) {
+        if (parametros.length != tiposColunas.length) {
+            return false;
+        }
+        for (int i = 0; i < parametros.length; i++) {
+            if (!ClassUtils.isAssignable(parametros[i], tiposColunas[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object transformTuple(final Object[] tuple, final String[] aliases) {
+        try {
+            if (this.setters == null) {
+                return this.construtor.newInstance(tuple);
+            }
+            final D dto = this.construtor.newInstance();
+            for (int i = 0; i < this.setters.length; i++) {
+                this.setters[i].invoke(dto, tuple[i]);
+            }
+            return dto;
+        } catch (final InstantiationException | IllegalAccessException | IllegalArgumentException e) {
+            throw new HibernateException("Não foi possível criar " + this.dtoClass.getName() + " a partir de " + Arrays.toString(tuple), e);
+        } catch (final InvocationTargetException e) {
+            throw new HibernateException("Não foi possível criar " + this.dtoClass.getName(), e.getTargetException());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public List transformList(final List collection) {
+        return collection;
+    }
+
+    /**
+     * Substitui a instância desserializada pela do cache, com o construtor e os <i>setters</i> resolvidos, que não são serializados.
+     *
+     * @return o {@link DTOResultTransformer} equivalente.
+     */
+    private Object readResolve() {
+        return this.propriedades != null ? of(this.dtoClass, this.propriedades) : ofConstructor(this.dtoClass, this.tiposColunas);
+    }
+
+    /**
+     * @return the dtoClass
+     */
+    public Class<D> getDtoClass() {
+        return this.dtoClass;
+    }
+
+}
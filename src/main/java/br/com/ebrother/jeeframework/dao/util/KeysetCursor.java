@@ -0,0 +1,217 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Codifica e decodifica o cursor opaco usado na paginação por chave (keyset).
+ * <p>
+ * O cursor carrega os valores das propriedades de ordenação do último registro da página, cada um precedido do seu tipo, em Base64 seguro para
+ * URL. Nenhuma classe é carregada a partir do cursor: os tipos esperados vêm das propriedades da entidade, e cada valor decodificado é
+ * verificado contra o tipo da sua propriedade.
+ *
+ * @author Rafael Braga
+ */
+public final class KeysetCursor {
+
+    /** Separador entre tipo, tamanho e valor. */
+    private static final char SEPARADOR = ':';
+
+    /**
+     * Construtor privado.
+     */
+    private KeysetCursor() {
+        // CLASSE UTILITÁRIA
+    }
+
+    /**
+     * Codifica os valores em um cursor.
+     *
+     * @param valores os valores das propriedades de ordenação.
+     * @return o cursor.
+     */
+    public static String encode(final List<?> valores) {
+        final StringBuilder sb = new StringBuilder();
+        for (final Object valor : valores) {
+            if (valor == null) {
+                throw new IllegalArgumentException("Propriedades de ordenação da paginação por chave não podem ser nulas.");
+            }
+            final String tipo = tipo(valor);
+            final String texto = texto(valor);
+            sb.append(tipo).append(SEPARADOR).append(texto.length()).append(SEPARADOR).append(texto);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor.
+     *
+     * @param cursor o cursor.
+     * @param tipos os tipos das propriedades de ordenação, na ordem do cursor.
+     * @return os valores das propriedades de ordenação.
+     */
+    public static List<Object> decode(final String cursor, final List<Class<?>> tipos) {
+        final int quantidade = tipos.size();
+        final String conteudo;
+        try {
+            conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido.", e);
+        }
+        final List<Object> valores = new ArrayList<>(quantidade);
+        int posicao = 0;
+        while (posicao < conteudo.length()) {
+            final int fimTipo = conteudo.indexOf(SEPARADOR, posicao);
+            final int fimTamanho = fimTipo < 0 ? -1 : conteudo.indexOf(SEPARADOR, fimTipo + 1);
+            if (fimTamanho < 0) {
+                throw new IllegalArgumentException("Cursor inválido.");
+            }
+            final String tipo = conteudo.substring(posicao, fimTipo);
+            final int tamanho;
+            try {
+                tamanho = Integer.parseInt(conteudo.substring(fimTipo + 1, fimTamanho));
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Cursor inválido.", e);
+            }
+            final int inicioValor = fimTamanho + 1;
+            if (tamanho < 0 || inicioValor + tamanho > conteudo.length()) {
+                throw new IllegalArgumentException("Cursor inválido.");
+            }
+            if (valores.size() >= quantidade) {
+                throw new IllegalArgumentException("Cursor inválido.");
+            }
+            final Class<?> tipoPropriedade = tipos.get(valores.size());
+            final Object valor = valor(tipo, conteudo.substring(inicioValor, inicioValor + tamanho), tipoPropriedade);
+            if (!ClassUtils.isAssignableValue(tipoPropriedade, valor)) {
+                throw new IllegalArgumentException("Cursor inválido.");
+            }
+            valores.add(valor);
+            posicao = inicioValor + tamanho;
+        }
+        if (valores.size() != quantidade) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+        return valores;
+    }
+
+    /**
+     * Retorna o identificador do tipo do valor.
+     *
+     * @param valor o valor.
+     * @return o identificador do tipo.
+     */
+    private static String tipo(final Object valor) {
+        if (valor instanceof String) {
+            return "s";
+        } else if (valor instanceof Long) {
+            return "l";
+        } else if (valor instanceof Integer) {
+            return "i";
+        } else if (valor instanceof Short) {
+            return "h";
+        } else if (valor instanceof BigDecimal) {
+            return "d";
+        } else if (valor instanceof BigInteger) {
+            return "n";
+        } else if (valor instanceof Double) {
+            return "D";
+        } else if (valor instanceof Float) {
+            return "f";
+        } else if (valor instanceof Boolean) {
+            return "b";
+        } else if (valor instanceof Character) {
+            return "c";
+        } else if (valor instanceof Timestamp) {
+            return "T";
+        } else if (valor instanceof Date) {
+            return "t";
+        } else if (valor instanceof UUID) {
+            return "u";
+        } else if (valor instanceof Enum) {
+            return "e";
+        }
+        throw new IllegalArgumentException("Tipo não suportado na paginação por chave: " + valor.getClass().getName());
+    }
+
+    /**
+     * Converte o valor para texto.
+     *
+     * @param valor o valor.
+     * @return o texto.
+     */
+    private static String texto(final Object valor) {
+        if (valor instanceof Timestamp) {
+            final Timestamp timestamp = (Timestamp) valor;
+            return timestamp.getTime() + "." + timestamp.getNanos();
+        } else if (valor instanceof Date) {
+            return String.valueOf(((Date) valor).getTime());
+        } else if (valor instanceof Enum) {
+            return ((Enum<?>) valor).name();
+        }
+        return valor.toString();
+    }
+
+    /**
+     * Converte o texto de volta para o valor.
+     *
+     * @param tipo o identificador do tipo.
+     * @param texto o texto.
+     * @param tipoPropriedade o tipo da propriedade, que define a classe dos enums.
+     * @return o valor.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object valor(final String tipo, final String texto, final Class<?> tipoPropriedade) {
+        try {
+            switch (tipo) {
+                case "s":
+                    return texto;
+                case "l":
+                    return Long.valueOf(texto);
+                case "i":
+                    return Integer.valueOf(texto);
+                case "h":
+                    return Short.valueOf(texto);
+                case "d":
+                    return new BigDecimal(texto);
+                case "n":
+                    return new BigInteger(texto);
+                case "D":
+                    return Double.valueOf(texto);
+                case "f":
+                    return Float.valueOf(texto);
+                case "b":
+                    return Boolean.valueOf(texto);
+                case "c":
+                    return texto.charAt(0);
+                case "T":
+                    final int ponto = texto.indexOf('.');
+                    final Timestamp timestamp = new Timestamp(Long.parseLong(texto.substring(0, ponto)));
+                    timestamp.setNanos(Integer.parseInt(texto.substring(ponto + 1)));
+                    return timestamp;
+                case "t":
+                    return new Date(Long.parseLong(texto));
+                case "u":
+                    return UUID.fromString(texto);
+                case "e":
+                    if (tipoPropriedade.isEnum()) {
+                        return Enum.valueOf((Class<Enum>) tipoPropriedade, texto);
+                    }
+                    throw new IllegalArgumentException("Cursor inválido.");
+                default:
+                    throw new IllegalArgumentException("Cursor inválido.");
+            }
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido.", e);
+        }
+    }
+
+}
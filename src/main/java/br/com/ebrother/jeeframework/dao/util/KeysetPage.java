@@ -0,0 +1,58 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Página de registros obtida por paginação por chave (keyset).
+ *
+ * @author Rafael Braga
+ *
+ * @param <T> o tipo dos registros.
+ */
+public class KeysetPage<T> implements Serializable {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 6317264019514370788L;
+
+    /** Registros da página. */
+    private final List<T> registros;
+
+    /** Cursor para a próxima página, ou <code>null</code> se esta for a última. */
+    private final String proximoCursor;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param registros registros da página.
+     * @param proximoCursor cursor para a próxima página.
+     */
+    public KeysetPage(final List<T> registros, final String proximoCursor) {
+        this.registros = registros;
+        this.proximoCursor = proximoCursor;
+    }
+
+    /**
+     * @return the registros
+     */
+    public List<T> getRegistros() {
+        return this.registros;
+    }
+
+    /**
+     * @return the proximoCursor
+     */
+    public String getProximoCursor() {
+        return this.proximoCursor;
+    }
+
+    /**
+     * Indica se existe uma próxima página.
+     *
+     * @return true se existir.
+     */
+    public boolean isPossuiProximo() {
+        return this.proximoCursor != null;
+    }
+
+}
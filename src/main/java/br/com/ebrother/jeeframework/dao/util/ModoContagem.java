@@ -0,0 +1,16 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+/**
+ * Enumerador dos modos de contagem da consulta paginada.
+ *
+ * @author Rafael Braga
+ */
+public enum ModoContagem {
+
+    /** Retorna o total exato de registros, dispensando a consulta de contagem quando o total pode ser deduzido da própria página. */
+    EXATA,
+
+    /** Não conta os registros; busca um registro a mais para indicar se existe próxima página. */
+    POSSUI_PROXIMO;
+
+}
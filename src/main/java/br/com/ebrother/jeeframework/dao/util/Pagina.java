@@ -0,0 +1,61 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Página de registros obtida por paginação com OFFSET, com o total de registros quando solicitado.
+ *
+ * @author Rafael Braga
+ *
+ * @param <T> o tipo dos registros.
+ */
+public class Pagina<T> implements Serializable {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = -2052713540113640590L;
+
+    /** Registros da página. */
+    private final List<T> registros;
+
+    /** Total de registros da consulta, ou <code>null</code> se não foi contado. */
+    private final Long total;
+
+    /** Indica se existe uma próxima página. */
+    private final boolean possuiProximo;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param registros registros da página.
+     * @param total total de registros, ou <code>null</code> se não foi contado.
+     * @param possuiProximo indica se existe uma próxima página.
+     */
+    public Pagina(final List<T> registros, final Long total, final boolean possuiProximo) {
+        this.registros = registros;
+        this.total = total;
+        this.possuiProximo = possuiProximo;
+    }
+
+    /**
+     * @return the registros
+     */
+    public List<T> getRegistros() {
+        return this.registros;
+    }
+
+    /**
+     * @return the total
+     */
+    public Long getTotal() {
+        return this.total;
+    }
+
+    /**
+     * @return the possuiProximo
+     */
+    public boolean isPossuiProximo() {
+        return this.possuiProximo;
+    }
+
+}
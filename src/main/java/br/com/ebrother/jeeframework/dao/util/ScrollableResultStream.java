@@ -0,0 +1,127 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+/**
+ * Iterador sobre um cursor do banco de dados que não materializa o resultado inteiro em memória.
+ * <p>
+ * A cada <code>intervaloLimpeza</code> registros o contexto de persistência é gravado e limpo, mantendo o consumo de memória constante
+ * independente do tamanho da tabela. As operações feitas pelo consumidor, como inclusões e alterações de outras entidades, são gravadas antes
+ * da limpeza, exceto quando a sessão estiver com {@link FlushMode#MANUAL}, como nas transações somente-leitura. As entidades percorridas
+ * pelos cursores de {@link br.com.ebrother.jeeframework.dao.AbstractDAO} são carregadas em modo somente-leitura: alterações feitas nelas
+ * não são gravadas. Os registros já percorridos ficam desanexados da sessão após a limpeza, portanto devem ser processados antes de avançar
+ * o iterador. Deve ser usado dentro de uma transação e fechado ao final, preferencialmente com <i>try-with-resources</i>.
+ *
+ * @author Rafael Braga
+ *
+ * @param <T> o tipo dos registros.
+ */
+public class ScrollableResultStream<T> implements Iterator<T>, AutoCloseable {
+
+    /** O cursor do Hibernate. */
+    private final ScrollableResults results;
+
+    /** A sessão que será limpa periodicamente. */
+    private final Session session;
+
+    /** Número de registros entre cada limpeza do contexto de persistência. */
+    private final int intervaloLimpeza;
+
+    /** Número de registros já lidos. */
+    private long lidos;
+
+    /** Indica se o próximo registro já foi posicionado no cursor. */
+    private Boolean possuiProximo;
+
+    /** Indica se o cursor foi fechado. */
+    private boolean fechado;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param results o cursor do Hibernate.
+     * @param session a sessão que será limpa periodicamente.
+     * @param intervaloLimpeza número de registros entre cada limpeza; zero ou negativo desabilita a limpeza.
+     */
+    public ScrollableResultStream(final ScrollableResults results, final Session session, final int intervaloLimpeza) {
+        this.results = results;
+        this.session = session;
+        this.intervaloLimpeza = intervaloLimpeza;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (this.fechado) {
+            return false;
+        }
+        if (this.possuiProximo == null) {
+            if (this.intervaloLimpeza > 0 && this.lidos > 0 && this.lidos % this.intervaloLimpeza == 0) {
+                if (this.session.getFlushMode() != FlushMode.MANUAL) {
+                    this.session.flush();
+                }
+                this.session.clear();
+            }
+            this.possuiProximo = this.results.next();
+            if (!this.possuiProximo) {
+                this.close();
+            }
+        }
+        return this.possuiProximo;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.possuiProximo = null;
+        this.lidos++;
+        final Object[] linha = this.results.get();
+        return (T) (linha.length == 1 ? linha[0] : linha);
+    }
+
+    /**
+     * Retorna um {@link Stream} sequencial sobre o cursor. Fechar o {@link Stream} fecha o cursor. Os registros podem ser nulos, como nas
+     * projeções de uma propriedade opcional.
+     *
+     * @return o {@link Stream}.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+    }
+
+    /**
+     * Fecha o cursor.
+     */
+    @Override
+    public void close() {
+        if (!this.fechado) {
+            this.fechado = true;
+            this.results.close();
+        }
+    }
+
+    /**
+     * @return o número de registros já lidos.
+     */
+    public long getLidos() {
+        return this.lidos;
+    }
+
+}
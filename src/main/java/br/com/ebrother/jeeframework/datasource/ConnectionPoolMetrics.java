@@ -0,0 +1,97 @@
+package br.com.ebrother.jeeframework.datasource;
+
+import java.io.Serializable;
+
+import br.com.ebrother.jeeframework.metrics.HistogramSnapshot;
+
+/**
+ * Fotografia das métricas de um pool de conexões.
+ *
+ * @author Rafael Braga
+ */
+public class ConnectionPoolMetrics implements Serializable {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = -4632281746263581915L;
+
+    /** Nome do pool. */
+    private final String nome;
+
+    /** Conexões em uso. */
+    private final int ativas;
+
+    /** Conexões ociosas. */
+    private final int ociosas;
+
+    /** Threads aguardando uma conexão. */
+    private final int aguardando;
+
+    /** Total de conexões abertas. */
+    private final int total;
+
+    /** Distribuição do tempo de aquisição das conexões. */
+    private final HistogramSnapshot tempoAquisicao;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param nome nome do pool.
+     * @param ativas conexões em uso.
+     * @param ociosas conexões ociosas.
+     * @param aguardando threads aguardando uma conexão.
+     * @param total total de conexões abertas.
+     * @param tempoAquisicao distribuição do tempo de aquisição.
+     */
+    public ConnectionPoolMetrics(final String nome, final int ativas, final int ociosas, final int aguardando, final int total,
+            final HistogramSnapshot tempoAquisicao) {
+        this.nome = nome;
+        this.ativas = ativas;
+        this.ociosas = ociosas;
+        this.aguardando = aguardando;
+        this.total = total;
+        this.tempoAquisicao = tempoAquisicao;
+    }
+
+    /**
+     * @return the nome
+     */
+    public String getNome() {
+        return this.nome;
+    }
+
+    /**
+     * @return the ativas
+     */
+    public int getAtivas() {
+        return this.ativas;
+    }
+
+    /**
+     * @return the ociosas
+     */
+    public int getOciosas() {
+        return this.ociosas;
+    }
+
+    /**
+     * @return the aguardando
+     */
+    public int getAguardando() {
+        return this.aguardando;
+    }
+
+    /**
+     * @return the total
+     */
+    public int getTotal() {
+        return this.total;
+    }
+
+    /**
+     * @return the tempoAquisicao
+     */
+    public HistogramSnapshot getTempoAquisicao() {
+        return this.tempoAquisicao;
+    }
+
+}
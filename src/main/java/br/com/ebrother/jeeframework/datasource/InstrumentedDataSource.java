@@ -0,0 +1,83 @@
+package br.com.ebrother.jeeframework.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import br.com.ebrother.jeeframework.metrics.Histogram;
+
+/**
+ * {@link javax.sql.DataSource} que envolve o pool de conexões e mede o tempo de aquisição das conexões.
+ *
+ * @author Rafael Braga
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    /** O pool de conexões. */
+    private final org.apache.tomcat.jdbc.pool.DataSource pool;
+
+    /** Tempo de aquisição das conexões. */
+    private final Histogram tempoAquisicao = new Histogram();
+
+    /**
+     * Construtor da classe.
+     *
+     * @param pool o pool de conexões.
+     */
+    public InstrumentedDataSource(final org.apache.tomcat.jdbc.pool.DataSource pool) {
+        super(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        final long inicio = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            this.tempoAquisicao.record(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        final long inicio = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            this.tempoAquisicao.record(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Retorna as métricas atuais do pool.
+     *
+     * @return o {@link ConnectionPoolMetrics}.
+     */
+    public ConnectionPoolMetrics getMetricas() {
+        return new ConnectionPoolMetrics(this.pool.getPoolName(), this.pool.getActive(), this.pool.getIdle(), this.pool.getWaitCount(),
+                this.pool.getSize(), this.tempoAquisicao.snapshot());
+    }
+
+    /**
+     * Fecha o pool de conexões. Chamado pelo container ao destruir o bean.
+     */
+    public void close() {
+        this.pool.close();
+    }
+
+    /**
+     * @return the pool
+     */
+    public org.apache.tomcat.jdbc.pool.DataSource getPool() {
+        return this.pool;
+    }
+
+}
@@ -0,0 +1,177 @@
+package br.com.ebrother.jeeframework.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link javax.sql.DataSource} que envia as transações somente-leitura (<code>@Transactional(readOnly = true)</code>) para as réplicas e as
+ * demais para o banco principal.
+ * <p>
+ * A conexão física só é obtida no primeiro comando, quando a transação já foi marcada como somente-leitura. Se uma réplica falhar ao fornecer
+ * a conexão, as demais são tentadas e, por fim, o banco principal; a réplica com falha fica fora da seleção por alguns segundos.
+ *
+ * @author Rafael Braga
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    /** Logger da classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    /** Tempo que uma réplica com falha fica fora da seleção. */
+    private static final long QUARENTENA_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /** O banco principal. */
+    private final InstrumentedDataSource primario;
+
+    /** As réplicas de leitura. */
+    private final List<InstrumentedDataSource> replicas;
+
+    /** A estratégia de escolha da réplica. */
+    private final ReplicaSelectionStrategy estrategia;
+
+    /** Próxima réplica na estratégia {@link ReplicaSelectionStrategy#ROUND_ROBIN}. */
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    /** Instante, em {@link System#nanoTime()}, até o qual cada réplica fica fora da seleção. */
+    private final AtomicLongArray quarentena;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param primario o banco principal.
+     * @param replicas as réplicas de leitura.
+     * @param estrategia a estratégia de escolha da réplica.
+     */
+    public ReadWriteRoutingDataSource(final InstrumentedDataSource primario, final List<InstrumentedDataSource> replicas,
+            final ReplicaSelectionStrategy estrategia) {
+        this.primario = primario;
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+        this.estrategia = estrategia;
+        this.quarentena = new AtomicLongArray(replicas.size());
+        this.setTargetDataSource(new Roteador());
+        this.afterPropertiesSet();
+    }
+
+    /**
+     * Obtém a conexão de acordo com a transação atual.
+     *
+     * @return a {@link Connection}.
+     * @throws SQLException em caso de erro no banco principal.
+     */
+    private Connection obterConexao() throws SQLException {
+        if (this.replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return this.primario.getConnection();
+        }
+        final int total = this.replicas.size();
+        final int inicio = this.escolherReplica();
+        final long agora = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            final int indice = (inicio + i) % total;
+            if (this.quarentena.get(indice) - agora > 0) {
+                continue;
+            }
+            try {
+                return this.replicas.get(indice).getConnection();
+            } catch (final SQLException e) {
+                this.quarentena.set(indice, System.nanoTime() + QUARENTENA_NANOS);
+                LOGGER.warn("Réplica {} indisponível; usando a próxima opção.", this.replicas.get(indice).getPool().getPoolName(), e);
+            }
+        }
+        return this.primario.getConnection();
+    }
+
+    /**
+     * Escolhe a réplica preferencial segundo a estratégia configurada.
+     *
+     * @return o índice da réplica.
+     */
+    private int escolherReplica() {
+        if (this.estrategia == ReplicaSelectionStrategy.LEAST_BUSY) {
+            int escolhida = 0;
+            int menor = Integer.MAX_VALUE;
+            for (int i = 0; i < this.replicas.size(); i++) {
+                final int ativas = this.replicas.get(i).getPool().getActive();
+                if (ativas < menor) {
+                    menor = ativas;
+                    escolhida = i;
+                }
+            }
+            return escolhida;
+        }
+        return Math.floorMod(this.proxima.getAndIncrement(), this.replicas.size());
+    }
+
+    /**
+     * Retorna as métricas do banco principal seguidas das métricas de cada réplica.
+     *
+     * @return as métricas dos pools.
+     */
+    public List<ConnectionPoolMetrics> getMetricas() {
+        final List<ConnectionPoolMetrics> metricas = new ArrayList<>(this.replicas.size() + 1);
+        metricas.add(this.primario.getMetricas());
+        for (final InstrumentedDataSource replica : this.replicas) {
+            metricas.add(replica.getMetricas());
+        }
+        return metricas;
+    }
+
+    /**
+     * Fecha os pools do banco principal e das réplicas. Chamado pelo container ao destruir o bean.
+     */
+    public void close() {
+        this.primario.close();
+        for (final InstrumentedDataSource replica : this.replicas) {
+            replica.close();
+        }
+    }
+
+    /**
+     * @return the primario
+     */
+    public InstrumentedDataSource getPrimario() {
+        return this.primario;
+    }
+
+    /**
+     * @return the replicas
+     */
+    public List<InstrumentedDataSource> getReplicas() {
+        return this.replicas;
+    }
+
+    /**
+     * {@link javax.sql.DataSource} alvo que decide, no momento da obtenção da conexão física, entre o banco principal e as réplicas.
+     */
+    private class Roteador extends AbstractDataSource {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Connection getConnection() throws SQLException {
+            return ReadWriteRoutingDataSource.this.obterConexao();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return ReadWriteRoutingDataSource.this.obterConexao();
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package br.com.ebrother.jeeframework.datasource;
+
+/**
+ * Enumerador das estratégias de escolha da réplica de leitura.
+ *
+ * @author Rafael Braga
+ */
+public enum ReplicaSelectionStrategy {
+
+    /** Alterna entre as réplicas a cada conexão. */
+    ROUND_ROBIN,
+
+    /** Escolhe a réplica com menos conexões em uso. */
+    LEAST_BUSY;
+
+}
@@ -12,6 +12,12 @@ public abstract class AbstractException extends RuntimeException {
     /** Constante de serialização. */
     private static final long serialVersionUID = -8834904231920657289L;
 
+    /** Propriedade de sistema que habilita a captura da pilha de execução em todas as exceções de negócio. */
+    public static final String PROPRIEDADE_RASTREAR_PILHA = "jeeframework.exception.stackTrace";
+
+    /** Indica se a pilha de execução é capturada por padrão. */
+    private static final boolean RASTREAR_PILHA = Boolean.getBoolean(PROPRIEDADE_RASTREAR_PILHA);
+
     /** Mensagem da exceção. */
     private final String mensagem;
 
@@ -19,12 +25,25 @@ public abstract class AbstractException extends RuntimeException {
     private final IndicadorTipoException tipo;
 
     /**
-     * Construtor da classe.
+     * Construtor da classe. A pilha de execução só é capturada quando a propriedade de sistema {@value #PROPRIEDADE_RASTREAR_PILHA} for
+     * <code>true</code>, pois as exceções de negócio fazem parte do fluxo normal e a captura tem custo alto.
      *
      * @param mensagem Mensagem da exceção.
      * @param tipo Tipo de exceção.
      */
     public AbstractException(final String mensagem, final IndicadorTipoException tipo) {
+        this(mensagem, tipo, RASTREAR_PILHA);
+    }
+
+    /**
+     * Construtor da classe.
+     *
+     * @param mensagem Mensagem da exceção.
+     * @param tipo Tipo de exceção.
+     * @param rastrearPilha indica se a pilha de execução deve ser capturada.
+     */
+    protected AbstractException(final String mensagem, final IndicadorTipoException tipo, final boolean rastrearPilha) {
+        super(mensagem, null, true, rastrearPilha);
         this.mensagem = mensagem;
         this.tipo = tipo;
     }
@@ -22,4 +22,15 @@ public class GenericException extends AbstractException {
         super(mensagem, tipo);
     }
 
+    /**
+     * Construtor da classe.
+     *
+     * @param mensagem Mensagem da exceção.
+     * @param tipo Tipo de exceção.
+     * @param rastrearPilha indica se a pilha de execução deve ser capturada.
+     */
+    protected GenericException(final String mensagem, final IndicadorTipoException tipo, final boolean rastrearPilha) {
+        super(mensagem, tipo, rastrearPilha);
+    }
+
 }
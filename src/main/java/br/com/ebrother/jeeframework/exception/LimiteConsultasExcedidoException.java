@@ -0,0 +1,26 @@
+package br.com.ebrother.jeeframework.exception;
+
+import br.com.ebrother.jeeframework.exception.util.IndicadorTipoException;
+
+/**
+ * Exceção lançada quando uma requisição executa mais consultas ao banco de dados do que o limite configurado.
+ *
+ * @author Rafael Braga.
+ */
+public class LimiteConsultasExcedidoException extends AbstractException {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 3018227604735447016L;
+
+    /**
+     * Construtor da classe. A pilha de execução é sempre capturada, pois indica o código que excedeu o limite.
+     *
+     * @param descricao descrição da unidade de trabalho monitorada.
+     * @param consultas número de consultas executadas.
+     * @param limite limite de consultas.
+     */
+    public LimiteConsultasExcedidoException(final String descricao, final int consultas, final int limite) {
+        super(descricao + " executou " + consultas + " consultas (limite " + limite + ").", IndicadorTipoException.ERRO, true);
+    }
+
+}
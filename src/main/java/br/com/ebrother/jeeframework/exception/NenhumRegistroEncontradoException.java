@@ -13,13 +13,13 @@ public class NenhumRegistroEncontradoException extends AbstractException {
     private static final long serialVersionUID = -8536199773502445584L;
 
     /** Mensagem padrão. */
-    private final static String mensagem = "Nenhum registro encontrado!";
+    public static final String MENSAGEM = "Nenhum registro encontrado!";
 
     /**
      * Construtor da classe.
      */
     public NenhumRegistroEncontradoException() {
-        super(mensagem, IndicadorTipoException.ERRO);
+        super(MENSAGEM, IndicadorTipoException.ERRO);
     }
 
 }
@@ -1,5 +1,8 @@
 package br.com.ebrother.jeeframework.exception.util;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Classe que representa o DTO de uma exceção.
  *
@@ -13,6 +16,35 @@ public class ResponseExceptionDTO {
     /** Tipo de exceção. */
     private String tipo;
 
+    /**
+     * Construtor da classe.
+     */
+    public ResponseExceptionDTO() {
+        super();
+    }
+
+    /**
+     * Construtor da classe.
+     *
+     * @param mensagem Mensagem da exceção.
+     * @param tipo Tipo de exceção.
+     */
+    @JsonCreator
+    public ResponseExceptionDTO(@JsonProperty("mensagem") final String mensagem, @JsonProperty("tipo") final String tipo) {
+        this.mensagem = mensagem;
+        this.tipo = tipo;
+    }
+
+    /**
+     * Construtor da classe.
+     *
+     * @param mensagem Mensagem da exceção.
+     * @param tipo Tipo de exceção.
+     */
+    public ResponseExceptionDTO(final String mensagem, final IndicadorTipoException tipo) {
+        this(mensagem, tipo.getDescricao());
+    }
+
     /**
      * @return the mensagem
      */
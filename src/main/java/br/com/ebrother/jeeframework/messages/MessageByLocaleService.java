@@ -1,5 +1,9 @@
 package br.com.ebrother.jeeframework.messages;
 
+import java.text.MessageFormat;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+
 /**
  * Interface do serviço de mensagens.
  *
@@ -15,4 +19,28 @@ public interface MessageByLocaleService {
      */
     String getMessage(String id);
 
+    /**
+     * Busca uma mensagem e preenche os parâmetros no formato de {@link MessageFormat}. A implementação padrão formata a mensagem retornada
+     * por {@link #getMessage(String)} na linguagem atual.
+     *
+     * @param id identificador da mensagem.
+     * @param args os parâmetros da mensagem.
+     * @return a mensagem formatada.
+     */
+    default String getMessage(final String id, final Object... args) {
+        final String mensagem = this.getMessage(id);
+        if (args == null || args.length == 0 || mensagem == null) {
+            return mensagem;
+        }
+        return new MessageFormat(mensagem, LocaleContextHolder.getLocale()).format(args);
+    }
+
+    /**
+     * Descarta as mensagens em cache, para que sejam lidas novamente dos arquivos. A implementação padrão não faz nada, para as
+     * implementações sem cache.
+     */
+    default void invalidar() {
+        // SEM CACHE
+    }
+
 }
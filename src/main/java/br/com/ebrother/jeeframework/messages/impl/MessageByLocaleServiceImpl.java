@@ -1,32 +1,194 @@
 package br.com.ebrother.jeeframework.messages.impl;
 
+import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.stereotype.Component;
 
 import br.com.ebrother.jeeframework.messages.MessageByLocaleService;
 
 /**
  * Implemetação do serviço de mensagens.
+ * <p>
+ * As mensagens resolvidas ficam em cache por linguagem e identificador, de modo que a busca de uma mensagem já resolvida não acessa o
+ * {@link MessageSource} nem aloca objetos. O cache é descartado a cada <code>web.messages.cacheSeconds</code> segundos (-1 mantém as
+ * mensagens para sempre e 0 desabilita o cache) ou pelo método {@link #invalidar()}. No máximo {@value #MAXIMO_LINGUAGENS} linguagens
+ * são mantidas em cache.
  *
  * @author Rafael Braga.
  */
 @Component
 public class MessageByLocaleServiceImpl implements MessageByLocaleService {
 
+    /**
+     * Número máximo de linguagens mantidas no cache. A linguagem vem do cliente (parâmetro, cookie ou <code>Accept-Language</code>); as
+     * linguagens que excedem o limite são resolvidas diretamente no {@link MessageSource}, sem crescer o cache.
+     */
+    private static final int MAXIMO_LINGUAGENS = 32;
+
     /** A fonte de mensagens. */
     @Autowired
     private MessageSource messageSource;
 
+    /** Intervalo, em segundos, entre as atualizações do cache. */
+    @Value("${web.messages.cacheSeconds:-1}")
+    private int cacheSeconds = -1;
+
+    /** Mensagens resolvidas por linguagem e identificador. */
+    private final ConcurrentMap<Locale, ConcurrentMap<String, Mensagem>> cache = new ConcurrentHashMap<>();
+
+    /** Instante, em {@link System#nanoTime()}, da próxima atualização do cache. */
+    private volatile long proximaAtualizacao = System.nanoTime();
+
     /**
      * {@inheritDoc}
      */
+    @Override
     public String getMessage(final String id) {
         final Locale locale = LocaleContextHolder.getLocale();
-        return this.messageSource.getMessage(id, null, locale);
+        final Mensagem mensagem = this.buscar(locale, id);
+        return mensagem != null ? mensagem.getTexto() : this.messageSource.getMessage(id, null, locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getMessage(final String id, final Object... args) {
+        final Locale locale = LocaleContextHolder.getLocale();
+        if (args == null || args.length == 0) {
+            return this.getMessage(id);
+        }
+        final Mensagem mensagem = this.buscar(locale, id);
+        return mensagem != null ? mensagem.formatar(args) : this.messageSource.getMessage(id, args, locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidar() {
+        this.cache.clear();
+        if (this.messageSource instanceof ReloadableResourceBundleMessageSource) {
+            ((ReloadableResourceBundleMessageSource) this.messageSource).clearCache();
+        }
+        this.agendarAtualizacao();
+    }
+
+    /**
+     * Busca a mensagem no cache, resolvendo-a no {@link MessageSource} se necessário.
+     *
+     * @param locale a linguagem.
+     * @param id identificador da mensagem.
+     * @return a {@link Mensagem}, ou <code>null</code> se o cache estiver desabilitado ou o limite de linguagens tiver sido atingido.
+     */
+    private Mensagem buscar(final Locale locale, final String id) {
+        if (this.cacheSeconds == 0) {
+            return null;
+        }
+        if (this.cacheSeconds > 0 && System.nanoTime() - this.proximaAtualizacao > 0) {
+            this.cache.clear();
+            this.agendarAtualizacao();
+        }
+        ConcurrentMap<String, Mensagem> mensagens = this.cache.get(locale);
+        if (mensagens == null) {
+            if (this.cache.size() >= MAXIMO_LINGUAGENS) {
+                return null;
+            }
+            mensagens = this.cache.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+        }
+        Mensagem mensagem = mensagens.get(id);
+        if (mensagem == null) {
+            mensagem = new Mensagem(this.messageSource.getMessage(id, null, locale), locale);
+            final Mensagem existente = mensagens.putIfAbsent(id, mensagem);
+            if (existente != null) {
+                mensagem = existente;
+            }
+        }
+        return mensagem;
+    }
+
+    /**
+     * Define o instante da próxima atualização do cache.
+     */
+    private void agendarAtualizacao() {
+        if (this.cacheSeconds > 0) {
+            this.proximaAtualizacao = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.cacheSeconds);
+        }
+    }
+
+    /**
+     * @return the cacheSeconds
+     */
+    public int getCacheSeconds() {
+        return this.cacheSeconds;
+    }
+
+    /**
+     * @param cacheSeconds the cacheSeconds to set
+     */
+    public void setCacheSeconds(final int cacheSeconds) {
+        this.cacheSeconds = cacheSeconds;
+        this.agendarAtualizacao();
+    }
+
+    /**
+     * Mensagem resolvida, com o modelo de formatação compilado no primeiro uso com parâmetros.
+     */
+    private static final class Mensagem {
+
+        /** O texto da mensagem, sem formatação. */
+        private final String texto;
+
+        /** A linguagem da mensagem. */
+        private final Locale locale;
+
+        /** O modelo compilado. Como {@link MessageFormat} não é thread-safe, a formatação é sincronizada, como no Spring. */
+        private volatile MessageFormat modelo;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param texto o texto da mensagem.
+         * @param locale a linguagem da mensagem.
+         */
+        Mensagem(final String texto, final Locale locale) {
+            this.texto = texto;
+            this.locale = locale;
+        }
+
+        /**
+         * Formata a mensagem com os parâmetros informados.
+         *
+         * @param args os parâmetros.
+         * @return a mensagem formatada.
+         */
+        String formatar(final Object... args) {
+            MessageFormat formato = this.modelo;
+            if (formato == null) {
+                formato = new MessageFormat(this.texto, this.locale);
+                this.modelo = formato;
+            }
+            synchronized (formato) {
+                return formato.format(args);
+            }
+        }
+
+        /**
+         * @return the texto
+         */
+        String getTexto() {
+            return this.texto;
+        }
+
     }
 
 }
@@ -0,0 +1,69 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registro das métricas das operações dos DAOs, por classe do DAO e operação.
+ *
+ * @author Rafael Braga
+ */
+public class DAOMetricsRegistry {
+
+    /** Métricas por DAO e operação. */
+    private final ConcurrentMap<String, DAOOperationMetrics> operacoes = new ConcurrentHashMap<>();
+
+    /** Indica se as operações são medidas. */
+    private volatile boolean enabled;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param enabled indica se as operações são medidas.
+     */
+    public DAOMetricsRegistry(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Retorna as métricas da operação, criando-as no primeiro uso.
+     *
+     * @param dao a classe do DAO.
+     * @param metodo o nome da operação.
+     * @param entidade a classe da entidade.
+     * @return o {@link DAOOperationMetrics}.
+     */
+    public DAOOperationMetrics getMetricas(final Class<?> dao, final String metodo, final Class<?> entidade) {
+        return this.operacoes.computeIfAbsent(dao.getName() + "." + metodo,
+                chave -> new DAOOperationMetrics(dao.getName(), metodo, entidade.getName()));
+    }
+
+    /**
+     * Retorna uma fotografia das métricas de todas as operações executadas, ordenadas por DAO e operação.
+     *
+     * @return as estatísticas das operações.
+     */
+    public List<DAOOperationStatistics> getEstatisticas() {
+        final List<DAOOperationStatistics> estatisticas = new ArrayList<>(this.operacoes.size());
+        this.operacoes.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> estatisticas.add(entry.getValue().snapshot()));
+        return estatisticas;
+    }
+
+    /**
+     * @return the enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @param enabled the enabled to set
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+}
@@ -0,0 +1,67 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas acumuladas de uma operação de um DAO: latência, registros e falhas.
+ *
+ * @author Rafael Braga
+ */
+public class DAOOperationMetrics {
+
+    /** Nome da classe do DAO. */
+    private final String dao;
+
+    /** Nome da operação. */
+    private final String metodo;
+
+    /** Nome da classe da entidade. */
+    private final String entidade;
+
+    /** Latência das execuções. */
+    private final Histogram latencia = new Histogram();
+
+    /** Número de registros lidos ou gravados. */
+    private final LongAdder registros = new LongAdder();
+
+    /** Número de execuções com falha. */
+    private final LongAdder falhas = new LongAdder();
+
+    /**
+     * Construtor da classe.
+     *
+     * @param dao nome da classe do DAO.
+     * @param metodo nome da operação.
+     * @param entidade nome da classe da entidade.
+     */
+    public DAOOperationMetrics(final String dao, final String metodo, final String entidade) {
+        this.dao = dao;
+        this.metodo = metodo;
+        this.entidade = entidade;
+    }
+
+    /**
+     * Registra uma execução.
+     *
+     * @param nanos a duração em nanossegundos.
+     * @param quantidade o número de registros, ou um valor negativo se a execução falhou.
+     */
+    public void registrar(final long nanos, final int quantidade) {
+        this.latencia.record(nanos);
+        if (quantidade < 0) {
+            this.falhas.increment();
+        } else {
+            this.registros.add(quantidade);
+        }
+    }
+
+    /**
+     * Retorna uma fotografia imutável das métricas.
+     *
+     * @return o {@link DAOOperationStatistics}.
+     */
+    public DAOOperationStatistics snapshot() {
+        return new DAOOperationStatistics(this.dao, this.metodo, this.entidade, this.latencia.snapshot(), this.registros.sum(), this.falhas.sum());
+    }
+
+}
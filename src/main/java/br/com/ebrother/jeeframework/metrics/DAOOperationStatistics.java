@@ -0,0 +1,95 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import java.io.Serializable;
+
+/**
+ * Fotografia das métricas de uma operação de um DAO.
+ *
+ * @author Rafael Braga
+ */
+public class DAOOperationStatistics implements Serializable {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 4402184611726813954L;
+
+    /** Nome da classe do DAO. */
+    private final String dao;
+
+    /** Nome da operação. */
+    private final String metodo;
+
+    /** Nome da classe da entidade. */
+    private final String entidade;
+
+    /** Latência das execuções. */
+    private final HistogramSnapshot latencia;
+
+    /** Número de registros lidos ou gravados. */
+    private final long registros;
+
+    /** Número de execuções com falha. */
+    private final long falhas;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param dao nome da classe do DAO.
+     * @param metodo nome da operação.
+     * @param entidade nome da classe da entidade.
+     * @param latencia latência das execuções.
+     * @param registros número de registros lidos ou gravados.
+     * @param falhas número de execuções com falha.
+     */
+    public DAOOperationStatistics(final String dao, final String metodo, final String entidade, final HistogramSnapshot latencia,
+            final long registros, final long falhas) {
+        this.dao = dao;
+        this.metodo = metodo;
+        this.entidade = entidade;
+        this.latencia = latencia;
+        this.registros = registros;
+        this.falhas = falhas;
+    }
+
+    /**
+     * @return the dao
+     */
+    public String getDao() {
+        return this.dao;
+    }
+
+    /**
+     * @return the metodo
+     */
+    public String getMetodo() {
+        return this.metodo;
+    }
+
+    /**
+     * @return the entidade
+     */
+    public String getEntidade() {
+        return this.entidade;
+    }
+
+    /**
+     * @return the latencia
+     */
+    public HistogramSnapshot getLatencia() {
+        return this.latencia;
+    }
+
+    /**
+     * @return the registros
+     */
+    public long getRegistros() {
+        return this.registros;
+    }
+
+    /**
+     * @return the falhas
+     */
+    public long getFalhas() {
+        return this.falhas;
+    }
+
+}
@@ -0,0 +1,61 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências com faixas fixas, seguro para uso concorrente e sem alocação no registro.
+ *
+ * @author Rafael Braga
+ */
+public class Histogram {
+
+    /** Limites superiores das faixas, em microssegundos. A última faixa é ilimitada. */
+    private static final long[] LIMITES_MICROS = { 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000,
+            2_500_000, 5_000_000, 10_000_000 };
+
+    /** Contadores de cada faixa. */
+    private final AtomicLongArray faixas = new AtomicLongArray(LIMITES_MICROS.length + 1);
+
+    /** Número total de amostras. */
+    private final LongAdder quantidade = new LongAdder();
+
+    /** Soma das amostras, em nanossegundos. */
+    private final LongAdder soma = new LongAdder();
+
+    /** Maior amostra, em nanossegundos. */
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Registra uma amostra.
+     *
+     * @param nanos a duração em nanossegundos.
+     */
+    public void record(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int indice = 0;
+        while (indice < LIMITES_MICROS.length && micros > LIMITES_MICROS[indice]) {
+            indice++;
+        }
+        this.faixas.incrementAndGet(indice);
+        this.quantidade.increment();
+        this.soma.add(nanos);
+        this.maximo.accumulate(nanos);
+    }
+
+    /**
+     * Retorna uma fotografia imutável do histograma.
+     *
+     * @return o {@link HistogramSnapshot}.
+     */
+    public HistogramSnapshot snapshot() {
+        final long[] contagens = new long[this.faixas.length()];
+        for (int i = 0; i < contagens.length; i++) {
+            contagens[i] = this.faixas.get(i);
+        }
+        return new HistogramSnapshot(LIMITES_MICROS, contagens, this.quantidade.sum(), this.soma.sum(), this.maximo.get());
+    }
+
+}
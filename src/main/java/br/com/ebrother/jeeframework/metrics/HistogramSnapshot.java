@@ -0,0 +1,116 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fotografia imutável de um {@link Histogram}.
+ *
+ * @author Rafael Braga
+ */
+public class HistogramSnapshot implements Serializable {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 2196585430498185066L;
+
+    /** Limites superiores das faixas, em microssegundos. */
+    private final long[] limitesMicros;
+
+    /** Contagem de cada faixa. */
+    private final long[] contagens;
+
+    /** Número total de amostras. */
+    private final long quantidade;
+
+    /** Soma das amostras, em nanossegundos. */
+    private final long somaNanos;
+
+    /** Maior amostra, em nanossegundos. */
+    private final long maximoNanos;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param limitesMicros limites superiores das faixas, em microssegundos.
+     * @param contagens contagem de cada faixa.
+     * @param quantidade número total de amostras.
+     * @param somaNanos soma das amostras, em nanossegundos.
+     * @param maximoNanos maior amostra, em nanossegundos.
+     */
+    public HistogramSnapshot(final long[] limitesMicros, final long[] contagens, final long quantidade, final long somaNanos, final long maximoNanos) {
+        this.limitesMicros = limitesMicros.clone();
+        this.contagens = contagens.clone();
+        this.quantidade = quantidade;
+        this.somaNanos = somaNanos;
+        this.maximoNanos = maximoNanos;
+    }
+
+    /**
+     * Retorna a média das amostras em milissegundos.
+     *
+     * @return a média.
+     */
+    public double getMediaMillis() {
+        if (this.quantidade == 0) {
+            return 0D;
+        }
+        return (double) this.somaNanos / this.quantidade / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Retorna o limite superior da faixa que contém o percentil informado, em milissegundos.
+     *
+     * @param percentil o percentil, entre 0 e 100.
+     * @return o limite superior aproximado.
+     */
+    public double getPercentilMillis(final double percentil) {
+        if (this.quantidade == 0) {
+            return 0D;
+        }
+        final long alvo = (long) Math.ceil(this.quantidade * percentil / 100D);
+        long acumulado = 0;
+        for (int i = 0; i < this.limitesMicros.length; i++) {
+            acumulado += this.contagens[i];
+            if (acumulado >= alvo) {
+                return this.limitesMicros[i] / 1000D;
+            }
+        }
+        return this.getMaximoMillis();
+    }
+
+    /**
+     * @return o maior valor registrado, em milissegundos.
+     */
+    public double getMaximoMillis() {
+        return (double) this.maximoNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the limitesMicros
+     */
+    public long[] getLimitesMicros() {
+        return this.limitesMicros.clone();
+    }
+
+    /**
+     * @return the contagens
+     */
+    public long[] getContagens() {
+        return this.contagens.clone();
+    }
+
+    /**
+     * @return the quantidade
+     */
+    public long getQuantidade() {
+        return this.quantidade;
+    }
+
+    /**
+     * @return the somaNanos
+     */
+    public long getSomaNanos() {
+        return this.somaNanos;
+    }
+
+}
@@ -0,0 +1,83 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contagem das consultas executadas em uma unidade de trabalho, normalmente uma requisição.
+ *
+ * @author Rafael Braga
+ */
+public class QueryCount {
+
+    /** Descrição da unidade de trabalho. */
+    private final String descricao;
+
+    /** Número de consultas a partir do qual a unidade de trabalho falha. Zero desabilita. */
+    private final int limiteFalha;
+
+    /** Número de comandos SQL preparados. */
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    /** Tempo total de execução dos comandos, em nanossegundos. */
+    private final AtomicLong nanos = new AtomicLong();
+
+    /**
+     * Construtor da classe.
+     *
+     * @param descricao descrição da unidade de trabalho.
+     * @param limiteFalha número de consultas a partir do qual a unidade de trabalho falha; zero desabilita.
+     */
+    public QueryCount(final String descricao, final int limiteFalha) {
+        this.descricao = descricao;
+        this.limiteFalha = limiteFalha;
+    }
+
+    /**
+     * Registra um comando SQL preparado.
+     *
+     * @return o número de consultas até o momento.
+     */
+    int registrarConsulta() {
+        return this.consultas.incrementAndGet();
+    }
+
+    /**
+     * Registra o tempo de execução de um comando.
+     *
+     * @param duracao a duração em nanossegundos.
+     */
+    void registrarExecucao(final long duracao) {
+        this.nanos.addAndGet(duracao);
+    }
+
+    /**
+     * @return the descricao
+     */
+    public String getDescricao() {
+        return this.descricao;
+    }
+
+    /**
+     * @return the limiteFalha
+     */
+    public int getLimiteFalha() {
+        return this.limiteFalha;
+    }
+
+    /**
+     * @return o número de comandos SQL preparados.
+     */
+    public int getConsultas() {
+        return this.consultas.get();
+    }
+
+    /**
+     * @return o tempo total de execução dos comandos, em milissegundos.
+     */
+    public long getTempoMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.nanos.get());
+    }
+
+}
@@ -0,0 +1,47 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * {@link StatementInspector} que contabiliza cada comando SQL preparado pelo Hibernate na {@link QueryCount} da thread atual e o guarda para
+ * o {@link SlowQueryLog} informado na criação. Criado pelo Hibernate a partir do nome da classe, não registra comandos lentos.
+ *
+ * @author Rafael Braga
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = -2468133574183545150L;
+
+    /** Registro de comandos lentos, ou <code>null</code> se desabilitado. */
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Construtor da classe, sem registro de comandos lentos.
+     */
+    public QueryCountStatementInspector() {
+        this(null);
+    }
+
+    /**
+     * Construtor da classe.
+     *
+     * @param slowQueryLog o registro de comandos lentos, ou <code>null</code> para desabilitá-lo.
+     */
+    public QueryCountStatementInspector(final SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String inspect(final String sql) {
+        QueryCounter.registrarConsulta();
+        if (this.slowQueryLog != null) {
+            this.slowQueryLog.registrarSql(sql);
+        }
+        return sql;
+    }
+
+}
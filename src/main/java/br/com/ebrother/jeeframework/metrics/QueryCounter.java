@@ -0,0 +1,114 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import br.com.ebrother.jeeframework.exception.LimiteConsultasExcedidoException;
+
+/**
+ * Atribui as consultas executadas pelo Hibernate à unidade de trabalho da thread atual, para detectar consultas N+1.
+ * <p>
+ * Em produção a contagem é iniciada e finalizada por requisição pelo
+ * {@link br.com.ebrother.jeeframework.controller.interceptor.QueryCountInterceptor}. Em testes pode ser usada diretamente:
+ *
+ * <pre>
+ * QueryCounter.iniciar("listagem", 0);
+ * controller.listar();
+ * QueryCounter.verificar(QueryCounter.finalizar(), 3);
+ * </pre>
+ *
+ * @author Rafael Braga
+ */
+public final class QueryCounter {
+
+    /** Contagem da thread atual. */
+    private static final ThreadLocal<QueryCount> ATUAL = new ThreadLocal<>();
+
+    /**
+     * Construtor privado.
+     */
+    private QueryCounter() {
+        // CLASSE UTILITÁRIA
+    }
+
+    /**
+     * Inicia a contagem de consultas na thread atual.
+     *
+     * @param descricao descrição da unidade de trabalho.
+     * @param limiteFalha número de consultas a partir do qual é lançada {@link LimiteConsultasExcedidoException}; zero desabilita.
+     * @return a {@link QueryCount} iniciada.
+     */
+    public static QueryCount iniciar(final String descricao, final int limiteFalha) {
+        final QueryCount contagem = new QueryCount(descricao, limiteFalha);
+        ATUAL.set(contagem);
+        return contagem;
+    }
+
+    /**
+     * Finaliza a contagem de consultas na thread atual.
+     *
+     * @return a {@link QueryCount} finalizada, ou <code>null</code> se não havia contagem iniciada.
+     */
+    public static QueryCount finalizar() {
+        final QueryCount contagem = ATUAL.get();
+        ATUAL.remove();
+        return contagem;
+    }
+
+    /**
+     * Retorna a contagem da thread atual.
+     *
+     * @return a {@link QueryCount}, ou <code>null</code> se não houver contagem iniciada.
+     */
+    public static QueryCount atual() {
+        return ATUAL.get();
+    }
+
+    /**
+     * Associa uma contagem existente à thread atual, usado para acompanhar o trabalho delegado a outras threads.
+     *
+     * @param contagem a {@link QueryCount}, ou <code>null</code> para desassociar.
+     */
+    public static void associar(final QueryCount contagem) {
+        if (contagem == null) {
+            ATUAL.remove();
+        } else {
+            ATUAL.set(contagem);
+        }
+    }
+
+    /**
+     * Verifica se a contagem está dentro do limite.
+     *
+     * @param contagem a {@link QueryCount}.
+     * @param limite o número máximo de consultas.
+     */
+    public static void verificar(final QueryCount contagem, final int limite) {
+        if (contagem != null && contagem.getConsultas() > limite) {
+            throw new LimiteConsultasExcedidoException(contagem.getDescricao(), contagem.getConsultas(), limite);
+        }
+    }
+
+    /**
+     * Registra um comando SQL preparado na contagem da thread atual.
+     */
+    static void registrarConsulta() {
+        final QueryCount contagem = ATUAL.get();
+        if (contagem != null) {
+            final int consultas = contagem.registrarConsulta();
+            if (contagem.getLimiteFalha() > 0 && consultas > contagem.getLimiteFalha()) {
+                throw new LimiteConsultasExcedidoException(contagem.getDescricao(), consultas, contagem.getLimiteFalha());
+            }
+        }
+    }
+
+    /**
+     * Registra o tempo de execução de um comando na contagem da thread atual.
+     *
+     * @param nanos a duração em nanossegundos.
+     */
+    static void registrarExecucao(final long nanos) {
+        final QueryCount contagem = ATUAL.get();
+        if (contagem != null) {
+            contagem.registrarExecucao(nanos);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Listener de sessão do Hibernate que mede o tempo de execução dos comandos JDBC, o atribui à {@link QueryCount} da thread atual e registra
+ * os comandos lentos no {@link SlowQueryLog}. Uma instância é criada para cada sessão.
+ *
+ * @author Rafael Braga
+ */
+public class QueryTimingSessionEventListener extends BaseSessionEventListener {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 5254066800361431768L;
+
+    /** Início da execução em andamento. */
+    private long inicio;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteStatementStart() {
+        this.inicio = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        final long duracao = System.nanoTime() - this.inicio;
+        QueryCounter.registrarExecucao(duracao);
+        SlowQueryLog.registrarExecucao(duracao);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteBatchStart() {
+        this.inicio = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        final long duracao = System.nanoTime() - this.inicio;
+        QueryCounter.registrarExecucao(duracao);
+        SlowQueryLog.registrarExecucaoLote(duracao);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void end() {
+        SlowQueryLog.finalizar();
+    }
+
+}
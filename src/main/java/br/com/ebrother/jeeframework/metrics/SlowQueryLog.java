@@ -0,0 +1,169 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registra no log os comandos SQL cuja execução ultrapassa o limite configurado. O SQL é registrado sem os valores literais; os parâmetros
+ * associados pelo Hibernate já aparecem como <code>?</code>.
+ * <p>
+ * Os comandos preparados e ainda não executados ficam guardados na thread atual, na ordem de preparação. A execução de um comando isolado
+ * corresponde ao último comando preparado, pois o Hibernate o executa logo após prepará-lo; a execução de um lote corresponde ao primeiro
+ * comando pendente, pois os lotes são executados na ordem em que seus comandos foram preparados. Os comandos pendentes são descartados ao
+ * final de cada sessão.
+ * <p>
+ * Cada {@link javax.persistence.EntityManagerFactory} tem a sua instância, com o seu limite, entregue ao
+ * {@link QueryCountStatementInspector}. Os comandos pendentes guardam a instância que os preparou, de modo que contextos distintos na mesma
+ * JVM não interferem entre si.
+ *
+ * @author Rafael Braga
+ */
+public class SlowQueryLog implements Serializable {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 3187204962553413850L;
+
+    /** Logger da classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    /** Literais de texto. */
+    private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^']|'')*'");
+
+    /** Literais numéricos que não fazem parte de identificadores. */
+    private static final Pattern LITERAL_NUMERICO = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.$])");
+
+    /** Número máximo de comandos pendentes por thread. Ao ser atingido, o mais antigo é descartado. */
+    private static final int MAXIMO_PENDENTES = 64;
+
+    /** Comandos preparados e ainda não executados na thread atual. */
+    private static final ThreadLocal<Deque<Pendente>> PENDENTES = new ThreadLocal<>();
+
+    /** Duração, em nanossegundos, a partir da qual o comando é registrado. Zero desabilita. */
+    private final long limiteNanos;
+
+    /**
+     * Construtor da classe.
+     *
+     * @param limiteMillis a duração em milissegundos a partir da qual o comando é registrado; zero desabilita.
+     */
+    public SlowQueryLog(final long limiteMillis) {
+        this.limiteNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, limiteMillis));
+    }
+
+    /**
+     * @return o limite em milissegundos; zero indica que o registro está desabilitado.
+     */
+    public long getLimiteMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.limiteNanos);
+    }
+
+    /**
+     * Remove os valores literais do SQL.
+     *
+     * @param sql o SQL.
+     * @return o SQL com os literais substituídos por <code>?</code>.
+     */
+    public static String redigir(final String sql) {
+        if (sql == null) {
+            return null;
+        }
+        return LITERAL_NUMERICO.matcher(LITERAL_TEXTO.matcher(sql).replaceAll("?")).replaceAll("?");
+    }
+
+    /**
+     * Guarda o SQL preparado na thread atual até a sua execução.
+     *
+     * @param sql o SQL.
+     */
+    void registrarSql(final String sql) {
+        if (this.limiteNanos <= 0) {
+            return;
+        }
+        Deque<Pendente> pendentes = PENDENTES.get();
+        if (pendentes == null) {
+            pendentes = new ArrayDeque<>();
+            PENDENTES.set(pendentes);
+        } else if (pendentes.size() >= MAXIMO_PENDENTES) {
+            pendentes.pollFirst();
+        }
+        pendentes.addLast(new Pendente(sql, this));
+    }
+
+    /**
+     * Retira o comando isolado executado e o registra no log se a execução ultrapassou o limite.
+     *
+     * @param nanos a duração em nanossegundos.
+     */
+    static void registrarExecucao(final long nanos) {
+        registrar(nanos, false);
+    }
+
+    /**
+     * Retira o comando do lote executado e o registra no log se a execução ultrapassou o limite.
+     *
+     * @param nanos a duração em nanossegundos.
+     */
+    static void registrarExecucaoLote(final long nanos) {
+        registrar(nanos, true);
+    }
+
+    /**
+     * Descarta os comandos pendentes da thread atual. Chamado ao final de cada sessão.
+     */
+    static void finalizar() {
+        PENDENTES.remove();
+    }
+
+    /**
+     * Retira o comando executado dos pendentes e o registra no log se a execução ultrapassou o limite.
+     *
+     * @param nanos a duração em nanossegundos.
+     * @param lote indica se foi a execução de um lote.
+     */
+    private static void registrar(final long nanos, final boolean lote) {
+        final Deque<Pendente> pendentes = PENDENTES.get();
+        if (pendentes == null) {
+            return;
+        }
+        final Pendente pendente = lote ? pendentes.pollFirst() : pendentes.pollLast();
+        if (pendentes.isEmpty()) {
+            PENDENTES.remove();
+        }
+        if (pendente != null && nanos >= pendente.log.limiteNanos) {
+            LOGGER.warn("Comando SQL lento ({} ms{}): {}", TimeUnit.NANOSECONDS.toMillis(nanos), lote ? ", lote" : "", redigir(pendente.sql));
+        }
+    }
+
+    /**
+     * Comando preparado e ainda não executado, com o registro que o preparou.
+     *
+     * @author Rafael Braga
+     */
+    private static final class Pendente {
+
+        /** O SQL preparado. */
+        private final String sql;
+
+        /** O registro que preparou o comando. */
+        private final SlowQueryLog log;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param sql o SQL preparado.
+         * @param log o registro que preparou o comando.
+         */
+        Pendente(final String sql, final SlowQueryLog log) {
+            this.sql = sql;
+            this.log = log;
+        }
+
+    }
+
+}
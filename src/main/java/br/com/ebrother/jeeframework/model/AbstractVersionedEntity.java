@@ -0,0 +1,89 @@
+package br.com.ebrother.jeeframework.model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import javax.persistence.Access;
+import javax.persistence.AccessType;
+import javax.persistence.Column;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.Version;
+
+/**
+ * Classe abstrata de entidade com controle de concorrência otimista e data da última alteração.
+ * <p>
+ * A versão é incrementada pelo Hibernate a cada alteração, e a gravação de uma instância desatualizada falha com
+ * {@link javax.persistence.OptimisticLockException}. A versão e a data permitem detectar alterações sem carregar a entidade, pelos métodos
+ * <code>findVersion</code> e <code>findModifiedSince</code> de {@link br.com.ebrother.jeeframework.dao.AbstractDAO}.
+ *
+ * @author Rafael Braga
+ *
+ * @param <P> o tipo de dado da chave primária.
+ */
+@MappedSuperclass
+@Access(AccessType.FIELD)
+public abstract class AbstractVersionedEntity<P extends Serializable> extends AbstractEntity<P> implements Versionavel {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 2871547386514726021L;
+
+    /** Nome da propriedade da versão. */
+    public static final String PROPRIEDADE_VERSAO = "versao";
+
+    /** Nome da propriedade da data da última alteração. */
+    public static final String PROPRIEDADE_DATA_ULTIMA_ALTERACAO = "dataUltimaAlteracao";
+
+    /** Versão da entidade. */
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
+    /** Data da última alteração da entidade. */
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "data_ultima_alteracao", nullable = false)
+    private Date dataUltimaAlteracao;
+
+    /**
+     * Atualiza a data da última alteração antes da inclusão e de cada alteração.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void atualizarDataUltimaAlteracao() {
+        this.dataUltimaAlteracao = new Date();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getVersao() {
+        return this.versao;
+    }
+
+    /**
+     * @param versao the versao to set
+     */
+    public void setVersao(final Long versao) {
+        this.versao = versao;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Date getDataUltimaAlteracao() {
+        return this.dataUltimaAlteracao;
+    }
+
+    /**
+     * @param dataUltimaAlteracao the dataUltimaAlteracao to set
+     */
+    public void setDataUltimaAlteracao(final Date dataUltimaAlteracao) {
+        this.dataUltimaAlteracao = dataUltimaAlteracao;
+    }
+
+}
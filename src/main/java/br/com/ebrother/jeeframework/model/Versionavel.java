@@ -0,0 +1,27 @@
+package br.com.ebrother.jeeframework.model;
+
+import java.util.Date;
+
+/**
+ * Interface das entidades que expõem a versão e a data da última alteração, usadas para gerar os cabeçalhos <code>ETag</code> e
+ * <code>Last-Modified</code> sem serializar a resposta.
+ *
+ * @author Rafael Braga
+ */
+public interface Versionavel {
+
+    /**
+     * Retorna a versão da entidade, incrementada a cada alteração.
+     *
+     * @return a versão, ou <code>null</code> se não houver controle de versão.
+     */
+    Long getVersao();
+
+    /**
+     * Retorna a data da última alteração da entidade.
+     *
+     * @return a data da última alteração, ou <code>null</code> se não for conhecida.
+     */
+    Date getDataUltimaAlteracao();
+
+}
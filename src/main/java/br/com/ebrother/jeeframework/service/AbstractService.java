@@ -1,7 +1,10 @@
 package br.com.ebrother.jeeframework.service;
 
+import java.util.function.Consumer;
+
 import org.springframework.beans.factory.annotation.Autowired;
 
+import br.com.ebrother.jeeframework.dao.util.ScrollableResultStream;
 import br.com.ebrother.jeeframework.messages.MessageByLocaleService;
 
 /**
@@ -15,4 +18,21 @@ public abstract class AbstractService {
     @Autowired
     protected MessageByLocaleService mensagens;
 
+    /**
+     * Processa cada registro de um {@link ScrollableResultStream} e o fecha ao final. Deve ser chamado dentro de uma transação. As entidades
+     * percorridas são somente-leitura; as demais operações do consumidor são gravadas a cada limpeza do contexto de persistência.
+     *
+     * @param stream o {@link ScrollableResultStream}.
+     * @param consumidor o processamento de cada registro.
+     * @return o número de registros processados.
+     */
+    protected <T> long processarStream(final ScrollableResultStream<T> stream, final Consumer<? super T> consumidor) {
+        try (ScrollableResultStream<T> registros = stream) {
+            while (registros.hasNext()) {
+                consumidor.accept(registros.next());
+            }
+            return registros.getLidos();
+        }
+    }
+
 }
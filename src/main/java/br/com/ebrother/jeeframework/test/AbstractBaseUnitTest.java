@@ -1,11 +1,13 @@
 package br.com.ebrother.jeeframework.test;
 
-import java.lang.reflect.ParameterizedType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.junit.Before;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.GenericTypeResolver;
 
 /**
  * Classe auxiliar para testes unitários.
@@ -16,6 +18,9 @@ import org.mockito.MockitoAnnotations;
  */
 public abstract class AbstractBaseUnitTest<C> {
 
+    /** Classes em teste já resolvidas, por classe de teste. */
+    private static final ConcurrentMap<Class<?>, Class<?>> CLASSES = new ConcurrentHashMap<>();
+
     /**
      * Classe de teste. É um {@link Mockito#spy(Class)} para poder "sobrescrever" métodos internos.
      */
@@ -42,11 +47,17 @@ public abstract class AbstractBaseUnitTest<C> {
      * Busca a classe que está executando.
      *
      * @return {@link Class} em execução.
+     * @throws IllegalStateException se a subclasse não informar a classe em teste no parâmetro de tipo.
      */
     @SuppressWarnings("unchecked")
     private Class<C> getClazz() {
-        final ParameterizedType paramType = (ParameterizedType) this.getClass().getGenericSuperclass();
-        return (Class<C>) paramType.getActualTypeArguments()[0];
+        final Class<?> classe = CLASSES.computeIfAbsent(this.getClass(),
+                teste -> GenericTypeResolver.resolveTypeArgument(teste, AbstractBaseUnitTest.class));
+        if (classe == null) {
+            throw new IllegalStateException("Não foi possível determinar a classe em teste de " + this.getClass().getName() + "; informe-a no "
+                    + "parâmetro de tipo, como em \"extends " + AbstractBaseUnitTest.class.getSimpleName() + "<MinhaClasse>\".");
+        }
+        return (Class<C>) classe;
     }
 
 }
@@ -0,0 +1,66 @@
+package br.com.ebrother.jeeframework.config;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.com.ebrother.jeeframework.datasource.InstrumentedDataSource;
+
+/**
+ * Testes do pool de conexões criado por {@link JPAConfiguration}.
+ *
+ * @author Rafael Braga
+ */
+public class JPAConfigurationTest {
+
+    /** Número mínimo de conexões do pool. */
+    private static final int MINIMO = 2;
+
+    /** Número de aquisições de conexão. */
+    private static final int AQUISICOES = 100;
+
+    /** O datasource testado. */
+    private InstrumentedDataSource dataSource;
+
+    /**
+     * Cria o pool de conexões com um banco H2 em memória.
+     */
+    @Before
+    public void iniciar() {
+        final JPAConfiguration configuration = new JPAConfiguration();
+        configuration.getPool().setMinSize(MINIMO);
+        configuration.getPool().setMaxSize(10);
+        this.dataSource = configuration.createPooledDataSource("jpa-test", "org.h2.Driver", "jdbc:h2:mem:jpa-test;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    /**
+     * Fecha o pool de conexões.
+     */
+    @After
+    public void finalizar() {
+        this.dataSource.close();
+    }
+
+    /**
+     * Conexões abertas e fechadas em sequência devem ser reaproveitadas, sem que o pool crie conexões além do mínimo.
+     *
+     * @throws SQLException em caso de erro de acesso ao banco.
+     */
+    @Test
+    public void deveReaproveitarConexoesDoPool() throws SQLException {
+        for (int i = 0; i < AQUISICOES; i++) {
+            try (final Connection connection = this.dataSource.getConnection()) {
+                connection.createStatement().execute("SELECT 1");
+            }
+        }
+        assertEquals(MINIMO, this.dataSource.getPool().getCreatedCount());
+        assertEquals(AQUISICOES, this.dataSource.getPool().getBorrowedCount());
+        assertEquals(MINIMO, this.dataSource.getPool().getSize());
+    }
+
+}
@@ -0,0 +1,218 @@
+package br.com.ebrother.jeeframework.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+
+import br.com.ebrother.jeeframework.controller.stream.JsonStreamingResponseBody;
+import br.com.ebrother.jeeframework.controller.stream.StreamingFormat;
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+
+/**
+ * Testes da transmissão de registros por {@link AbstractController#transmitir(JsonStreamingResponseBody)}.
+ *
+ * @author Rafael Braga
+ */
+public class PessoaControllerTest {
+
+    /** O controller de teste. */
+    private PessoaController controller;
+
+    /** O {@link MockMvc} do controller de teste. */
+    private MockMvc mockMvc;
+
+    /**
+     * Cria o controller de teste com um {@link ObjectMapper} da aplicação que usa nomes em <i>snake case</i>.
+     */
+    @Before
+    public void iniciar() {
+        this.controller = new PessoaController();
+        final ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        ReflectionTestUtils.setField(this.controller, "objectMapper", objectMapper);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(this.controller).build();
+    }
+
+    /**
+     * O array JSON deve ser escrito com o {@link ObjectMapper} da aplicação e o tipo de conteúdo do formato.
+     *
+     * @throws Exception em caso de erro na requisição.
+     */
+    @Test
+    public void deveTransmitirArrayJsonComMapperDaAplicacao() throws Exception {
+        final MvcResult resultado = this.mockMvc.perform(get("/pessoas")).andExpect(request().asyncStarted()).andReturn();
+
+        assertNull(resultado.getAsyncResult());
+        assertEquals(MediaType.APPLICATION_JSON_UTF8_VALUE, resultado.getResponse().getContentType());
+        assertEquals("[{\"nome_completo\":\"Ana\"},{\"nome_completo\":\"Bia\"}]", resultado.getResponse().getContentAsString());
+        assertTrue(this.controller.fechado.get());
+    }
+
+    /**
+     * O NDJSON deve ter um registro por linha, e o {@link ObjectMapper} do próprio corpo deve ser mantido.
+     *
+     * @throws Exception em caso de erro na requisição.
+     */
+    @Test
+    public void deveTransmitirNdjsonComMapperDoCorpo() throws Exception {
+        final MvcResult resultado = this.mockMvc.perform(get("/pessoas.ndjson")).andExpect(request().asyncStarted()).andReturn();
+
+        assertNull(resultado.getAsyncResult());
+        assertEquals(StreamingFormat.NDJSON.getMediaType().toString(), resultado.getResponse().getContentType());
+        assertEquals("{\"nomeCompleto\":\"Ana\"}\n{\"nomeCompleto\":\"Bia\"}\n", resultado.getResponse().getContentAsString());
+    }
+
+    /**
+     * Uma falha na leitura da origem não pode produzir um array JSON fechado, e a origem deve ser fechada.
+     *
+     * @throws Exception em caso de erro na requisição.
+     */
+    @Test
+    public void deveInterromperTransmissaoSemFecharArray() throws Exception {
+        final MvcResult resultado = this.mockMvc.perform(get("/pessoas/falha")).andExpect(request().asyncStarted()).andReturn();
+
+        assertTrue(String.valueOf(resultado.getAsyncResult()), resultado.getAsyncResult() instanceof IllegalStateException);
+        assertEquals("[{\"nome_completo\":\"Ana\"}", resultado.getResponse().getContentAsString());
+        assertTrue(this.controller.fechado.get());
+    }
+
+    /**
+     * Controller de teste.
+     */
+    @RestController
+    public static class PessoaController extends AbstractController {
+
+        /** Indica se a origem foi fechada. */
+        private final AtomicBoolean fechado = new AtomicBoolean();
+
+        /**
+         * @return as pessoas em um array JSON.
+         */
+        @GetMapping("/pessoas")
+        public ResponseEntity<StreamingResponseBody> listar() {
+            final Stream<String> nomes = Stream.of("Ana", "Bia").onClose(() -> this.fechado.set(true));
+            return this.transmitir(JsonStreamingResponseBody.of(nomes, StreamingFormat.JSON_ARRAY).map(PessoaDTO::new));
+        }
+
+        /**
+         * @return as pessoas em NDJSON, com o {@link ObjectMapper} padrão.
+         */
+        @GetMapping("/pessoas.ndjson")
+        public ResponseEntity<StreamingResponseBody> listarNdjson() {
+            final JsonStreamingResponseBody<PessoaDTO> corpo = JsonStreamingResponseBody.of(Arrays.asList(new PessoaDTO("Ana"), new PessoaDTO("Bia"))
+                    .iterator(), StreamingFormat.NDJSON);
+            corpo.setObjectMapper(new ObjectMapper());
+            return this.transmitir(corpo);
+        }
+
+        /**
+         * @return as pessoas de uma origem que falha após o primeiro registro.
+         */
+        @GetMapping("/pessoas/falha")
+        public ResponseEntity<StreamingResponseBody> listarComFalha() {
+            final Iterator<String> nomes = Stream.of("Ana", "Bia").map(nome -> {
+                if ("Bia".equals(nome)) {
+                    throw new IllegalStateException("Falha na leitura.");
+                }
+                return nome;
+            }).iterator();
+            return this.transmitir(JsonStreamingResponseBody.of(new OrigemFechavel(nomes), StreamingFormat.JSON_ARRAY).map(PessoaDTO::new));
+        }
+
+        /**
+         * Origem que registra o seu fechamento.
+         */
+        private final class OrigemFechavel implements Iterator<String>, AutoCloseable {
+
+            /** Os registros. */
+            private final Iterator<String> itens;
+
+            /**
+             * Construtor da classe.
+             *
+             * @param itens os registros.
+             */
+            OrigemFechavel(final Iterator<String> itens) {
+                this.itens = itens;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean hasNext() {
+                return this.itens.hasNext();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String next() {
+                return this.itens.next();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void close() throws IOException {
+                PessoaController.this.fechado.set(true);
+            }
+
+        }
+
+    }
+
+    /**
+     * DTO de teste.
+     */
+    public static class PessoaDTO extends AbstractDTO {
+
+        /** Constante de serialização. */
+        private static final long serialVersionUID = 1L;
+
+        /** Nome completo. */
+        private final String nomeCompleto;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param nomeCompleto o nome completo.
+         */
+        public PessoaDTO(final String nomeCompleto) {
+            this.nomeCompleto = nomeCompleto;
+        }
+
+        /**
+         * @return the nomeCompleto
+         */
+        public String getNomeCompleto() {
+            return this.nomeCompleto;
+        }
+
+    }
+
+}
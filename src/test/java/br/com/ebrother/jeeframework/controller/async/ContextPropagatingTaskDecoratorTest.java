@@ -0,0 +1,89 @@
+package br.com.ebrother.jeeframework.controller.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import br.com.ebrother.jeeframework.controller.locale.StatelessLocaleResolver;
+
+/**
+ * Testes de {@link ContextPropagatingTaskDecorator}.
+ *
+ * @author Rafael Braga
+ */
+public class ContextPropagatingTaskDecoratorTest {
+
+    /** Executor que simula a thread de trabalho. */
+    private ExecutorService executor;
+
+    /**
+     * Cria o executor.
+     */
+    @Before
+    public void iniciar() {
+        this.executor = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Encerra o executor e limpa o contexto da thread do teste.
+     */
+    @After
+    public void finalizar() {
+        this.executor.shutdownNow();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    /**
+     * A linguagem deve ser lida na thread de trabalho mesmo depois que a requisição foi concluída e não pode mais ser consultada.
+     *
+     * @throws Exception em caso de falha da tarefa.
+     */
+    @Test
+    public void devePropagarLinguagemResolvidaAposConclusaoDaRequisicao() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_LANGUAGE, "en-US");
+        final StatelessLocaleResolver resolver = new StatelessLocaleResolver();
+        // MESMO CONTEXTO PREGUIÇOSO QUE O DISPATCHERSERVLET ASSOCIA À THREAD DA REQUISIÇÃO
+        LocaleContextHolder.setLocaleContext(() -> resolver.resolveLocale(request));
+
+        final CompletableFuture<Locale> locale = new CompletableFuture<>();
+        final Runnable tarefa = new ContextPropagatingTaskDecorator().decorate(() -> {
+            try {
+                locale.complete(LocaleContextHolder.getLocale());
+            } catch (final RuntimeException e) {
+                locale.completeExceptionally(e);
+            }
+        });
+        request.close();
+        LocaleContextHolder.resetLocaleContext();
+        this.executor.execute(tarefa);
+
+        assertEquals(Locale.forLanguageTag("en-US"), locale.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * O contexto anterior da thread de trabalho deve ser restaurado ao final da tarefa.
+     *
+     * @throws Exception em caso de falha da tarefa.
+     */
+    @Test
+    public void deveRestaurarContextoDaThreadDeTrabalho() throws Exception {
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        this.executor.submit(new ContextPropagatingTaskDecorator().decorate(() -> assertEquals(Locale.ENGLISH, LocaleContextHolder.getLocale())))
+                .get(5, TimeUnit.SECONDS);
+        assertNull(this.executor.submit(LocaleContextHolder::getLocaleContext).get(5, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,123 @@
+package br.com.ebrother.jeeframework.controller.locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Testes de {@link StatelessLocaleResolver}.
+ *
+ * @author Rafael Braga
+ */
+public class StatelessLocaleResolverTest {
+
+    /** Linguagem padrão. */
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+
+    /** Inglês dos Estados Unidos. */
+    private static final Locale EN_US = Locale.forLanguageTag("en-US");
+
+    /** Espanhol. */
+    private static final Locale ES = Locale.forLanguageTag("es");
+
+    /** O resolvedor testado, configurado como em WebConfiguration. */
+    private StatelessLocaleResolver resolver;
+
+    /**
+     * Cria o resolvedor com as linguagens dos arquivos de mensagens do framework.
+     */
+    @Before
+    public void iniciar() {
+        this.resolver = new StatelessLocaleResolver();
+        this.resolver.setDefaultLocale(PT_BR);
+        this.resolver.setParamName("lang");
+        this.resolver.setCookie("lang", -1);
+        this.resolver.setSupportedLocales(Arrays.asList(PT_BR, EN_US, ES));
+    }
+
+    /**
+     * O parâmetro tem prioridade sobre o cookie e o cabeçalho.
+     */
+    @Test
+    public void deveUsarParametroAntesDoCookieEDoCabecalho() {
+        final MockHttpServletRequest request = requisicao("es", "en-US", "pt-BR");
+        assertEquals(ES, this.resolver.resolveLocale(request));
+    }
+
+    /**
+     * O cookie tem prioridade sobre o cabeçalho, inclusive quando o parâmetro é inválido.
+     */
+    @Test
+    public void deveUsarCookieAntesDoCabecalho() {
+        assertEquals(EN_US, this.resolver.resolveLocale(requisicao(null, "en-US", "es")));
+        assertEquals(EN_US, this.resolver.resolveLocale(requisicao("%%", "en-US", "es")));
+    }
+
+    /**
+     * Sem parâmetro e cookie, vale a linguagem preferida do cabeçalho que for suportada.
+     */
+    @Test
+    public void deveUsarCabecalhoPorOrdemDePreferencia() {
+        assertEquals(ES, this.resolver.resolveLocale(requisicao(null, null, "fr-FR, es;q=0.8, en;q=0.5")));
+        assertEquals(EN_US, this.resolver.resolveLocale(requisicao(null, null, "en-GB, es;q=0.5")));
+        assertEquals(EN_US, this.resolver.resolveLocale(requisicao(null, null, "en")));
+    }
+
+    /**
+     * Linguagens sem arquivo de mensagens resolvem para a linguagem padrão, e não para a linguagem pedida.
+     */
+    @Test
+    public void deveUsarLinguagemPadraoParaLinguagemNaoSuportada() {
+        assertEquals(PT_BR, this.resolver.resolveLocale(requisicao(null, null, "fr")));
+        assertEquals(PT_BR, this.resolver.resolveLocale(requisicao("de", "it", "fr")));
+        assertEquals(PT_BR, this.resolver.resolveLocale(requisicao(null, null, "*")));
+        assertEquals(PT_BR, this.resolver.resolveLocale(requisicao(null, null, null)));
+    }
+
+    /**
+     * A troca de linguagem vale para a requisição atual e é gravada no cookie.
+     */
+    @Test
+    public void deveGravarLinguagemTrocadaNoCookie() {
+        final MockHttpServletRequest request = requisicao(null, null, "es");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        this.resolver.setLocale(request, response, EN_US);
+        assertEquals(EN_US, this.resolver.resolveLocale(request));
+        final Cookie cookie = response.getCookie("lang");
+        assertNotNull(cookie);
+        assertEquals("en-US", cookie.getValue());
+    }
+
+    /**
+     * Cria a requisição.
+     *
+     * @param parametro o parâmetro <code>lang</code>, ou <code>null</code>.
+     * @param cookie o cookie <code>lang</code>, ou <code>null</code>.
+     * @param cabecalho o cabeçalho <code>Accept-Language</code>, ou <code>null</code>.
+     * @return a {@link MockHttpServletRequest}.
+     */
+    private static MockHttpServletRequest requisicao(final String parametro, final String cookie, final String cabecalho) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        if (parametro != null) {
+            request.setParameter("lang", parametro);
+        }
+        if (cookie != null) {
+            request.setCookies(new Cookie("lang", cookie));
+        }
+        if (cabecalho != null) {
+            request.addHeader(HttpHeaders.ACCEPT_LANGUAGE, cabecalho);
+        }
+        return request;
+    }
+
+}
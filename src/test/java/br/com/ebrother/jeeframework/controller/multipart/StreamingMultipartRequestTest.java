@@ -0,0 +1,203 @@
+package br.com.ebrother.jeeframework.controller.multipart;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+/**
+ * Testes da leitura das partes multipart sob demanda, por meio de {@link StreamingMultipartRequest} e {@link StreamingPart}.
+ *
+ * @author Rafael Braga
+ */
+public class StreamingMultipartRequestTest {
+
+    /** Delimitador das partes das requisições de teste. */
+    private static final String DELIMITADOR = "----jeeframework";
+
+    /** Tamanho do arquivo enviado. */
+    private static final int TAMANHO_ARQUIVO = 4096;
+
+    /** Diretório dos arquivos recebidos. */
+    @Rule
+    public TemporaryFolder diretorio = new TemporaryFolder();
+
+    /** O resolvedor de multipart, configurado como em WebConfiguration. */
+    private StreamingMultipartResolver resolver;
+
+    /** O {@link MockMvc} do controller de teste. */
+    private MockMvc mockMvc;
+
+    /** O conteúdo do arquivo enviado. */
+    private byte[] arquivo;
+
+    /**
+     * Cria o controller de teste com o caminho de streaming <code>/documentos</code>.
+     */
+    @Before
+    public void iniciar() {
+        this.resolver = new StreamingMultipartResolver();
+        this.resolver.setStreamingPaths("/documentos");
+        final DocumentoController controller = new DocumentoController();
+        controller.diretorio = this.diretorio.getRoot().toPath();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new StreamingMultipartArgumentResolver(this.resolver)).build();
+        this.arquivo = new byte[TAMANHO_ARQUIVO];
+        for (int i = 0; i < this.arquivo.length; i++) {
+            this.arquivo[i] = (byte) i;
+        }
+    }
+
+    /**
+     * Os campos devem ser lidos na ordem de chegada e o arquivo gravado integralmente por {@link StreamingPart#transferTo(Path)}.
+     *
+     * @throws Exception em caso de erro na requisição.
+     */
+    @Test
+    public void deveGravarArquivoNaOrdemDasPartes() throws Exception {
+        this.mockMvc.perform(requisicao("/documentos", this.arquivo)).andExpect(status().isOk())
+                .andExpect(content().string("descricao=contrato;arquivo:" + TAMANHO_ARQUIVO + ";"));
+
+        final Path gravado = this.diretorio.getRoot().toPath().resolve("contrato.bin");
+        assertArrayEquals(this.arquivo, Files.readAllBytes(gravado));
+    }
+
+    /**
+     * Uma requisição maior que o limite total deve resultar em {@link MaxUploadSizeExceededException} antes da leitura das partes.
+     *
+     * @throws Exception em caso de erro na requisição.
+     */
+    @Test
+    public void deveTraduzirLimiteDaRequisicao() throws Exception {
+        this.resolver.setMaxUploadSize(1024);
+
+        final MvcResult resultado = this.mockMvc.perform(requisicao("/documentos", this.arquivo)).andExpect(status().isPayloadTooLarge()).andReturn();
+
+        assertEquals(1024, ((MaxUploadSizeExceededException) resultado.getResolvedException()).getMaxUploadSize());
+        assertEquals(0, this.diretorio.getRoot().list().length);
+    }
+
+    /**
+     * Um arquivo maior que o limite por arquivo deve interromper {@link StreamingPart#transferTo(Path)} com
+     * {@link MaxUploadSizeExceededException}.
+     *
+     * @throws Exception em caso de erro na requisição.
+     */
+    @Test
+    public void deveTraduzirLimiteDoArquivoDuranteATransferencia() throws Exception {
+        this.resolver.setMaxUploadSizePerFile(1024);
+
+        final MvcResult resultado = this.mockMvc.perform(requisicao("/documentos", this.arquivo)).andExpect(status().isPayloadTooLarge()).andReturn();
+
+        assertEquals(1024, ((MaxUploadSizeExceededException) resultado.getResolvedException()).getMaxUploadSize());
+        final Path gravado = this.diretorio.getRoot().toPath().resolve("contrato.bin");
+        assertTrue(Files.size(gravado) <= 1024);
+    }
+
+    /**
+     * Um caminho fora de <code>web.multipart.streamingPaths</code> não pode receber a {@link StreamingMultipartRequest}.
+     *
+     * @throws Exception em caso de erro na requisição.
+     */
+    @Test
+    public void deveRejeitarCaminhoForaDoStreaming() throws Exception {
+        final MvcResult resultado = this.mockMvc.perform(requisicao("/anexos", this.arquivo)).andExpect(status().isBadRequest()).andReturn();
+
+        assertEquals(MultipartException.class, resultado.getResolvedException().getClass());
+    }
+
+    /**
+     * Monta uma requisição multipart com um campo de formulário seguido de um arquivo, sem o tamanho de cada parte.
+     *
+     * @param caminho o caminho da requisição.
+     * @param arquivo o conteúdo do arquivo.
+     * @return a requisição.
+     * @throws IOException em caso de erro na montagem do corpo.
+     */
+    private static MockHttpServletRequestBuilder requisicao(final String caminho, final byte[] arquivo) throws IOException {
+        final ByteArrayOutputStream corpo = new ByteArrayOutputStream();
+        corpo.write(("--" + DELIMITADOR + "\r\nContent-Disposition: form-data; name=\"descricao\"\r\n\r\ncontrato\r\n").getBytes(StandardCharsets.UTF_8));
+        corpo.write(("--" + DELIMITADOR + "\r\nContent-Disposition: form-data; name=\"arquivo\"; filename=\"contrato.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        corpo.write(arquivo);
+        corpo.write(("\r\n--" + DELIMITADOR + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return post(caminho).contentType("multipart/form-data; boundary=" + DELIMITADOR).content(corpo.toByteArray());
+    }
+
+    /**
+     * Controller de teste que grava os arquivos recebidos e descreve as partes lidas.
+     */
+    @RestController
+    public static class DocumentoController {
+
+        /** Diretório dos arquivos recebidos. */
+        private Path diretorio;
+
+        /**
+         * Recebe as partes nos caminhos de streaming.
+         *
+         * @param partes as partes da requisição.
+         * @return a descrição das partes, na ordem em que foram lidas.
+         * @throws IOException em caso de erro de leitura ou gravação.
+         */
+        @PostMapping({ "/documentos", "/anexos" })
+        public String enviar(final StreamingMultipartRequest partes) throws IOException {
+            final StringBuilder descricao = new StringBuilder();
+            while (partes.hasNext()) {
+                final StreamingPart parte = partes.next();
+                if (parte.isFormField()) {
+                    descricao.append(parte.getName()).append('=').append(parte.getString(StandardCharsets.UTF_8)).append(';');
+                } else {
+                    final long gravados = parte.transferTo(this.diretorio.resolve(parte.getOriginalFilename()));
+                    descricao.append(parte.getName()).append(':').append(gravados).append(';');
+                }
+            }
+            return descricao.toString();
+        }
+
+        /**
+         * Responde com 413 quando um limite de tamanho é ultrapassado.
+         */
+        @ExceptionHandler(MaxUploadSizeExceededException.class)
+        @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+        public void tamanhoExcedido() {
+            // SOMENTE O STATUS
+        }
+
+        /**
+         * Responde com 400 quando a requisição não pode ser lida sob demanda.
+         */
+        @ExceptionHandler(MultipartException.class)
+        @ResponseStatus(HttpStatus.BAD_REQUEST)
+        public void multipartInvalido() {
+            // SOMENTE O STATUS
+        }
+
+    }
+
+}
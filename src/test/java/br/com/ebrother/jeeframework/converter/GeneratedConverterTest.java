@@ -0,0 +1,429 @@
+package br.com.ebrother.jeeframework.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+import br.com.ebrother.jeeframework.model.AbstractEntity;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * Testes do {@link GeneratedConverter}.
+ *
+ * @author Rafael Braga
+ */
+public class GeneratedConverterTest {
+
+    /** Logger do {@link GeneratedConverter}. */
+    private Logger logger;
+
+    /** Eventos registrados no log. */
+    private ListAppender<ILoggingEvent> eventos;
+
+    /**
+     * Captura os eventos do log.
+     */
+    @Before
+    public void iniciar() {
+        this.logger = (Logger) LoggerFactory.getLogger(GeneratedConverter.class);
+        this.eventos = new ListAppender<>();
+        this.eventos.start();
+        this.logger.addAppender(this.eventos);
+    }
+
+    /**
+     * Remove a captura dos eventos.
+     */
+    @After
+    public void finalizar() {
+        this.logger.detachAppender(this.eventos);
+    }
+
+    /**
+     * As coleções de destino devem ter o tipo declarado no setter, e os conjuntos ordenados de origem devem manter a ordem e o comparador.
+     */
+    @Test
+    public void deveCriarColecaoConformeTipoDoSetter() {
+        final Produto produto = new Produto();
+        produto.setEtiquetas(new TreeSet<>(Collections.reverseOrder()));
+        produto.getEtiquetas().addAll(Arrays.asList("a", "c", "b"));
+        produto.setCodigos(new LinkedHashSet<>(Arrays.asList(3, 1, 2)));
+        produto.setHistorico(Arrays.asList("criado", "alterado"));
+        produto.setCores(new TreeSet<>(Arrays.asList("verde", "azul")));
+
+        final ProdutoDTO dto = new ProdutoConverter().convertToDTO(produto);
+
+        assertEquals(Arrays.asList("c", "b", "a"), Arrays.asList(dto.getEtiquetas().toArray()));
+        assertEquals(TreeSet.class, dto.getCodigos().getClass());
+        assertEquals(Arrays.asList(1, 2, 3), Arrays.asList(dto.getCodigos().toArray()));
+        assertEquals(LinkedList.class, dto.getHistorico().getClass());
+        assertEquals(Arrays.asList("criado", "alterado"), dto.getHistorico());
+        assertEquals(TreeSet.class, dto.getCores().getClass());
+        assertEquals(Arrays.asList("azul", "verde"), Arrays.asList(dto.getCores().toArray()));
+    }
+
+    /**
+     * As propriedades de mesmo nome e tipos incompatíveis devem ser registradas no log na criação do converter e ficar com o valor padrão.
+     */
+    @Test
+    public void deveRegistrarPropriedadesIncompativeis() {
+        final Produto produto = new Produto();
+        produto.setPeso("1,5 kg");
+
+        final ProdutoDTO dto = new ProdutoConverter().convertToDTO(produto);
+
+        assertNull(dto.getPeso());
+        assertEquals(2, this.eventos.list.size());
+        for (final ILoggingEvent evento : this.eventos.list) {
+            assertEquals(Level.WARN, evento.getLevel());
+            assertTrue(evento.getFormattedMessage(), evento.getFormattedMessage().contains("peso"));
+        }
+    }
+
+    /**
+     * Uma entidade aninhada sem converter registrado não pode ser descartada silenciosamente.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void deveRejeitarEntidadeAninhadaSemConverter() {
+        final Produto produto = new Produto();
+        produto.setCategoria(new Categoria());
+        new ProdutoConverter().convertToDTO(produto);
+    }
+
+    /**
+     * A conversão paralela deve preservar a ordem e retornar uma lista que pode ser alterada, como a sequencial.
+     */
+    @Test
+    public void deveConverterListaEmParaleloPreservandoOrdem() {
+        final ProdutoConverter converter = new ProdutoConverter();
+        converter.setLimiteParalelo(2);
+        final List<Produto> produtos = LongStream.rangeClosed(1, 500).mapToObj(id -> {
+            final Produto produto = new Produto();
+            produto.setId(id);
+            return produto;
+        }).collect(Collectors.toList());
+
+        final List<ProdutoDTO> dtos = converter.convertToDTOList(produtos);
+        assertEquals(LongStream.rangeClosed(1, 500).boxed().collect(Collectors.toList()),
+                dtos.stream().map(ProdutoDTO::getId).collect(Collectors.toList()));
+        dtos.add(new ProdutoDTO());
+
+        final List<Long> ids = converter.convertToEntityStream(dtos.stream().limit(3)).map(Produto::getId).collect(Collectors.toList());
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids);
+    }
+
+    /**
+     * Converter de teste.
+     */
+    public static class ProdutoConverter extends GeneratedConverter<Produto, ProdutoDTO> {
+        // MAPEAMENTO GERADO
+    }
+
+    /**
+     * Entidade de teste.
+     */
+    public static class Produto extends AbstractEntity<Long> {
+
+        /** Constante de serialização. */
+        private static final long serialVersionUID = 1L;
+
+        /** Identificador. */
+        private Long id;
+
+        /** Etiquetas. */
+        private SortedSet<String> etiquetas;
+
+        /** Códigos. */
+        private Set<Integer> codigos;
+
+        /** Histórico. */
+        private List<String> historico;
+
+        /** Cores. */
+        private Set<String> cores;
+
+        /** Peso, com tipo diferente do DTO. */
+        private String peso;
+
+        /** Categoria, sem converter registrado. */
+        private Categoria categoria;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Long getId() {
+            return this.id;
+        }
+
+        /**
+         * @param id the id to set
+         */
+        public void setId(final Long id) {
+            this.id = id;
+        }
+
+        /**
+         * @return the etiquetas
+         */
+        public SortedSet<String> getEtiquetas() {
+            return this.etiquetas;
+        }
+
+        /**
+         * @param etiquetas the etiquetas to set
+         */
+        public void setEtiquetas(final SortedSet<String> etiquetas) {
+            this.etiquetas = etiquetas;
+        }
+
+        /**
+         * @return the codigos
+         */
+        public Set<Integer> getCodigos() {
+            return this.codigos;
+        }
+
+        /**
+         * @param codigos the codigos to set
+         */
+        public void setCodigos(final Set<Integer> codigos) {
+            this.codigos = codigos;
+        }
+
+        /**
+         * @return the historico
+         */
+        public List<String> getHistorico() {
+            return this.historico;
+        }
+
+        /**
+         * @param historico the historico to set
+         */
+        public void setHistorico(final List<String> historico) {
+            this.historico = historico;
+        }
+
+        /**
+         * @return the cores
+         */
+        public Set<String> getCores() {
+            return this.cores;
+        }
+
+        /**
+         * @param cores the cores to set
+         */
+        public void setCores(final Set<String> cores) {
+            this.cores = cores;
+        }
+
+        /**
+         * @return the peso
+         */
+        public String getPeso() {
+            return this.peso;
+        }
+
+        /**
+         * @param peso the peso to set
+         */
+        public void setPeso(final String peso) {
+            this.peso = peso;
+        }
+
+        /**
+         * @return the categoria
+         */
+        public Categoria getCategoria() {
+            return this.categoria;
+        }
+
+        /**
+         * @param categoria the categoria to set
+         */
+        public void setCategoria(final Categoria categoria) {
+            this.categoria = categoria;
+        }
+
+    }
+
+    /**
+     * DTO de teste.
+     */
+    public static class ProdutoDTO extends AbstractDTO {
+
+        /** Constante de serialização. */
+        private static final long serialVersionUID = 1L;
+
+        /** Identificador. */
+        private Long id;
+
+        /** Etiquetas. */
+        private SortedSet<String> etiquetas;
+
+        /** Códigos. */
+        private TreeSet<Integer> codigos;
+
+        /** Histórico. */
+        private LinkedList<String> historico;
+
+        /** Cores. */
+        private Set<String> cores;
+
+        /** Peso. */
+        private Double peso;
+
+        /** Categoria. */
+        private CategoriaDTO categoria;
+
+        /**
+         * @return the id
+         */
+        public Long getId() {
+            return this.id;
+        }
+
+        /**
+         * @param id the id to set
+         */
+        public void setId(final Long id) {
+            this.id = id;
+        }
+
+        /**
+         * @return the etiquetas
+         */
+        public SortedSet<String> getEtiquetas() {
+            return this.etiquetas;
+        }
+
+        /**
+         * @param etiquetas the etiquetas to set
+         */
+        public void setEtiquetas(final SortedSet<String> etiquetas) {
+            this.etiquetas = etiquetas;
+        }
+
+        /**
+         * @return the codigos
+         */
+        public TreeSet<Integer> getCodigos() {
+            return this.codigos;
+        }
+
+        /**
+         * @param codigos the codigos to set
+         */
+        public void setCodigos(final TreeSet<Integer> codigos) {
+            this.codigos = codigos;
+        }
+
+        /**
+         * @return the historico
+         */
+        public LinkedList<String> getHistorico() {
+            return this.historico;
+        }
+
+        /**
+         * @param historico the historico to set
+         */
+        public void setHistorico(final LinkedList<String> historico) {
+            this.historico = historico;
+        }
+
+        /**
+         * @return the cores
+         */
+        public Set<String> getCores() {
+            return this.cores;
+        }
+
+        /**
+         * @param cores the cores to set
+         */
+        public void setCores(final Set<String> cores) {
+            this.cores = cores;
+        }
+
+        /**
+         * @return the peso
+         */
+        public Double getPeso() {
+            return this.peso;
+        }
+
+        /**
+         * @param peso the peso to set
+         */
+        public void setPeso(final Double peso) {
+            this.peso = peso;
+        }
+
+        /**
+         * @return the categoria
+         */
+        public CategoriaDTO getCategoria() {
+            return this.categoria;
+        }
+
+        /**
+         * @param categoria the categoria to set
+         */
+        public void setCategoria(final CategoriaDTO categoria) {
+            this.categoria = categoria;
+        }
+
+    }
+
+    /**
+     * Entidade aninhada de teste.
+     */
+    public static class Categoria extends AbstractEntity<Long> {
+
+        /** Constante de serialização. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Long getId() {
+            return null;
+        }
+
+    }
+
+    /**
+     * DTO aninhado de teste.
+     */
+    public static class CategoriaDTO extends AbstractDTO {
+
+        /** Constante de serialização. */
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
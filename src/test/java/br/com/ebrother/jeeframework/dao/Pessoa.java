@@ -0,0 +1,122 @@
+package br.com.ebrother.jeeframework.dao;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+
+import br.com.ebrother.jeeframework.model.AbstractEntity;
+
+/**
+ * Entidade usada nos testes do {@link AbstractDAO}.
+ *
+ * @author Rafael Braga
+ */
+@Entity
+public class Pessoa extends AbstractEntity<Long> {
+
+    /** Constante de serialização. */
+    private static final long serialVersionUID = 4410239761823164520L;
+
+    /** Situações da pessoa. */
+    public enum Situacao {
+        /** Ativa. */
+        ATIVA,
+        /** Inativa. */
+        INATIVA;
+    }
+
+    /** Identificador. */
+    @Id
+    private Long id;
+
+    /** Nome. */
+    private String nome;
+
+    /** Idade. */
+    private Integer idade;
+
+    /** Situação. */
+    @Enumerated(EnumType.STRING)
+    private Situacao situacao;
+
+    /**
+     * Construtor padrão, usado pelo Hibernate.
+     */
+    public Pessoa() {
+        super();
+    }
+
+    /**
+     * Construtor da classe.
+     *
+     * @param id o identificador.
+     * @param nome o nome.
+     * @param idade a idade.
+     * @param situacao a situação.
+     */
+    public Pessoa(final Long id, final String nome, final Integer idade, final Situacao situacao) {
+        this.id = id;
+        this.nome = nome;
+        this.idade = idade;
+        this.situacao = situacao;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * @param id the id to set
+     */
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the nome
+     */
+    public String getNome() {
+        return this.nome;
+    }
+
+    /**
+     * @param nome the nome to set
+     */
+    public void setNome(final String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * @return the idade
+     */
+    public Integer getIdade() {
+        return this.idade;
+    }
+
+    /**
+     * @param idade the idade to set
+     */
+    public void setIdade(final Integer idade) {
+        this.idade = idade;
+    }
+
+    /**
+     * @return the situacao
+     */
+    public Situacao getSituacao() {
+        return this.situacao;
+    }
+
+    /**
+     * @param situacao the situacao to set
+     */
+    public void setSituacao(final Situacao situacao) {
+        this.situacao = situacao;
+    }
+
+}
@@ -0,0 +1,47 @@
+package br.com.ebrother.jeeframework.dao;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.Criteria;
+
+import br.com.ebrother.jeeframework.dao.util.KeysetPage;
+import br.com.ebrother.jeeframework.dao.util.ModoContagem;
+import br.com.ebrother.jeeframework.dao.util.Pagina;
+
+/**
+ * DAO usado nos testes do {@link AbstractDAO}, que expõe as consultas protegidas.
+ *
+ * @author Rafael Braga
+ */
+public class PessoaDAO extends AbstractDAO<Pessoa, Long> {
+
+    /**
+     * Realiza a consulta paginada de pessoas.
+     *
+     * @param filtro aplica as restrições à {@link Criteria}.
+     * @param firstResult o índice do primeiro registro.
+     * @param maxResults o número de registros.
+     * @param mapOrdenacao os campos para ordenação.
+     * @param modo o {@link ModoContagem}.
+     * @return a {@link Pagina}.
+     */
+    public Pagina<Pessoa> paginar(final Consumer<Criteria> filtro, final int firstResult, final int maxResults,
+            final Map<String, Boolean> mapOrdenacao, final ModoContagem modo) {
+        return this.executeCriteriaPage(filtro, firstResult, maxResults, mapOrdenacao, modo);
+    }
+
+    /**
+     * Realiza a consulta de todas as pessoas paginada por chave.
+     *
+     * @param mapOrdenacao as propriedades de ordenação.
+     * @param cursor o cursor da página anterior, ou <code>null</code>.
+     * @param maxResults o número de registros por página.
+     * @return a {@link KeysetPage}.
+     */
+    public KeysetPage<Pessoa> paginarPorChave(final LinkedHashMap<String, Boolean> mapOrdenacao, final String cursor, final int maxResults) {
+        return this.executeCriteriaKeyset(this.createCriteria(), mapOrdenacao, cursor, maxResults);
+    }
+
+}
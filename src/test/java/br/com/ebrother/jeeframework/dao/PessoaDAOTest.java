@@ -0,0 +1,253 @@
+package br.com.ebrother.jeeframework.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Criteria;
+import org.hibernate.criterion.Restrictions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.ebrother.jeeframework.dao.Pessoa.Situacao;
+import br.com.ebrother.jeeframework.dao.util.KeysetPage;
+import br.com.ebrother.jeeframework.dao.util.ModoContagem;
+import br.com.ebrother.jeeframework.dao.util.Pagina;
+import br.com.ebrother.jeeframework.exception.GenericException;
+import br.com.ebrother.jeeframework.messages.MessageByLocaleService;
+import br.com.ebrother.jeeframework.metrics.QueryCount;
+import br.com.ebrother.jeeframework.metrics.QueryCountStatementInspector;
+import br.com.ebrother.jeeframework.metrics.QueryCounter;
+
+/**
+ * Testes das consultas herdadas de {@link AbstractDAO}, sobre um banco H2 em memória. As pessoas têm idades de 0 a 4 e situações
+ * alternadas, de modo que as ordenações por essas propriedades têm valores repetidos.
+ *
+ * @author Rafael Braga
+ */
+public class PessoaDAOTest {
+
+    /** Número de pessoas cadastradas. */
+    private static final int PESSOAS = 25;
+
+    /** Ordenação pelo identificador. */
+    private static final Map<String, Boolean> POR_ID = Collections.singletonMap("id", Boolean.TRUE);
+
+    /** Filtro que não restringe a consulta. */
+    private static final Consumer<Criteria> TODAS = criteria -> {
+        // SEM RESTRIÇÕES
+    };
+
+    /** Fábrica de {@link EntityManager}. */
+    private EntityManagerFactory entityManagerFactory;
+
+    /** O {@link EntityManager} do teste. */
+    private EntityManager entityManager;
+
+    /** O DAO testado. */
+    private PessoaDAO dao;
+
+    /**
+     * Cria o banco com as pessoas de identificador 1 a {@link #PESSOAS}.
+     */
+    @Before
+    public void iniciar() {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:dao-test;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        final Properties properties = new Properties();
+        properties.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        properties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.setProperty("hibernate.session_factory.statement_inspector", QueryCountStatementInspector.class.getName());
+        final LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan();
+        factoryBean.setPersistenceUnitPostProcessors(unidade -> unidade.addManagedClassName(Pessoa.class.getName()));
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(properties);
+        factoryBean.afterPropertiesSet();
+        this.entityManagerFactory = factoryBean.getObject();
+        this.entityManager = this.entityManagerFactory.createEntityManager();
+        this.entityManager.getTransaction().begin();
+        for (long id = 1; id <= PESSOAS; id++) {
+            this.entityManager.persist(new Pessoa(id, "Pessoa " + id, (int) (id % 5), id % 2 == 0 ? Situacao.ATIVA : Situacao.INATIVA));
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.dao = new PessoaDAO();
+        ReflectionTestUtils.setField(this.dao, "entityManager", this.entityManager);
+        ReflectionTestUtils.setField(this.dao, "mensagens", (MessageByLocaleService) id -> id);
+    }
+
+    /**
+     * Descarta o banco e a contagem de consultas.
+     */
+    @After
+    public void finalizar() {
+        QueryCounter.finalizar();
+        this.entityManager.getTransaction().rollback();
+        this.entityManager.close();
+        this.entityManagerFactory.close();
+    }
+
+    /**
+     * Uma página incompleta após a primeira já informa o total, sem a consulta de contagem.
+     */
+    @Test
+    public void deveDeduzirTotalDaUltimaPagina() {
+        final QueryCount consultas = QueryCounter.iniciar("ultima pagina", 0);
+        final Pagina<Pessoa> pagina = this.dao.paginar(TODAS, 20, 10, POR_ID, ModoContagem.EXATA);
+
+        assertEquals(5, pagina.getRegistros().size());
+        assertEquals(Long.valueOf(PESSOAS), pagina.getTotal());
+        assertFalse(pagina.isPossuiProximo());
+        assertEquals(1, consultas.getConsultas());
+    }
+
+    /**
+     * Uma primeira página vazia informa o total zero, sem a consulta de contagem.
+     */
+    @Test
+    public void deveDeduzirTotalDaPrimeiraPaginaVazia() {
+        final QueryCount consultas = QueryCounter.iniciar("primeira pagina vazia", 0);
+        final Pagina<Pessoa> pagina = this.dao.paginar(criteria -> criteria.add(Restrictions.gt("id", 100L)), 0, 10, POR_ID,
+                ModoContagem.EXATA);
+
+        assertTrue(pagina.getRegistros().isEmpty());
+        assertEquals(Long.valueOf(0), pagina.getTotal());
+        assertEquals(1, consultas.getConsultas());
+    }
+
+    /**
+     * Uma página completa não permite deduzir o total, que é obtido pela consulta de contagem.
+     */
+    @Test
+    public void deveContarQuandoPaginaCompleta() {
+        final QueryCount consultas = QueryCounter.iniciar("pagina completa", 0);
+        final Pagina<Pessoa> pagina = this.dao.paginar(TODAS, 10, 10, POR_ID, ModoContagem.EXATA);
+
+        assertEquals(10, pagina.getRegistros().size());
+        assertEquals(Long.valueOf(11), pagina.getRegistros().get(0).getId());
+        assertEquals(Long.valueOf(PESSOAS), pagina.getTotal());
+        assertTrue(pagina.isPossuiProximo());
+        assertEquals(2, consultas.getConsultas());
+    }
+
+    /**
+     * No modo {@link ModoContagem#POSSUI_PROXIMO} um registro a mais indica a próxima página, em uma única consulta e sem total.
+     */
+    @Test
+    public void deveBuscarUmRegistroAMaisParaIndicarProximaPagina() {
+        final QueryCount consultas = QueryCounter.iniciar("possui proximo", 0);
+        final Pagina<Pessoa> intermediaria = this.dao.paginar(TODAS, 10, 10, POR_ID, ModoContagem.POSSUI_PROXIMO);
+
+        assertEquals(10, intermediaria.getRegistros().size());
+        assertEquals(Long.valueOf(20), intermediaria.getRegistros().get(9).getId());
+        assertNull(intermediaria.getTotal());
+        assertTrue(intermediaria.isPossuiProximo());
+
+        final Pagina<Pessoa> ultima = this.dao.paginar(TODAS, 15, 10, POR_ID, ModoContagem.POSSUI_PROXIMO);
+
+        assertEquals(10, ultima.getRegistros().size());
+        assertNull(ultima.getTotal());
+        assertFalse(ultima.isPossuiProximo());
+        assertEquals(2, consultas.getConsultas());
+    }
+
+    /**
+     * A ordenação é opcional na consulta paginada.
+     */
+    @Test
+    public void devePaginarSemOrdenacao() {
+        final Pagina<Pessoa> pagina = this.dao.paginar(TODAS, 0, 30, null, ModoContagem.EXATA);
+
+        assertEquals(PESSOAS, pagina.getRegistros().size());
+        assertEquals(Long.valueOf(PESSOAS), pagina.getTotal());
+    }
+
+    /**
+     * A paginação por chave com direções mistas e valores repetidos deve percorrer todos os registros na ordem da consulta, sem repetir nem
+     * pular registros entre as páginas.
+     */
+    @Test
+    public void devePercorrerPaginasPorChaveComDirecoesMistasEValoresRepetidos() {
+        final LinkedHashMap<String, Boolean> ordenacao = new LinkedHashMap<>();
+        ordenacao.put("idade", Boolean.FALSE);
+        ordenacao.put("situacao", Boolean.TRUE);
+        final List<Pessoa> todas = this.entityManager.createQuery("from Pessoa", Pessoa.class).getResultList();
+        final List<Long> esperados = todas.stream()
+                .sorted(Comparator.comparing(Pessoa::getIdade).reversed().thenComparing(Pessoa::getSituacao).thenComparing(Pessoa::getId))
+                .map(Pessoa::getId).collect(Collectors.toList());
+
+        assertEquals(esperados, this.percorrerPorChave(ordenacao, 4));
+    }
+
+    /**
+     * O identificador informado na ordenação mantém a sua direção, em vez de ser acrescentado em ordem ascendente.
+     */
+    @Test
+    public void deveManterDirecaoDoIdentificadorInformado() {
+        final LinkedHashMap<String, Boolean> ordenacao = new LinkedHashMap<>();
+        ordenacao.put("situacao", Boolean.FALSE);
+        ordenacao.put("id", Boolean.FALSE);
+        final List<Long> esperados = new ArrayList<>();
+        LongStream.rangeClosed(1, PESSOAS).map(i -> PESSOAS + 1 - i).filter(id -> id % 2 == 1).forEach(esperados::add);
+        LongStream.rangeClosed(1, PESSOAS).map(i -> PESSOAS + 1 - i).filter(id -> id % 2 == 0).forEach(esperados::add);
+
+        assertEquals(esperados, this.percorrerPorChave(ordenacao, 7));
+    }
+
+    /**
+     * Um cursor adulterado deve resultar em {@link GenericException}, e não em erro de conversão.
+     */
+    @Test(expected = GenericException.class)
+    public void deveRejeitarCursorInvalido() {
+        final LinkedHashMap<String, Boolean> ordenacao = new LinkedHashMap<>();
+        ordenacao.put("idade", Boolean.TRUE);
+        final KeysetPage<Pessoa> primeira = this.dao.paginarPorChave(ordenacao, null, 5);
+        assertNotNull(primeira.getProximoCursor());
+        ordenacao.put("nome", Boolean.TRUE);
+        this.dao.paginarPorChave(ordenacao, primeira.getProximoCursor(), 5);
+    }
+
+    /**
+     * Percorre todas as páginas da consulta por chave.
+     *
+     * @param ordenacao as propriedades de ordenação.
+     * @param tamanho o número de registros por página.
+     * @return os identificadores, na ordem das páginas.
+     */
+    private List<Long> percorrerPorChave(final LinkedHashMap<String, Boolean> ordenacao, final int tamanho) {
+        final List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            final KeysetPage<Pessoa> pagina = this.dao.paginarPorChave(ordenacao, cursor, tamanho);
+            pagina.getRegistros().forEach(pessoa -> ids.add(pessoa.getId()));
+            assertEquals(pagina.isPossuiProximo(), pagina.getRegistros().size() == tamanho && ids.size() < PESSOAS);
+            cursor = pagina.getProximoCursor();
+            this.entityManager.clear();
+        } while (cursor != null);
+        return ids;
+    }
+
+}
@@ -0,0 +1,138 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import br.com.ebrother.jeeframework.dto.AbstractDTO;
+
+/**
+ * Testes do {@link DTOResultTransformer}.
+ *
+ * @author Rafael Braga
+ */
+public class DTOResultTransformerTest {
+
+    /**
+     * O transformador por <i>setters</i> deve ser reaproveitado e continuar funcionando após a serialização.
+     *
+     * @throws Exception em caso de erro na serialização.
+     */
+    @Test
+    public void deveTransformarPorSettersAposSerializacao() throws Exception {
+        final DTOResultTransformer<PessoaDTO> transformador = DTOResultTransformer.of(PessoaDTO.class, "nome", "idade");
+        assertSame(transformador, DTOResultTransformer.of(PessoaDTO.class, "nome", "idade"));
+
+        final DTOResultTransformer<?> desserializado = serializar(transformador);
+
+        assertSame(transformador, desserializado);
+        final PessoaDTO dto = (PessoaDTO) desserializado.transformTuple(new Object[] { "Ana", 30 }, null);
+        assertEquals("Ana", dto.getNome());
+        assertEquals(Integer.valueOf(30), dto.getIdade());
+    }
+
+    /**
+     * O transformador por construtor deve continuar funcionando após a serialização.
+     *
+     * @throws Exception em caso de erro na serialização.
+     */
+    @Test
+    public void deveTransformarPorConstrutorAposSerializacao() throws Exception {
+        final DTOResultTransformer<PessoaDTO> transformador = DTOResultTransformer.ofConstructor(PessoaDTO.class, String.class, Integer.class);
+
+        final DTOResultTransformer<?> desserializado = serializar(transformador);
+
+        assertSame(transformador, desserializado);
+        final PessoaDTO dto = (PessoaDTO) desserializado.transformTuple(new Object[] { "Bia", 25 }, null);
+        assertEquals("Bia", dto.getNome());
+        assertEquals(Integer.valueOf(25), dto.getIdade());
+    }
+
+    /**
+     * Serializa e desserializa o transformador.
+     *
+     * @param transformador o transformador.
+     * @return o transformador desserializado.
+     * @throws IOException em caso de erro de E/S.
+     * @throws ClassNotFoundException se a classe não for encontrada.
+     */
+    private static DTOResultTransformer<?> serializar(final DTOResultTransformer<?> transformador) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream saida = new ObjectOutputStream(bytes)) {
+            saida.writeObject(transformador);
+        }
+        try (final ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (DTOResultTransformer<?>) entrada.readObject();
+        }
+    }
+
+    /**
+     * DTO de teste.
+     */
+    public static class PessoaDTO extends AbstractDTO {
+
+        /** Constante de serialização. */
+        private static final long serialVersionUID = 1L;
+
+        /** Nome. */
+        private String nome;
+
+        /** Idade. */
+        private Integer idade;
+
+        /**
+         * Construtor padrão.
+         */
+        public PessoaDTO() {
+            super();
+        }
+
+        /**
+         * Construtor com todas as colunas.
+         *
+         * @param nome o nome.
+         * @param idade a idade.
+         */
+        public PessoaDTO(final String nome, final Integer idade) {
+            this.nome = nome;
+            this.idade = idade;
+        }
+
+        /**
+         * @return the nome
+         */
+        public String getNome() {
+            return this.nome;
+        }
+
+        /**
+         * @param nome the nome to set
+         */
+        public void setNome(final String nome) {
+            this.nome = nome;
+        }
+
+        /**
+         * @return the idade
+         */
+        public Integer getIdade() {
+            return this.idade;
+        }
+
+        /**
+         * @param idade the idade to set
+         */
+        public void setIdade(final Integer idade) {
+            this.idade = idade;
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import br.com.ebrother.jeeframework.dao.Pessoa.Situacao;
+
+/**
+ * Testes do {@link KeysetCursor}.
+ *
+ * @author Rafael Braga
+ */
+public class KeysetCursorTest {
+
+    /**
+     * Todos os tipos suportados devem ser decodificados com o mesmo valor e a mesma classe, inclusive textos com o separador.
+     */
+    @Test
+    public void deveDecodificarOsValoresCodificados() {
+        final Timestamp timestamp = new Timestamp(1500000000123L);
+        timestamp.setNanos(123456789);
+        final List<Object> valores = Arrays.asList("Ana:Maria:3:", 42L, 7, (short) 3, new BigDecimal("12.50"), new BigInteger("123456789012345678901"),
+                1.5d, 2.5f, Boolean.TRUE, 'x', timestamp, new Date(1500000000000L), UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e"),
+                Situacao.INATIVA, "ção");
+        final List<Class<?>> tipos = Arrays.asList(String.class, Long.class, Integer.class, Short.class, BigDecimal.class, BigInteger.class,
+                Double.class, Float.class, Boolean.class, Character.class, Timestamp.class, Date.class, UUID.class, Situacao.class, String.class);
+
+        final List<Object> decodificados = KeysetCursor.decode(KeysetCursor.encode(valores), tipos);
+
+        assertEquals(valores, decodificados);
+        for (int i = 0; i < valores.size(); i++) {
+            assertEquals(valores.get(i).getClass(), decodificados.get(i).getClass());
+        }
+        assertEquals(123456789, ((Timestamp) decodificados.get(10)).getNanos());
+    }
+
+    /**
+     * O cursor deve usar somente os caracteres do Base64 seguro para URL, sem preenchimento.
+     */
+    @Test
+    public void deveGerarCursorSeguroParaUrl() {
+        final String cursor = KeysetCursor.encode(Arrays.asList("???>>>", 1L));
+        assertEquals(cursor, cursor.replaceAll("[^A-Za-z0-9_-]", ""));
+    }
+
+    /**
+     * Um valor cujo tipo não corresponde ao da propriedade deve ser rejeitado.
+     */
+    @Test
+    public void deveRejeitarTipoDiferenteDaPropriedade() {
+        final String cursor = KeysetCursor.encode(Collections.singletonList(42L));
+        this.assertInvalido(cursor, String.class);
+        this.assertInvalido(cursor, Integer.class);
+    }
+
+    /**
+     * Um enum só pode ser decodificado para a classe da propriedade, e com uma constante existente.
+     */
+    @Test
+    public void deveRejeitarEnumIncompativel() {
+        final String cursor = KeysetCursor.encode(Collections.singletonList(Situacao.ATIVA));
+        this.assertInvalido(cursor, TimeUnit.class);
+        this.assertInvalido(cursor, String.class);
+        this.assertInvalido(codificar("e:8:EXCLUIDA"), Situacao.class);
+    }
+
+    /**
+     * Cursores malformados devem resultar em {@link IllegalArgumentException}.
+     */
+    @Test
+    public void deveRejeitarCursorMalformado() {
+        this.assertInvalido("@@@", String.class);
+        this.assertInvalido("YQ=x", String.class);
+        this.assertInvalido(codificar("s3abc"), String.class);
+        this.assertInvalido(codificar("s:x:abc"), String.class);
+        this.assertInvalido(codificar("s:-1:abc"), String.class);
+        this.assertInvalido(codificar("s:9:abc"), String.class);
+        this.assertInvalido(codificar("z:3:abc"), String.class);
+        this.assertInvalido(codificar("l:3:abc"), Long.class);
+        this.assertInvalido(codificar("s:3:abcs:3:def"), String.class);
+        this.assertInvalido(codificar(""), String.class);
+    }
+
+    /**
+     * Propriedades de ordenação nulas e tipos não suportados não podem ser codificados.
+     */
+    @Test
+    public void deveRejeitarValoresNaoCodificaveis() {
+        try {
+            KeysetCursor.encode(Arrays.asList("a", null));
+            fail("Valor nulo codificado.");
+        } catch (final IllegalArgumentException e) {
+            // ESPERADO
+        }
+        try {
+            KeysetCursor.encode(Collections.singletonList(new Object()));
+            fail("Tipo não suportado codificado.");
+        } catch (final IllegalArgumentException e) {
+            // ESPERADO
+        }
+    }
+
+    /**
+     * Verifica que o cursor é rejeitado.
+     *
+     * @param cursor o cursor.
+     * @param tipo o tipo da única propriedade de ordenação.
+     */
+    private void assertInvalido(final String cursor, final Class<?> tipo) {
+        try {
+            KeysetCursor.decode(cursor, Collections.<Class<?>> singletonList(tipo));
+            fail("Cursor aceito: " + cursor);
+        } catch (final IllegalArgumentException e) {
+            assertEquals("Cursor inválido.", e.getMessage());
+        }
+    }
+
+    /**
+     * Codifica o conteúdo em Base64 seguro para URL, sem validá-lo.
+     *
+     * @param conteudo o conteúdo do cursor.
+     * @return o cursor.
+     */
+    private static String codificar(final String conteudo) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,126 @@
+package br.com.ebrother.jeeframework.dao.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * Testes do {@link ScrollableResultStream}.
+ *
+ * @author Rafael Braga
+ */
+public class ScrollableResultStreamTest {
+
+    /** O cursor do Hibernate. */
+    private ScrollableResults results;
+
+    /** A sessão do Hibernate. */
+    private Session session;
+
+    /**
+     * Cria um cursor com os registros "a" a "e".
+     */
+    @Before
+    public void iniciar() {
+        this.results = mock(ScrollableResults.class);
+        this.session = mock(Session.class);
+        when(this.session.getFlushMode()).thenReturn(FlushMode.AUTO);
+        when(this.results.next()).thenReturn(true, true, true, true, true, false);
+        when(this.results.get()).thenReturn(new Object[] { "a" }, new Object[] { "b" }, new Object[] { "c" }, new Object[] { "d" },
+                new Object[] { "e" });
+    }
+
+    /**
+     * A sessão deve ser gravada e limpa a cada intervalo, antes de avançar para o próximo registro, e o cursor fechado ao final.
+     */
+    @Test
+    public void deveGravarELimparSessaoACadaIntervalo() {
+        final ScrollableResultStream<String> stream = new ScrollableResultStream<>(this.results, this.session, 2);
+        final InOrder ordem = inOrder(this.results, this.session);
+
+        assertEquals("a", stream.next());
+        assertEquals("b", stream.next());
+        verify(this.session, never()).clear();
+        assertEquals("c", stream.next());
+        ordem.verify(this.session).flush();
+        ordem.verify(this.session).clear();
+        ordem.verify(this.results).next();
+        assertEquals("d", stream.next());
+        assertEquals("e", stream.next());
+        assertFalse(stream.hasNext());
+
+        verify(this.session, times(2)).flush();
+        verify(this.session, times(2)).clear();
+        verify(this.results).close();
+        assertEquals(5, stream.getLidos());
+    }
+
+    /**
+     * Com {@link FlushMode#MANUAL} a sessão deve ser somente limpa; com intervalo zero, nem limpa.
+     */
+    @Test
+    public void deveRespeitarFlushModeEIntervaloDesabilitado() {
+        when(this.session.getFlushMode()).thenReturn(FlushMode.MANUAL);
+        new ScrollableResultStream<String>(this.results, this.session, 2).forEachRemaining(registro -> {
+            // SOMENTE PERCORRE
+        });
+        verify(this.session, never()).flush();
+        verify(this.session, times(2)).clear();
+
+        final ScrollableResults outroCursor = mock(ScrollableResults.class);
+        final Session outra = mock(Session.class);
+        when(outroCursor.next()).thenReturn(true, true, true, false);
+        when(outroCursor.get()).thenReturn(new Object[] { "x" });
+        new ScrollableResultStream<String>(outroCursor, outra, 0).forEachRemaining(registro -> {
+            // SOMENTE PERCORRE
+        });
+        verify(outra, never()).clear();
+    }
+
+    /**
+     * Fechar o {@link Stream} antes do final deve fechar o cursor uma única vez.
+     */
+    @Test
+    public void deveFecharCursorAoFecharStream() {
+        final ScrollableResultStream<String> cursor = new ScrollableResultStream<>(this.results, this.session, 0);
+        try (final Stream<String> stream = cursor.stream()) {
+            assertEquals(Arrays.asList("a", "b"), stream.limit(2).collect(Collectors.toList()));
+            verify(this.results, never()).close();
+        }
+        verify(this.results).close();
+        cursor.close();
+        verify(this.results, times(1)).close();
+        assertFalse(cursor.hasNext());
+    }
+
+    /**
+     * Registros nulos, como os de uma projeção de propriedade opcional, devem ser entregues pelo {@link Stream}.
+     */
+    @Test
+    public void deveAceitarRegistrosNulos() {
+        when(this.results.next()).thenReturn(true, true, false);
+        when(this.results.get()).thenReturn(new Object[] { null }, new Object[] { "b" });
+        try (final Stream<String> stream = new ScrollableResultStream<String>(this.results, this.session, 0).stream()) {
+            final List<String> registros = stream.collect(Collectors.toList());
+            assertEquals(Arrays.asList(null, "b"), registros);
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package br.com.ebrother.jeeframework.datasource;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.tomcat.jdbc.pool.PoolProperties;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Testes de {@link ReadWriteRoutingDataSource} com bancos H2 em memória.
+ *
+ * @author Rafael Braga
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    /** URL de um banco inacessível, para simular a falha de uma réplica. */
+    private static final String URL_INDISPONIVEL = "jdbc:h2:tcp://localhost:1/indisponivel";
+
+    /** O contexto Spring do teste. */
+    private AnnotationConfigApplicationContext context;
+
+    /** O datasource testado. */
+    private ReadWriteRoutingDataSource dataSource;
+
+    /**
+     * Fecha o contexto e os pools.
+     */
+    @After
+    public void finalizar() {
+        if (this.context != null) {
+            this.context.close();
+        }
+        if (this.dataSource != null) {
+            this.dataSource.close();
+        }
+    }
+
+    /**
+     * As transações somente-leitura devem ir para a réplica e as demais para o banco principal.
+     */
+    @Test
+    public void deveSepararLeituraDeEscrita() {
+        final Consultas consultas = this.iniciar(ReplicaSelectionStrategy.ROUND_ROBIN, "replica");
+        assertEquals("REPLICA", consultas.ler());
+        assertEquals("PRIMARIO", consultas.gravar());
+        assertEquals("PRIMARIO", consultas.semTransacao());
+    }
+
+    /**
+     * A estratégia {@link ReplicaSelectionStrategy#ROUND_ROBIN} deve alternar entre as réplicas.
+     */
+    @Test
+    public void deveAlternarReplicas() {
+        final Consultas consultas = this.iniciar(ReplicaSelectionStrategy.ROUND_ROBIN, "replica0", "replica1");
+        assertEquals(Arrays.asList("REPLICA0", "REPLICA1", "REPLICA0", "REPLICA1"),
+                Arrays.asList(consultas.ler(), consultas.ler(), consultas.ler(), consultas.ler()));
+    }
+
+    /**
+     * A estratégia {@link ReplicaSelectionStrategy#LEAST_BUSY} deve escolher a réplica com menos conexões em uso.
+     *
+     * @throws SQLException em caso de erro de acesso ao banco.
+     */
+    @Test
+    public void deveEscolherReplicaMenosOcupada() throws SQLException {
+        final Consultas consultas = this.iniciar(ReplicaSelectionStrategy.LEAST_BUSY, "ocupada", "livre");
+        try (final Connection emUso = this.dataSource.getReplicas().get(0).getConnection()) {
+            assertEquals("LIVRE", consultas.ler());
+        }
+        assertEquals("OCUPADA", consultas.ler());
+    }
+
+    /**
+     * Uma réplica com falha deve ficar em quarentena, sem novas tentativas, e as leituras devem ir para o banco principal.
+     */
+    @Test
+    public void deveUsarPrincipalEnquantoReplicaEstiverEmQuarentena() {
+        final Consultas consultas = this.iniciar(ReplicaSelectionStrategy.ROUND_ROBIN, URL_INDISPONIVEL);
+        assertEquals("PRIMARIO", consultas.ler());
+        assertEquals("PRIMARIO", consultas.ler());
+        assertEquals(1, this.dataSource.getReplicas().get(0).getMetricas().getTempoAquisicao().getQuantidade());
+    }
+
+    /**
+     * Cria o datasource com o banco principal e as réplicas informadas e o contexto Spring com as consultas transacionais.
+     *
+     * @param estrategia a estratégia de escolha da réplica.
+     * @param replicas os nomes dos bancos H2 das réplicas, ou URLs completas.
+     * @return as {@link Consultas}.
+     */
+    private Consultas iniciar(final ReplicaSelectionStrategy estrategia, final String... replicas) {
+        final InstrumentedDataSource[] replicasLeitura = new InstrumentedDataSource[replicas.length];
+        for (int i = 0; i < replicas.length; i++) {
+            replicasLeitura[i] = criarPool(replicas[i]);
+        }
+        final List<InstrumentedDataSource> lista = Arrays.asList(replicasLeitura);
+        this.dataSource = new ReadWriteRoutingDataSource(criarPool("primario"), lista, estrategia);
+        this.context = new AnnotationConfigApplicationContext();
+        this.context.getBeanFactory().registerSingleton("dataSource", this.dataSource);
+        this.context.register(Configuracao.class);
+        this.context.refresh();
+        return this.context.getBean(Consultas.class);
+    }
+
+    /**
+     * Cria o pool de um banco H2 em memória.
+     *
+     * @param banco o nome do banco, ou a URL completa.
+     * @return o {@link InstrumentedDataSource}.
+     */
+    private static InstrumentedDataSource criarPool(final String banco) {
+        final PoolProperties properties = new PoolProperties();
+        properties.setName(banco);
+        properties.setDriverClassName("org.h2.Driver");
+        properties.setUrl(banco.startsWith("jdbc:") ? banco : "jdbc:h2:mem:" + banco + ";DB_CLOSE_DELAY=-1");
+        properties.setUsername("sa");
+        properties.setPassword("");
+        properties.setInitialSize(0);
+        properties.setMinIdle(0);
+        properties.setMaxActive(4);
+        properties.setMaxWait(1000);
+        return new InstrumentedDataSource(new org.apache.tomcat.jdbc.pool.DataSource(properties));
+    }
+
+    /**
+     * Configuração Spring do teste.
+     */
+    @Configuration
+    @EnableTransactionManagement
+    public static class Configuracao {
+
+        /**
+         * @param dataSource o datasource roteado.
+         * @return o {@link PlatformTransactionManager}.
+         */
+        @Bean
+        public PlatformTransactionManager transactionManager(final DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        /**
+         * @param dataSource o datasource roteado.
+         * @return as {@link Consultas}.
+         */
+        @Bean
+        public Consultas consultas(final DataSource dataSource) {
+            return new Consultas(new JdbcTemplate(dataSource));
+        }
+
+    }
+
+    /**
+     * Consultas que retornam o nome do banco em que foram executadas.
+     */
+    public static class Consultas {
+
+        /** Consulta do nome do banco. */
+        private static final String SQL_BANCO = "SELECT DATABASE()";
+
+        /** O {@link JdbcTemplate}. */
+        private final JdbcTemplate jdbcTemplate;
+
+        /**
+         * Construtor da classe.
+         *
+         * @param jdbcTemplate o {@link JdbcTemplate}.
+         */
+        public Consultas(final JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        /**
+         * @return o banco de uma transação somente-leitura.
+         */
+        @Transactional(readOnly = true)
+        public String ler() {
+            return this.jdbcTemplate.queryForObject(SQL_BANCO, String.class);
+        }
+
+        /**
+         * @return o banco de uma transação de escrita.
+         */
+        @Transactional
+        public String gravar() {
+            return this.jdbcTemplate.queryForObject(SQL_BANCO, String.class);
+        }
+
+        /**
+         * @return o banco de uma consulta sem transação.
+         */
+        public String semTransacao() {
+            return this.jdbcTemplate.queryForObject(SQL_BANCO, String.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package br.com.ebrother.jeeframework.messages.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Testes do cache de mensagens de {@link MessageByLocaleServiceImpl}.
+ *
+ * @author Rafael Braga
+ */
+public class MessageByLocaleServiceImplTest {
+
+    /** Linguagem padrão dos testes. */
+    private static final Locale PT_BR = new Locale("pt", "BR");
+
+    /** Número máximo de linguagens mantidas no cache. */
+    private static final int MAXIMO_LINGUAGENS = 32;
+
+    /** A fonte de mensagens. */
+    private MessageSource messageSource;
+
+    /** O serviço testado. */
+    private MessageByLocaleServiceImpl service;
+
+    /**
+     * Cria o serviço com uma fonte de mensagens que devolve o identificador seguido da linguagem.
+     */
+    @Before
+    public void iniciar() {
+        this.messageSource = mock(MessageSource.class);
+        when(this.messageSource.getMessage(any(String.class), isNull(Object[].class), any(Locale.class)))
+                .thenAnswer(invocacao -> invocacao.getArguments()[0] + "_" + invocacao.getArguments()[2]);
+        when(this.messageSource.getMessage(eq("msg.total"), isNull(Object[].class), any(Locale.class))).thenReturn("{0} de {1}");
+        this.service = new MessageByLocaleServiceImpl();
+        ReflectionTestUtils.setField(this.service, "messageSource", this.messageSource);
+        LocaleContextHolder.setLocale(PT_BR);
+    }
+
+    /**
+     * Restaura a linguagem da thread.
+     */
+    @After
+    public void finalizar() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    /**
+     * A mensagem deve ser resolvida uma única vez por linguagem e identificador.
+     */
+    @Test
+    public void deveResolverCadaMensagemUmaVezPorLinguagem() {
+        assertEquals("msg.a_pt_BR", this.service.getMessage("msg.a"));
+        assertEquals("msg.a_pt_BR", this.service.getMessage("msg.a"));
+        verify(this.messageSource, times(1)).getMessage("msg.a", null, PT_BR);
+
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        assertEquals("msg.a_en", this.service.getMessage("msg.a"));
+        assertEquals("msg.a_en", this.service.getMessage("msg.a"));
+        verify(this.messageSource, times(1)).getMessage("msg.a", null, Locale.ENGLISH);
+    }
+
+    /**
+     * Atingido o limite de linguagens, as demais devem ser resolvidas diretamente, sem entrar no cache.
+     */
+    @Test
+    public void deveLimitarLinguagensEmCache() {
+        for (int i = 0; i < MAXIMO_LINGUAGENS; i++) {
+            LocaleContextHolder.setLocale(new Locale("l" + i));
+            this.service.getMessage("msg.a");
+        }
+        final Locale excedente = new Locale("xx");
+        LocaleContextHolder.setLocale(excedente);
+        assertEquals("msg.a_xx", this.service.getMessage("msg.a"));
+        assertEquals("msg.a_xx", this.service.getMessage("msg.a"));
+        verify(this.messageSource, times(2)).getMessage("msg.a", null, excedente);
+
+        LocaleContextHolder.setLocale(new Locale("l0"));
+        this.service.getMessage("msg.a");
+        verify(this.messageSource, times(1)).getMessage("msg.a", null, new Locale("l0"));
+    }
+
+    /**
+     * O cache deve ser descartado ao fim do intervalo configurado e pela invalidação, e não deve ser usado com intervalo zero.
+     */
+    @Test
+    public void deveDescartarCacheAoFimDoIntervalo() {
+        this.service.setCacheSeconds(60);
+        this.service.getMessage("msg.a");
+        this.service.getMessage("msg.a");
+        verify(this.messageSource, times(1)).getMessage("msg.a", null, PT_BR);
+
+        ReflectionTestUtils.setField(this.service, "proximaAtualizacao", System.nanoTime() - 1);
+        this.service.getMessage("msg.a");
+        this.service.getMessage("msg.a");
+        verify(this.messageSource, times(2)).getMessage("msg.a", null, PT_BR);
+
+        this.service.invalidar();
+        this.service.getMessage("msg.a");
+        verify(this.messageSource, times(3)).getMessage("msg.a", null, PT_BR);
+
+        this.service.setCacheSeconds(0);
+        this.service.getMessage("msg.a");
+        this.service.getMessage("msg.a");
+        verify(this.messageSource, times(5)).getMessage("msg.a", null, PT_BR);
+    }
+
+    /**
+     * A formatação com parâmetros deve compartilhar o modelo em cache de forma segura entre threads.
+     *
+     * @throws Exception em caso de erro nas threads.
+     */
+    @Test
+    public void deveFormatarMensagemEmCacheEntreThreads() throws Exception {
+        assertEquals("a de b", this.service.getMessage("msg.total", "a", "b"));
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                tarefas.add(executor.submit(() -> {
+                    LocaleContextHolder.setLocale(PT_BR);
+                    for (int i = 0; i < 2000; i++) {
+                        assertEquals(i + " de " + thread, this.service.getMessage("msg.total", String.valueOf(i), thread));
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(this.messageSource, times(1)).getMessage("msg.total", null, PT_BR);
+    }
+
+}
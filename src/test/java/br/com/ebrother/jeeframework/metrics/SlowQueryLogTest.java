@@ -0,0 +1,82 @@
+package br.com.ebrother.jeeframework.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * Testes do {@link SlowQueryLog}.
+ *
+ * @author Rafael Braga
+ */
+public class SlowQueryLogTest {
+
+    /** Logger do {@link SlowQueryLog}. */
+    private Logger logger;
+
+    /** Eventos registrados no log. */
+    private ListAppender<ILoggingEvent> eventos;
+
+    /**
+     * Captura os eventos do log.
+     */
+    @Before
+    public void iniciar() {
+        this.logger = (Logger) LoggerFactory.getLogger(SlowQueryLog.class);
+        this.eventos = new ListAppender<>();
+        this.eventos.start();
+        this.logger.addAppender(this.eventos);
+    }
+
+    /**
+     * Remove a captura dos eventos e os comandos pendentes.
+     */
+    @After
+    public void finalizar() {
+        this.logger.detachAppender(this.eventos);
+        SlowQueryLog.finalizar();
+    }
+
+    /**
+     * Cada comando deve ser comparado ao limite do registro que o preparou, de modo que duas configurações na mesma JVM não interferem
+     * entre si.
+     */
+    @Test
+    public void deveUsarLimiteDoRegistroQuePreparouOComando() {
+        final SlowQueryLog rigoroso = new SlowQueryLog(1);
+        final SlowQueryLog tolerante = new SlowQueryLog(10000);
+        rigoroso.registrarSql("select * from pessoa where nome = 'Ana'");
+        tolerante.registrarSql("select * from cidade where id = 10");
+
+        SlowQueryLog.registrarExecucao(TimeUnit.MILLISECONDS.toNanos(5));
+        assertTrue(this.eventos.list.isEmpty());
+
+        SlowQueryLog.registrarExecucao(TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(1, this.eventos.list.size());
+        assertEquals("Comando SQL lento (5 ms): select * from pessoa where nome = ?", this.eventos.list.get(0).getFormattedMessage());
+    }
+
+    /**
+     * Um registro com limite zero não deve guardar comandos.
+     */
+    @Test
+    public void naoDeveGuardarComandosQuandoDesabilitado() {
+        final SlowQueryLog desabilitado = new SlowQueryLog(0);
+        desabilitado.registrarSql("select 1");
+
+        SlowQueryLog.registrarExecucao(TimeUnit.SECONDS.toNanos(5));
+        assertEquals(0, desabilitado.getLimiteMillis());
+        assertTrue(this.eventos.list.isEmpty());
+    }
+
+}
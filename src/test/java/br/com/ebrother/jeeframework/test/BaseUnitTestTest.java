@@ -0,0 +1,54 @@
+package br.com.ebrother.jeeframework.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+/**
+ * Testes da resolução da classe em teste de {@link AbstractBaseUnitTest}.
+ *
+ * @author Rafael Braga
+ */
+public class BaseUnitTestTest {
+
+    /**
+     * A classe em teste deve ser resolvida do parâmetro de tipo da subclasse.
+     */
+    @Test
+    public void deveCriarClasseEmTesteDoParametroDeTipo() {
+        assertEquals(0, new TesteDeLista().classeEmTeste.size());
+    }
+
+    /**
+     * Uma subclasse sem parâmetro de tipo deve falhar com uma mensagem clara.
+     */
+    @Test
+    public void deveFalharSemParametroDeTipo() {
+        try {
+            new TesteSemTipo();
+            fail("Subclasse sem parâmetro de tipo aceita.");
+        } catch (final IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(TesteSemTipo.class.getName()));
+        }
+    }
+
+    /**
+     * Subclasse que informa a classe em teste.
+     */
+    static class TesteDeLista extends AbstractBaseUnitTest<ArrayList<String>> {
+        // SEM TESTES
+    }
+
+    /**
+     * Subclasse sem parâmetro de tipo.
+     */
+    @SuppressWarnings("rawtypes")
+    static class TesteSemTipo extends AbstractBaseUnitTest {
+        // SEM TESTES
+    }
+
+}